@@ -2,9 +2,11 @@ package com.vecondev.buildoptima.api;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import com.vecondev.buildoptima.dto.BulkRequestDto;
 import com.vecondev.buildoptima.dto.EntityOverview;
 import com.vecondev.buildoptima.dto.Metadata;
 import com.vecondev.buildoptima.dto.faq.request.FaqQuestionRequestDto;
+import com.vecondev.buildoptima.dto.faq.request.FaqQuestionUpdateItemDto;
 import com.vecondev.buildoptima.dto.faq.response.FaqCategoryResponseDto;
 import com.vecondev.buildoptima.dto.faq.response.FaqQuestionResponseDto;
 import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
@@ -14,6 +16,7 @@ import com.vecondev.buildoptima.filter.model.DictionaryField;
 import com.vecondev.buildoptima.model.Status;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -170,6 +173,113 @@ public interface FaqQuestionApi extends SecuredApi, FetchingApi {
       })
   ResponseEntity<Void> delete(@PathVariable UUID id);
 
+  @Operation(
+      summary = "Create FAQ Questions in bulk",
+      description = """
+                    All the questions are created in one transaction, so either all of them
+                    or none are created. Possible error codes: 40011, 4011, 4012, 4013, 4014,
+                    4031, 4042, 4044, 4095, 5007""",
+      security = @SecurityRequirement(name = "api-security"))
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "FAQ Questions have been created.",
+            content =
+                @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    array =
+                        @ArraySchema(
+                            schema = @Schema(implementation = FaqQuestionResponseDto.class)))),
+        @ApiResponse(
+            responseCode = "400",
+            ref = "#/components/responses/MethodArgumentNotValidResponse"),
+        @ApiResponse(
+            responseCode = "404",
+            description = "There is no category OR user found with such id.",
+            content =
+                @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ApiError.class))),
+        @ApiResponse(
+            responseCode = "409",
+            description = "The batch or the database already contains such a question.",
+            content =
+                @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ApiError.class)))
+      })
+  ResponseEntity<List<FaqQuestionResponseDto>> createAll(
+      BulkRequestDto<FaqQuestionRequestDto> requestDto);
+
+  @Operation(
+      summary = "Update FAQ Questions in bulk",
+      description = """
+                    All the questions are updated in one transaction, so either all of them
+                    or none are updated. Possible error codes: 40011, 4011, 4012, 4013, 4014,
+                    4031, 4042, 4043, 4044, 4095, 5007""",
+      security = @SecurityRequirement(name = "api-security"))
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "FAQ Questions have been updated.",
+            content =
+                @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    array =
+                        @ArraySchema(
+                            schema = @Schema(implementation = FaqQuestionResponseDto.class)))),
+        @ApiResponse(
+            responseCode = "400",
+            ref = "#/components/responses/MethodArgumentNotValidResponse"),
+        @ApiResponse(
+            responseCode = "404",
+            description = "One of the resources of category, question and user not found",
+            content =
+                @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ApiError.class))),
+        @ApiResponse(
+            responseCode = "409",
+            description = "The batch or the database already contains such a question.",
+            content =
+                @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ApiError.class)))
+      })
+  ResponseEntity<List<FaqQuestionResponseDto>> updateAll(
+      BulkRequestDto<FaqQuestionUpdateItemDto> requestDto);
+
+  @Operation(
+      summary = "Archive FAQ Questions in bulk",
+      description =
+          "Possible error codes: 40011, 4011, 4012, 4013, 4014, 4031, 4043, 4044, 5007",
+      security = @SecurityRequirement(name = "api-security"))
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "FAQ Questions have been archived.",
+            content =
+                @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    array =
+                        @ArraySchema(
+                            schema = @Schema(implementation = FaqQuestionResponseDto.class)))),
+        @ApiResponse(
+            responseCode = "400",
+            ref = "#/components/responses/MethodArgumentNotValidResponse"),
+        @ApiResponse(
+            responseCode = "404",
+            description = "One of the questions not found",
+            content =
+                @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ApiError.class)))
+      })
+  ResponseEntity<List<FaqQuestionResponseDto>> archiveAll(BulkRequestDto<UUID> requestDto);
+
   @Operation(
       summary = "Exporting all FAQ questions in '.csv' format",
       description = "Possible error codes: 4011, 4012, 4013, 4014, 4031, 5004, 5007",
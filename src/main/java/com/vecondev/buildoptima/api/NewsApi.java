@@ -2,16 +2,20 @@ package com.vecondev.buildoptima.api;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import com.vecondev.buildoptima.dto.BulkRequestDto;
 import com.vecondev.buildoptima.dto.Metadata;
 import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
 import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
 import com.vecondev.buildoptima.dto.news.request.NewsCreateRequestDto;
+import com.vecondev.buildoptima.dto.news.request.NewsItemRequestDto;
+import com.vecondev.buildoptima.dto.news.request.NewsUpdateItemDto;
 import com.vecondev.buildoptima.dto.news.request.NewsUpdateRequestDto;
 import com.vecondev.buildoptima.dto.news.response.NewsResponseDto;
 import com.vecondev.buildoptima.exception.ApiError;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -19,6 +23,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
@@ -188,4 +193,83 @@ public interface NewsApi extends SecuredApi, FetchingApi {
       })
   ResponseEntity<NewsResponseDto> archive(
       @Parameter(description = "The news item id which should be archived") UUID id);
+
+  @Operation(
+      summary = "Add news items in bulk",
+      description = """
+                    All the items are added in one transaction and the news report is
+                    published once. Images can be uploaded later by updating the items.
+                    Possible error codes: 40011, 4011, 4012, 4013, 4014, 4031, 5007""",
+      security = @SecurityRequirement(name = "api-security"))
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "News items have been added",
+            content =
+                @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    array =
+                        @ArraySchema(schema = @Schema(implementation = NewsResponseDto.class)))),
+        @ApiResponse(
+            responseCode = "400",
+            ref = "#/components/responses/MethodArgumentNotValidResponse")
+      })
+  ResponseEntity<List<NewsResponseDto>> createAll(BulkRequestDto<NewsItemRequestDto> requestDto);
+
+  @Operation(
+      summary = "Update news items in bulk",
+      description = """
+                    All the items are updated in one transaction and the news report is
+                    published once. Possible error codes: 40011, 4011, 4012, 4013, 4014,
+                    4031, 4046, 5007""",
+      security = @SecurityRequirement(name = "api-security"))
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Updated the news items",
+            content =
+                @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    array =
+                        @ArraySchema(schema = @Schema(implementation = NewsResponseDto.class)))),
+        @ApiResponse(
+            responseCode = "400",
+            ref = "#/components/responses/MethodArgumentNotValidResponse"),
+        @ApiResponse(
+            responseCode = "404",
+            description = "One of the news items not found by id",
+            content =
+                @Content(
+                    schema = @Schema(implementation = ApiError.class),
+                    mediaType = APPLICATION_JSON_VALUE))
+      })
+  ResponseEntity<List<NewsResponseDto>> updateAll(BulkRequestDto<NewsUpdateItemDto> requestDto);
+
+  @Operation(
+      summary = "Archive news items in bulk",
+      description = """
+                    Possible error codes: 40011, 4011, 4012, 4013, 4014,
+                    4031, 4046, 5007.""",
+      security = @SecurityRequirement(name = "api-security"))
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully archived news items",
+            content =
+                @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    array =
+                        @ArraySchema(schema = @Schema(implementation = NewsResponseDto.class)))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "One of the news items not found by id",
+            content =
+                @Content(
+                    schema = @Schema(implementation = ApiError.class),
+                    mediaType = APPLICATION_JSON_VALUE))
+      })
+  ResponseEntity<List<NewsResponseDto>> archiveAll(BulkRequestDto<UUID> requestDto);
 }
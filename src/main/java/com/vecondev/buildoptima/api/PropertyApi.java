@@ -0,0 +1,183 @@
+package com.vecondev.buildoptima.api;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
+import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
+import com.vecondev.buildoptima.dto.property.PropertyStatsRequestDto;
+import com.vecondev.buildoptima.dto.property.response.PropertyChangesResponseDto;
+import com.vecondev.buildoptima.dto.property.response.PropertyResponseDto;
+import com.vecondev.buildoptima.dto.property.response.PropertyStatsResponseDto;
+import com.vecondev.buildoptima.exception.ApiError;
+import io.swagger.v3.oas.annotations.ExternalDocumentation;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+
+@Tag(
+    name = "Property",
+    description = "Endpoints for reading properties",
+    externalDocs =
+        @ExternalDocumentation(
+            description = "Click here to see a detailed explanation of application errors",
+            url =
+                "https://github.com/vecondev/buildoptima-api/blob/develop/docs/application-errors.md"))
+public interface PropertyApi extends SecuredApi {
+
+  @Operation(
+      summary = "Get a property by its AIN",
+      description = "Possible error codes: 4011, 4013, 4014, 4049, 5007",
+      security = @SecurityRequirement(name = "api-security"))
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "The property was found",
+            content =
+                @Content(
+                    schema = @Schema(implementation = PropertyResponseDto.class),
+                    mediaType = APPLICATION_JSON_VALUE)),
+        @ApiResponse(
+            responseCode = "404",
+            description = "There is no property with such AIN",
+            content =
+                @Content(
+                    schema = @Schema(implementation = ApiError.class),
+                    mediaType = APPLICATION_JSON_VALUE))
+      })
+  ResponseEntity<byte[]> getByAin(@Parameter(description = "The property AIN") String ain);
+
+  @Operation(
+      summary = "Get properties by their AINs",
+      description =
+          """
+          Returns the found properties in the requested order, unknown AINs are skipped.
+          Possible error codes: 40015, 4011, 4013, 4014, 5007""",
+      security = @SecurityRequirement(name = "api-security"))
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "The found properties",
+            content =
+                @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    array =
+                        @ArraySchema(
+                            schema = @Schema(implementation = PropertyResponseDto.class)))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Too many AINs were requested at once",
+            content =
+                @Content(
+                    schema = @Schema(implementation = ApiError.class),
+                    mediaType = APPLICATION_JSON_VALUE))
+      })
+  ResponseEntity<byte[]> getAllByAins(
+      @Parameter(description = "The property AINs") List<String> ains);
+
+  @Operation(
+      summary = "Fetch properties",
+      description =
+          """
+          Filters and sorts properties, also on the attributes nested in their details, hazards
+          and zoning details. Possible error codes: 4002, 4003, 4009, 40014, 40017, 4011, 4013,
+          4014""",
+      security = @SecurityRequirement(name = "api-security"),
+      externalDocs =
+          @ExternalDocumentation(
+              description =
+                  "Click here to see a detailed explanation of this endpoint requirements",
+              url =
+                  "https://github.com/vecondev/buildoptima-api/blob/develop/docs/filtering-sorting.md"))
+  @RequestBody(ref = "#/components/requestBodies/FetchPropertiesRequestExample")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "The page of the matching properties"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "There is an invalid value in fetch request",
+            content =
+                @Content(
+                    schema = @Schema(implementation = ApiError.class),
+                    mediaType = APPLICATION_JSON_VALUE))
+      })
+  ResponseEntity<FetchResponseDto> fetch(FetchRequestDto fetchRequestDto);
+
+  @Operation(
+      summary = "Fetch property summaries",
+      description =
+          """
+          Filters and sorts the summaries of properties, which carry their primary address,
+          centroid and lot area but none of their json. Possible error codes: 4002, 4003, 4009,
+          40014, 40017, 4011, 4013, 4014""",
+      security = @SecurityRequirement(name = "api-security"),
+      externalDocs =
+          @ExternalDocumentation(
+              description =
+                  "Click here to see a detailed explanation of this endpoint requirements",
+              url =
+                  "https://github.com/vecondev/buildoptima-api/blob/develop/docs/filtering-sorting.md"))
+  @RequestBody(ref = "#/components/requestBodies/FetchPropertySummariesRequestExample")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "The page of the matching property summaries"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "There is an invalid value in fetch request",
+            content =
+                @Content(
+                    schema = @Schema(implementation = ApiError.class),
+                    mediaType = APPLICATION_JSON_VALUE))
+      })
+  ResponseEntity<FetchResponseDto> fetchSummaries(FetchRequestDto fetchRequestDto);
+
+  @Operation(
+      summary = "Get property statistics",
+      description =
+          """
+          Counts the properties matching the filters per value of `groupBy` and sums up the
+          `metric` of each group. Computed on an in-memory snapshot rebuilt after migrations, so
+          it may miss the properties migrated in the last minutes. Possible error codes: 4011,
+          4013, 4014""",
+      security = @SecurityRequirement(name = "api-security"))
+  @ApiResponse(
+      responseCode = "200",
+      description = "The statistics per group, the largest groups first",
+      content =
+          @Content(
+              schema = @Schema(implementation = PropertyStatsResponseDto.class),
+              mediaType = APPLICATION_JSON_VALUE))
+  ResponseEntity<PropertyStatsResponseDto> getStats(PropertyStatsRequestDto request);
+
+  @Operation(
+      summary = "Get property changes",
+      description =
+          """
+          Returns the properties created or updated by the migration after the `since` sequence,
+          oldest first. Pass the returned `next` as `since` of the following request until
+          `hasMore` is false. Possible error codes: 4011, 4013, 4014""",
+      security = @SecurityRequirement(name = "api-security"))
+  @ApiResponse(
+      responseCode = "200",
+      description = "The changes after the given sequence",
+      content =
+          @Content(
+              schema = @Schema(implementation = PropertyChangesResponseDto.class),
+              mediaType = APPLICATION_JSON_VALUE))
+  ResponseEntity<PropertyChangesResponseDto> getChanges(
+      @Parameter(description = "The sequence of the last change already read, 0 for all")
+          long since,
+      @Parameter(description = "The maximum number of changes to return") Integer limit);
+}
@@ -0,0 +1,120 @@
+package com.vecondev.buildoptima.api;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.vecondev.buildoptima.dto.property.PropertyLocationDto;
+import com.vecondev.buildoptima.dto.property.response.PropertyOverview;
+import com.vecondev.buildoptima.exception.ApiError;
+import com.vecondev.buildoptima.filter.model.PropertySearchCriteria;
+import io.swagger.v3.oas.annotations.ExternalDocumentation;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+
+@Tag(
+    name = "Property search",
+    description = "Endpoints for searching properties",
+    externalDocs =
+        @ExternalDocumentation(
+            description = "Click here to see a detailed explanation of application errors",
+            url =
+                "https://github.com/vecondev/buildoptima-api/blob/develop/docs/application-errors.md"))
+public interface PropertySearchApi extends SecuredApi {
+
+  @Operation(
+      summary = "Autocomplete a property address or AIN",
+      description =
+          """
+          Returns the properties whose address contains all the typed words, the last one may be
+          incomplete and longer words may contain typos. Possible error codes: 4011, 4013, 4014""",
+      security = @SecurityRequirement(name = "api-security"))
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "The matching properties, best matches first",
+            content =
+                @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    array =
+                        @ArraySchema(schema = @Schema(implementation = PropertyOverview.class))))
+      })
+  ResponseEntity<List<PropertyOverview>> autocomplete(
+      @Parameter(description = "The typed address or AIN") String query,
+      @Parameter(description = "Whether the address or the AIN is typed") PropertySearchCriteria
+          criteria,
+      @Parameter(description = "The maximum number of properties to return") int limit);
+
+  @Operation(
+      summary = "Find the properties in a viewport",
+      description =
+          """
+          Returns the centroids of the properties inside the bounding box, at most `limit` of them.
+          Possible error codes: 40016, 4011, 4013, 4014""",
+      security = @SecurityRequirement(name = "api-security"))
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "The properties inside the bounding box",
+            content =
+                @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    array =
+                        @ArraySchema(
+                            schema = @Schema(implementation = PropertyLocationDto.class)))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "The bounds aren't valid coordinates or south/west exceed north/east",
+            content =
+                @Content(
+                    schema = @Schema(implementation = ApiError.class),
+                    mediaType = APPLICATION_JSON_VALUE))
+      })
+  ResponseEntity<List<PropertyLocationDto>> findInViewport(
+      @Parameter(description = "The southern latitude of the bounding box") double south,
+      @Parameter(description = "The western longitude of the bounding box") double west,
+      @Parameter(description = "The northern latitude of the bounding box") double north,
+      @Parameter(description = "The eastern longitude of the bounding box") double east,
+      @Parameter(description = "The maximum number of properties to return") int limit);
+
+  @Operation(
+      summary = "Find the properties near a point",
+      description =
+          """
+          Returns the centroids of the properties within the radius, nearest first.
+          Possible error codes: 40016, 4011, 4013, 4014""",
+      security = @SecurityRequirement(name = "api-security"))
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "The properties within the radius",
+            content =
+                @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    array =
+                        @ArraySchema(
+                            schema = @Schema(implementation = PropertyLocationDto.class)))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "The point isn't valid or the radius exceeds the allowed one",
+            content =
+                @Content(
+                    schema = @Schema(implementation = ApiError.class),
+                    mediaType = APPLICATION_JSON_VALUE))
+      })
+  ResponseEntity<List<PropertyLocationDto>> findNearby(
+      @Parameter(description = "The latitude of the point") double lat,
+      @Parameter(description = "The longitude of the point") double lng,
+      @Parameter(description = "The radius in miles") double radius,
+      @Parameter(description = "The maximum number of properties to return") int limit);
+}
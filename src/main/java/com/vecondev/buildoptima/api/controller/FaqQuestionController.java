@@ -5,9 +5,11 @@ import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
 
 import com.vecondev.buildoptima.api.FaqQuestionApi;
+import com.vecondev.buildoptima.dto.BulkRequestDto;
 import com.vecondev.buildoptima.dto.EntityOverview;
 import com.vecondev.buildoptima.dto.Metadata;
 import com.vecondev.buildoptima.dto.faq.request.FaqQuestionRequestDto;
+import com.vecondev.buildoptima.dto.faq.request.FaqQuestionUpdateItemDto;
 import com.vecondev.buildoptima.dto.faq.response.FaqQuestionResponseDto;
 import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
 import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
@@ -25,6 +27,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -99,6 +102,46 @@ public class FaqQuestionController implements FaqQuestionApi {
     return new ResponseEntity<>(OK);
   }
 
+  @Override
+  @PostMapping("/bulk")
+  public ResponseEntity<List<FaqQuestionResponseDto>> createAll(
+      @Valid @RequestBody BulkRequestDto<FaqQuestionRequestDto> requestDto) {
+    UUID userId = securityContextService.getUserDetails().getId();
+    log.info(
+        "Attempt to create {} FAQ Questions by user with id: {}",
+        requestDto.getItems().size(),
+        userId);
+
+    return new ResponseEntity<>(
+        faqQuestionService.createAll(requestDto.getItems(), userId), CREATED);
+  }
+
+  @Override
+  @PutMapping("/bulk")
+  public ResponseEntity<List<FaqQuestionResponseDto>> updateAll(
+      @Valid @RequestBody BulkRequestDto<FaqQuestionUpdateItemDto> requestDto) {
+    UUID userId = securityContextService.getUserDetails().getId();
+    log.info(
+        "Attempt to update {} FAQ Questions by user with id: {}",
+        requestDto.getItems().size(),
+        userId);
+
+    return ResponseEntity.ok(faqQuestionService.updateAll(requestDto.getItems(), userId));
+  }
+
+  @Override
+  @PatchMapping("/bulk/archive")
+  public ResponseEntity<List<FaqQuestionResponseDto>> archiveAll(
+      @Valid @RequestBody BulkRequestDto<UUID> requestDto) {
+    UUID userId = securityContextService.getUserDetails().getId();
+    log.info(
+        "Attempt to archive {} FAQ Questions by user with id: {}",
+        requestDto.getItems().size(),
+        userId);
+
+    return ResponseEntity.ok(faqQuestionService.archiveAll(requestDto.getItems(), userId));
+  }
+
   @Override
   @GetMapping(value = "/csv")
   public ResponseEntity<Resource> exportInCsv() {
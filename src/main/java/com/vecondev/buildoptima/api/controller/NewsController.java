@@ -3,14 +3,18 @@ package com.vecondev.buildoptima.api.controller;
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE;
 
 import com.vecondev.buildoptima.api.NewsApi;
+import com.vecondev.buildoptima.dto.BulkRequestDto;
 import com.vecondev.buildoptima.dto.Metadata;
 import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
 import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
 import com.vecondev.buildoptima.dto.news.request.NewsCreateRequestDto;
+import com.vecondev.buildoptima.dto.news.request.NewsItemRequestDto;
+import com.vecondev.buildoptima.dto.news.request.NewsUpdateItemDto;
 import com.vecondev.buildoptima.dto.news.request.NewsUpdateRequestDto;
 import com.vecondev.buildoptima.dto.news.response.NewsResponseDto;
 import com.vecondev.buildoptima.service.news.NewsService;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +29,7 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -93,4 +98,26 @@ public class NewsController implements NewsApi {
   public ResponseEntity<NewsResponseDto> archive(@PathVariable UUID id) {
     return ResponseEntity.ok(newsService.archiveNews(id));
   }
+
+  @Override
+  @PostMapping("/bulk")
+  public ResponseEntity<List<NewsResponseDto>> createAll(
+      @Valid @RequestBody BulkRequestDto<NewsItemRequestDto> requestDto) {
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .body(newsService.createAll(requestDto.getItems()));
+  }
+
+  @Override
+  @PutMapping("/bulk")
+  public ResponseEntity<List<NewsResponseDto>> updateAll(
+      @Valid @RequestBody BulkRequestDto<NewsUpdateItemDto> requestDto) {
+    return ResponseEntity.ok(newsService.updateAll(requestDto.getItems()));
+  }
+
+  @Override
+  @PatchMapping("/bulk/archive")
+  public ResponseEntity<List<NewsResponseDto>> archiveAll(
+      @Valid @RequestBody BulkRequestDto<UUID> requestDto) {
+    return ResponseEntity.ok(newsService.archiveAll(requestDto.getItems()));
+  }
 }
@@ -0,0 +1,79 @@
+package com.vecondev.buildoptima.api.controller;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+import com.vecondev.buildoptima.api.PropertyApi;
+import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
+import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
+import com.vecondev.buildoptima.dto.property.PropertyStatsRequestDto;
+import com.vecondev.buildoptima.dto.property.response.PropertyChangesResponseDto;
+import com.vecondev.buildoptima.dto.property.response.PropertyStatsResponseDto;
+import com.vecondev.buildoptima.service.property.PropertyChangeService;
+import com.vecondev.buildoptima.service.property.PropertyService;
+import com.vecondev.buildoptima.service.property.PropertySummaryService;
+import com.vecondev.buildoptima.service.property.stats.PropertyStatsService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.api.annotations.ParameterObject;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** Writes the already serialized responses of the property service as they are. */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/properties")
+public class PropertyController implements PropertyApi {
+
+  private final PropertyService propertyService;
+  private final PropertySummaryService propertySummaryService;
+  private final PropertyStatsService propertyStatsService;
+  private final PropertyChangeService propertyChangeService;
+
+  @Override
+  @GetMapping("/{ain}")
+  public ResponseEntity<byte[]> getByAin(@PathVariable String ain) {
+    return ResponseEntity.ok().contentType(APPLICATION_JSON).body(propertyService.getByAin(ain));
+  }
+
+  @Override
+  @GetMapping(params = "ain")
+  public ResponseEntity<byte[]> getAllByAins(@RequestParam("ain") List<String> ains) {
+    return ResponseEntity.ok()
+        .contentType(APPLICATION_JSON)
+        .body(propertyService.getAllByAins(ains));
+  }
+
+  @Override
+  @PostMapping("/fetch")
+  public ResponseEntity<FetchResponseDto> fetch(@RequestBody FetchRequestDto fetchRequestDto) {
+    return ResponseEntity.ok(propertyService.fetch(fetchRequestDto));
+  }
+
+  @Override
+  @PostMapping("/summaries/fetch")
+  public ResponseEntity<FetchResponseDto> fetchSummaries(
+      @RequestBody FetchRequestDto fetchRequestDto) {
+    return ResponseEntity.ok(propertySummaryService.fetch(fetchRequestDto));
+  }
+
+  @Override
+  @GetMapping("/stats")
+  public ResponseEntity<PropertyStatsResponseDto> getStats(
+      @ParameterObject PropertyStatsRequestDto request) {
+    return ResponseEntity.ok(propertyStatsService.getStats(request));
+  }
+
+  @Override
+  @GetMapping("/changes")
+  public ResponseEntity<PropertyChangesResponseDto> getChanges(
+      @RequestParam(defaultValue = "0") long since,
+      @RequestParam(required = false) Integer limit) {
+    return ResponseEntity.ok(propertyChangeService.getChanges(since, limit));
+  }
+}
@@ -0,0 +1,55 @@
+package com.vecondev.buildoptima.api.controller;
+
+import com.vecondev.buildoptima.api.PropertySearchApi;
+import com.vecondev.buildoptima.dto.property.PropertyLocationDto;
+import com.vecondev.buildoptima.dto.property.response.PropertyOverview;
+import com.vecondev.buildoptima.filter.model.PropertySearchCriteria;
+import com.vecondev.buildoptima.service.property.search.AddressSearchService;
+import com.vecondev.buildoptima.service.property.search.LocationSearchService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/properties")
+public class PropertySearchController implements PropertySearchApi {
+
+  private final AddressSearchService addressSearchService;
+  private final LocationSearchService locationSearchService;
+
+  @Override
+  @GetMapping("/autocomplete")
+  public ResponseEntity<List<PropertyOverview>> autocomplete(
+      @RequestParam String query,
+      @RequestParam(defaultValue = "ADDRESS") PropertySearchCriteria criteria,
+      @RequestParam(defaultValue = "10") int limit) {
+    return ResponseEntity.ok(addressSearchService.autocomplete(query, criteria, limit));
+  }
+
+  @Override
+  @GetMapping("/viewport")
+  public ResponseEntity<List<PropertyLocationDto>> findInViewport(
+      @RequestParam double south,
+      @RequestParam double west,
+      @RequestParam double north,
+      @RequestParam double east,
+      @RequestParam(defaultValue = "1000") int limit) {
+    return ResponseEntity.ok(
+        locationSearchService.findInViewport(south, west, north, east, limit));
+  }
+
+  @Override
+  @GetMapping("/nearby")
+  public ResponseEntity<List<PropertyLocationDto>> findNearby(
+      @RequestParam double lat,
+      @RequestParam double lng,
+      @RequestParam double radius,
+      @RequestParam(defaultValue = "100") int limit) {
+    return ResponseEntity.ok(locationSearchService.findNearby(lat, lng, radius, limit));
+  }
+}
@@ -0,0 +1,46 @@
+package com.vecondev.buildoptima.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vecondev.buildoptima.config.properties.CacheConfigProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  public static final String FAQ_QUESTIONS = "faqQuestions";
+  public static final String FAQ_QUESTION_LOOKUP = "faqQuestionLookup";
+  public static final String FAQ_CATEGORIES = "faqCategories";
+  public static final String CURRENT_USERS = "currentUsers";
+
+  /**
+   * In-heap caches bounded by the configured Caffeine specifications. Evictions and puts made
+   * inside a transaction are applied only after it commits, so a reader can't repopulate a cache
+   * with data that is about to be rolled back or overwritten.
+   */
+  @Bean
+  public CacheManager cacheManager(CacheConfigProperties properties) {
+    if (!properties.isEnabled()) {
+      return new NoOpCacheManager();
+    }
+
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    if (StringUtils.hasText(properties.getSpec())) {
+      cacheManager.setCacheSpecification(properties.getSpec());
+    }
+    properties
+        .getSpecs()
+        .forEach(
+            (cacheName, spec) ->
+                cacheManager.registerCustomCache(cacheName, Caffeine.from(spec).build()));
+
+    return new TransactionAwareCacheManagerProxy(cacheManager);
+  }
+}
@@ -0,0 +1,24 @@
+package com.vecondev.buildoptima.config;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the jsonb functions the criteria API has no words for. They are rendered as the
+ * PostgreSQL operators rather than the equivalent functions, only the operators can use GIN
+ * indexes. H2 has no such operators, the filters using them fail on the h2 profile.
+ */
+public class JsonbFunctionContributor implements MetadataBuilderContributor {
+
+  /** Whether the jsonb document of the first argument contains the json of the second one. */
+  public static final String JSONB_CONTAINS = "jsonb_contains";
+
+  @Override
+  public void contribute(MetadataBuilder metadataBuilder) {
+    metadataBuilder.applySqlFunction(
+        JSONB_CONTAINS,
+        new SQLFunctionTemplate(StandardBasicTypes.BOOLEAN, "(?1 @> cast(?2 as jsonb))"));
+  }
+}
@@ -1,9 +1,14 @@
 package com.vecondev.buildoptima.config;
 
+import com.vecondev.buildoptima.config.properties.PasswordHashingConfigProperties;
 import com.vecondev.buildoptima.exception.ApiAccessDeniedHandler;
+import com.vecondev.buildoptima.security.JwtAuthenticationFilter;
 import com.vecondev.buildoptima.security.JwtTokenAuthenticationEntryPoint;
 import com.vecondev.buildoptima.security.RestAuthorizationFilter;
+import com.vecondev.buildoptima.security.password.OffloadedPasswordEncoder;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
@@ -11,7 +16,9 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -29,7 +36,9 @@ public class SecurityConfig {
   };
   private final JwtTokenAuthenticationEntryPoint entryPoint;
   private final RestAuthorizationFilter restAuthorizationFilter;
+  private final ObjectProvider<JwtAuthenticationFilter> jwtAuthenticationFilter;
   private final ApiAccessDeniedHandler accessDeniedHandler;
+  private final PasswordHashingConfigProperties passwordHashingConfig;
 
   @Bean
   public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -50,11 +59,36 @@ public class SecurityConfig {
         .anyRequest()
         .authenticated();
     http.addFilterBefore(restAuthorizationFilter, UsernamePasswordAuthenticationFilter.class);
+    jwtAuthenticationFilter.ifAvailable(
+        filter -> http.addFilterBefore(filter, RestAuthorizationFilter.class));
     return http.build();
   }
 
+  /**
+   * Hashes are prefixed with the id of their algorithm. The hashes created before the prefixes
+   * were introduced are BCrypt ones, they are upgraded on the next login.
+   */
   @Bean
   public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder(12);
+    BCryptPasswordEncoder bcrypt =
+        new BCryptPasswordEncoder(passwordHashingConfig.getBcryptStrength());
+    PasswordHashingConfigProperties.Pbkdf2 pbkdf2Config = passwordHashingConfig.getPbkdf2();
+    Pbkdf2PasswordEncoder pbkdf2 =
+        new Pbkdf2PasswordEncoder(
+            "",
+            pbkdf2Config.getSaltLength(),
+            pbkdf2Config.getIterations(),
+            pbkdf2Config.getHashWidth());
+
+    DelegatingPasswordEncoder encoder =
+        new DelegatingPasswordEncoder(
+            passwordHashingConfig.getEncoder(), Map.of("bcrypt", bcrypt, "pbkdf2", pbkdf2));
+    encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+    int threads = passwordHashingConfig.getThreads();
+    return new OffloadedPasswordEncoder(
+        encoder,
+        threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+        passwordHashingConfig.getQueueCapacity());
   }
 }
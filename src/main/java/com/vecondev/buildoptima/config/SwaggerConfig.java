@@ -109,6 +109,24 @@ public class SwaggerConfig {
                                                 .addMediaType(
                                                         APPLICATION_JSON_VALUE,
                                                         new io.swagger.v3.oas.models.media.MediaType()
-                                                                .schema(new MapSchema().example(readFromJson("docs/json/news-filter-sorting-example.json")))))));
+                                                                .schema(new MapSchema().example(readFromJson("docs/json/news-filter-sorting-example.json"))))))
+                .addRequestBodies(
+                        "FetchPropertiesRequestExample",
+                        new RequestBody()
+                                .content(
+                                        new Content()
+                                                .addMediaType(
+                                                        APPLICATION_JSON_VALUE,
+                                                        new io.swagger.v3.oas.models.media.MediaType()
+                                                                .schema(new MapSchema().example(readFromJson("docs/json/property-filter-sorting-example.json"))))))
+                .addRequestBodies(
+                        "FetchPropertySummariesRequestExample",
+                        new RequestBody()
+                                .content(
+                                        new Content()
+                                                .addMediaType(
+                                                        APPLICATION_JSON_VALUE,
+                                                        new io.swagger.v3.oas.models.media.MediaType()
+                                                                .schema(new MapSchema().example(readFromJson("docs/json/property-summary-filter-sorting-example.json")))))));
   }
 }
@@ -0,0 +1,26 @@
+package com.vecondev.buildoptima.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "address-search")
+public class AddressSearchConfigProperties {
+
+  /** Number of addresses read from the database by one query while the index is loaded. */
+  private Integer loadBatchSize = 1000;
+
+  /** Number of properties indexed since the last merge that makes the main index be rebuilt. */
+  private Integer mergeThreshold = 5000;
+
+  /** Maximum number of properties returned by one autocomplete request. */
+  private Integer maxResults = 50;
+
+  /**
+   * Maximum number of indexed words a single query word is expanded to, by prefix or by typo.
+   * Keeps short prefixes such as a single digit from scanning the whole index.
+   */
+  private Integer maxExpansions = 64;
+}
@@ -0,0 +1,21 @@
+package com.vecondev.buildoptima.config.properties;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "cache")
+public class CacheConfigProperties {
+
+  private boolean enabled = true;
+
+  /** Caffeine specification used by every cache that has no own entry in {@link #specs}. */
+  private String spec;
+
+  /** Caffeine specifications keyed by cache name. */
+  private Map<String, String> specs = new HashMap<>();
+}
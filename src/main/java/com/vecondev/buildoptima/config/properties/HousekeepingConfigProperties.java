@@ -0,0 +1,24 @@
+package com.vecondev.buildoptima.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "housekeeping")
+public class HousekeepingConfigProperties {
+
+  /** Maximum number of rows removed by one delete statement. */
+  private Integer batchSize = 1000;
+
+  /** Pause between two delete statements, to leave the database to other queries. */
+  private Duration pause = Duration.ofMillis(100);
+
+  /**
+   * How long a run may hold the lease. A lease of an instance that stopped mid-run is taken over
+   * after it.
+   */
+  private Duration leaseDuration = Duration.ofMinutes(10);
+}
@@ -1,6 +1,7 @@
 package com.vecondev.buildoptima.config.properties;
 
 import io.jsonwebtoken.SignatureAlgorithm;
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -17,16 +18,45 @@ public class JwtConfigProperties {
   private SignatureAlgorithm signatureAlgorithm;
   private RefreshToken refreshToken;
   private AccessToken accessToken;
+  private Verification verification = new Verification();
 
   @Data
   public static class AccessToken {
 
     private Integer validity;
+
+    /**
+     * Time an issued access token is handed out again to the refreshes of the same user and role,
+     * instead of signing a new one. Has to be shorter than the validity.
+     */
+    private Duration reuseWindow = Duration.ofMinutes(1);
+
+    /** Maximum number of users whose last access token is kept for reuse. */
+    private Long reuseCacheMaximumSize = 10000L;
+  }
+
+  /**
+   * Verification of the bearer access tokens by the service itself, for deployments without the
+   * gateway that verifies them and passes the user in headers.
+   */
+  @Data
+  public static class Verification {
+
+    private boolean enabled;
+
+    /** Maximum number of verified tokens kept until they expire. */
+    private Long cacheMaximumSize = 10000L;
   }
 
   @Data
   public static class RefreshToken {
 
     private Long validity;
+
+    /**
+     * Maximum number of hashes of unknown or expired tokens remembered to reject them without a
+     * database lookup.
+     */
+    private Long revokedCacheMaximumSize = 10000L;
   }
 }
@@ -0,0 +1,26 @@
+package com.vecondev.buildoptima.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "location-search")
+public class LocationSearchConfigProperties {
+
+  /**
+   * Side of a grid cell in degrees. Smaller cells read fewer points outside of a small viewport,
+   * larger ones take fewer lookups for a large one.
+   */
+  private Double cellSize = 0.01;
+
+  /** Number of centroids read from the database by one query while the index is loaded. */
+  private Integer loadBatchSize = 10000;
+
+  /** Maximum number of properties returned by one viewport or radius request. */
+  private Integer maxResults = 1000;
+
+  /** Maximum radius of a radius request in miles. */
+  private Double maxRadius = 50.0;
+}
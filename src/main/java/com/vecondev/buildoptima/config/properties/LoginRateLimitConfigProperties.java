@@ -0,0 +1,51 @@
+package com.vecondev.buildoptima.config.properties;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "platform.security.login-limit")
+public class LoginRateLimitConfigProperties {
+
+  private Boolean enabled = true;
+
+  /** Failed logins allowed per username. */
+  private Limit username = new Limit(5, Duration.ofMinutes(15));
+
+  /** Failed logins allowed per client address, across all usernames. */
+  private Limit clientIp = new Limit(50, Duration.ofMinutes(15));
+
+  /** Maximum number of usernames and addresses tracked by the in-memory store. */
+  private Long maximumKeys = 100000L;
+
+  /**
+   * Takes the client address from X-Forwarded-For, for deployments behind the gateway. The remote
+   * address is used otherwise.
+   */
+  private Boolean trustForwardedFor = false;
+
+  /**
+   * Number of trusted proxies in front of the service that append to X-Forwarded-For. The client
+   * address is the entry the outermost of them appended, the ones before it are sent by the client
+   * and can be anything.
+   */
+  private Integer forwardedForHops = 1;
+
+  /**
+   * A token bucket of the given capacity, refilled evenly over the window, so at most capacity
+   * failures are allowed in any window.
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Limit {
+
+    private Integer capacity;
+    private Duration window;
+  }
+}
@@ -0,0 +1,34 @@
+package com.vecondev.buildoptima.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "platform.security.password")
+public class PasswordHashingConfigProperties {
+
+  /**
+   * Id of the algorithm new hashes are created with. Passwords hashed with another algorithm or
+   * cost are rehashed on the next login.
+   */
+  private String encoder = "bcrypt";
+
+  private Integer bcryptStrength = 12;
+  private Pbkdf2 pbkdf2 = new Pbkdf2();
+
+  /** Number of hashing threads, the number of available processors if not positive. */
+  private Integer threads = 0;
+
+  /** Number of hashing requests that may wait for a thread before being rejected. */
+  private Integer queueCapacity = 64;
+
+  @Data
+  public static class Pbkdf2 {
+
+    private Integer saltLength = 16;
+    private Integer iterations = 310000;
+    private Integer hashWidth = 256;
+  }
+}
@@ -0,0 +1,18 @@
+package com.vecondev.buildoptima.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "platform.security.principal-cache")
+public class PrincipalCacheConfigProperties {
+
+  /** Maximum number of distinct header combinations kept in the cache. */
+  private Long maximumSize = 10000L;
+
+  /** Time after which a principal nobody has used is dropped from the cache. */
+  private Duration expireAfterAccess = Duration.ofMinutes(10);
+}
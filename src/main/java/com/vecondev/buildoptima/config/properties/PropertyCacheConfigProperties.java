@@ -0,0 +1,25 @@
+package com.vecondev.buildoptima.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "property-cache")
+public class PropertyCacheConfigProperties {
+
+  /** Total size of the serialized property responses kept in memory. */
+  private DataSize maximumSize = DataSize.ofMegabytes(64);
+
+  /**
+   * How long a response is kept. The properties saved on other instances are evicted as the change
+   * log is followed, this bounds how stale a response may be if following the log fails.
+   */
+  private Duration expireAfterWrite = Duration.ofHours(1);
+
+  /** Maximum number of properties requested at once. */
+  private Integer maxBatchSize = 100;
+}
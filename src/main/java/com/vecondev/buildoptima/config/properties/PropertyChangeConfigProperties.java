@@ -0,0 +1,28 @@
+package com.vecondev.buildoptima.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "property-changes")
+public class PropertyChangeConfigProperties {
+
+  /** Maximum number of changes returned at once. */
+  private Integer maxPageSize = 1000;
+
+  /**
+   * How old a change must be to be returned. The migration threads commit their changes in their
+   * own order, a change younger than this may still get passed by a consumer reading the later
+   * sequences of another thread.
+   */
+  private Duration visibilityDelay = Duration.ofSeconds(5);
+
+  /**
+   * Pause between two reads of the changes by the in-memory views of this instance, bounds how
+   * long they miss a property saved by the migration of another instance.
+   */
+  private Duration followDelay = Duration.ofSeconds(30);
+}
@@ -0,0 +1,29 @@
+package com.vecondev.buildoptima.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "property-migration")
+public class PropertyMigrationConfigProperties {
+
+  /** Maximum number of property files parsed at the same time. */
+  private Integer parserThreads = 4;
+
+  /**
+   * Number of threads writing the parsed properties. Every property is always written by the same
+   * one of them, chosen by its AIN.
+   */
+  private Integer writerLanes = 4;
+
+  /**
+   * Number of parsed properties a writer thread holds, the parsed files wait to be handed over
+   * while it is full.
+   */
+  private Integer writerQueueCapacity = 10000;
+
+  /** Number of property metadata rows written by one statement. */
+  private Integer metadataBatchSize = 500;
+}
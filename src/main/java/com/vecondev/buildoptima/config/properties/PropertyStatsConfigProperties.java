@@ -0,0 +1,27 @@
+package com.vecondev.buildoptima.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "property-stats")
+public class PropertyStatsConfigProperties {
+
+  /** Number of properties read from the database by one query while the snapshot is built. */
+  private Integer loadBatchSize = 10000;
+
+  /**
+   * Age after which the snapshot is rebuilt even if no migration ran on this instance, bounds how
+   * stale the statistics of the other instances are.
+   */
+  private Duration maxAge = Duration.ofHours(1);
+
+  /** Number of properties scanned by one task, the tasks of a query run in parallel. */
+  private Integer chunkSize = 16384;
+
+  /** Number of threads scanning the chunks of all the queries, 0 for the available processors. */
+  private Integer scanThreads = 0;
+}
@@ -1,5 +1,6 @@
 package com.vecondev.buildoptima.config.properties;
 
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -10,4 +11,21 @@ import org.springframework.stereotype.Component;
 public class SqsConfigProperties {
 
   private String mailQueueUrl;
-}
\ No newline at end of file
+  private MailOutbox mailOutbox = new MailOutbox();
+
+  @Data
+  public static class MailOutbox {
+
+    /** Maximum number of messages the relay sends in one run, in batches of ten. */
+    private Integer batchSize = 100;
+
+    /** Number of failed sends after which a message is left in the outbox for inspection. */
+    private Integer maxAttempts = 10;
+
+    /** Wait before the first retry of a failed send, doubled on every further attempt. */
+    private Duration retryBackoff = Duration.ofSeconds(30);
+
+    /** How long a run may hold the relay lease before another instance takes it over. */
+    private Duration leaseDuration = Duration.ofMinutes(1);
+  }
+}
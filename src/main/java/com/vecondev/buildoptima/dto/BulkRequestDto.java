@@ -0,0 +1,34 @@
+package com.vecondev.buildoptima.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Items of a bulk operation that are processed in one transaction. */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Data
+public class BulkRequestDto<T> {
+
+  public static final int MAX_ITEMS = 500;
+
+  @NotEmpty
+  @Size(max = MAX_ITEMS)
+  @ArraySchema(
+      arraySchema =
+          @Schema(
+              title = "Items",
+              description = "Items of the bulk operation, at most 500 per request."),
+      minItems = 1,
+      maxItems = MAX_ITEMS)
+  private List<@Valid @NotNull T> items;
+}
@@ -0,0 +1,26 @@
+package com.vecondev.buildoptima.dto.faq.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Data
+public class FaqQuestionUpdateItemDto {
+
+  @NotNull
+  @Schema(title = "Question Id", example = "2635b586-d0d7-4a2d-b4b5-c98377a02322")
+  private UUID id;
+
+  @Valid
+  @NotNull
+  @Schema(title = "New content of the question")
+  private FaqQuestionRequestDto content;
+}
@@ -0,0 +1,43 @@
+package com.vecondev.buildoptima.dto.news.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import javax.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * News item of a bulk creation. Unlike {@link NewsCreateRequestDto} it's sent as json, so it has
+ * no image, which can be uploaded later by updating the item.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsItemRequestDto {
+
+  @Schema(title = "News title", example = "Summer Sales", required = true, minLength = 5)
+  @NotBlank(message = "News title may not be empty")
+  private String title;
+
+  @Schema(
+      title = "News Short Summary",
+      example = "Steam Summer Sale 2022 continues — save big on top rated PC games",
+      required = true,
+      minLength = 20)
+  @NotBlank(message = "News summary may not be empty")
+  private String summary;
+
+  @Schema(title = "News Keywords")
+  private List<String> keywords;
+
+  @Schema(title = "News Description", required = true, minLength = 50)
+  @NotBlank(message = "News description may not be empty")
+  private String description;
+
+  @Schema(title = "News Category", required = true)
+  @NotBlank(message = "News category may not be empty")
+  private String category;
+}
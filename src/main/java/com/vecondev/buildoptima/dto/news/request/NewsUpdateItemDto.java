@@ -0,0 +1,27 @@
+package com.vecondev.buildoptima.dto.news.request;
+
+import com.vecondev.buildoptima.validation.constraint.NullOrNotBlank;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** News item of a bulk update. Only the provided fields are updated. */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsUpdateItemDto {
+
+  @NotNull
+  @Schema(title = "News item id", example = "2635b586-d0d7-4a2d-b4b5-c98377a02322")
+  private UUID id;
+
+  @NullOrNotBlank private String title;
+  @NullOrNotBlank private String summary;
+  @NullOrNotBlank private String description;
+  @NullOrNotBlank private String category;
+}
@@ -0,0 +1,14 @@
+package com.vecondev.buildoptima.dto.property;
+
+import com.vecondev.buildoptima.model.property.ZoningDetails;
+
+/** The attributes of a property the statistics are computed on. */
+public record PropertyAttributesDto(
+    String ain,
+    String municipality,
+    Double lotArea,
+    Integer yearBuilt,
+    Integer nearActiveFaultDistance,
+    String fireHazardZone,
+    String fireBrushClearanceZone,
+    ZoningDetails zoningDetails) {}
@@ -0,0 +1,9 @@
+package com.vecondev.buildoptima.dto.property;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/** The centroid of a property. */
+public record PropertyLocationDto(
+    @Schema(example = "5482003013") String ain,
+    @Schema(example = "34.0776") double lat,
+    @Schema(example = "-118.4924") double lng) {}
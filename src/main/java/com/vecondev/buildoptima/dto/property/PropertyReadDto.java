@@ -7,7 +7,6 @@ import com.vecondev.buildoptima.model.property.Hazards;
 import com.vecondev.buildoptima.model.property.Polygon;
 import com.vecondev.buildoptima.model.property.ZoningDetails;
 import java.util.List;
-import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,7 +23,7 @@ public class PropertyReadDto {
   private Address propertyAddress;
   private List<Address> associatedAddresses;
   private Centroid centroid;
-  private Set<Polygon> polygons;
+  private List<Polygon> polygons;
   private Details details;
   private Hazards hazards;
   private ZoningDetails zoningDetails;
@@ -0,0 +1,42 @@
+package com.vecondev.buildoptima.dto.property;
+
+import com.vecondev.buildoptima.filter.model.PropertyStatsDimension;
+import com.vecondev.buildoptima.filter.model.PropertyStatsMetric;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyStatsRequestDto {
+
+  @Schema(description = "The attribute the properties are grouped by, all in one group if absent")
+  private PropertyStatsDimension groupBy;
+
+  @Schema(description = "The attribute summed up per group, only counted if absent")
+  private PropertyStatsMetric metric;
+
+  @Schema(example = "LOS ANGELES")
+  private String municipality;
+
+  @Schema(example = "R1-1")
+  private String zoneCode;
+
+  @Schema(example = "No")
+  private String fireHazardZone;
+
+  private Double minLotArea;
+
+  private Double maxLotArea;
+
+  private Integer minYearBuilt;
+
+  private Integer maxYearBuilt;
+
+  @Schema(description = "The maximum distance to the nearest active fault")
+  private Integer maxNearActiveFaultDistance;
+}
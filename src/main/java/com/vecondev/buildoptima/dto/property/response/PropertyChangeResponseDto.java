@@ -0,0 +1,28 @@
+package com.vecondev.buildoptima.dto.property.response;
+
+import com.vecondev.buildoptima.model.property.PropertyOperation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyChangeResponseDto {
+
+  @Schema(example = "1842")
+  private Long sequence;
+
+  @Schema(example = "5482003013")
+  private String ain;
+
+  private PropertyOperation op;
+
+  private Integer version;
+
+  private Instant changedAt;
+}
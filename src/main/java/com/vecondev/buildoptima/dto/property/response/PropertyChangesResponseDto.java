@@ -0,0 +1,23 @@
+package com.vecondev.buildoptima.dto.property.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyChangesResponseDto {
+
+  private List<PropertyChangeResponseDto> changes;
+
+  @Schema(description = "The `since` of the next request")
+  private Long next;
+
+  @Schema(description = "Whether there were more changes than returned")
+  private boolean hasMore;
+}
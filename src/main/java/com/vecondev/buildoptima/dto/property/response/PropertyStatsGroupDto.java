@@ -0,0 +1,30 @@
+package com.vecondev.buildoptima.dto.property.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Statistics of one group, the metric values are absent when no property of it has one. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyStatsGroupDto {
+
+  /** Value of the grouping attribute, absent for the properties without one. */
+  private String key;
+
+  private long count;
+
+  /** Number of properties of the group having the metric. */
+  private long valueCount;
+
+  private Double sum;
+
+  private Double average;
+
+  private Double min;
+
+  private Double max;
+}
@@ -0,0 +1,23 @@
+package com.vecondev.buildoptima.dto.property.response;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyStatsResponseDto {
+
+  /** Number of matching properties, a property may be in several zone code groups. */
+  private long total;
+
+  /** When the snapshot the statistics were computed on was built. */
+  private Instant snapshotBuiltAt;
+
+  private List<PropertyStatsGroupDto> groups;
+}
@@ -0,0 +1,37 @@
+package com.vecondev.buildoptima.dto.property.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertySummaryResponseDto {
+
+  @Schema(example = "5482003013")
+  private String ain;
+
+  @Schema(example = "LOS ANGELES")
+  private String municipality;
+
+  @Schema(example = "2516 Banyan Dr Los Angeles CA 90049")
+  private String address;
+
+  private Double centroidLat;
+
+  private Double centroidLng;
+
+  private Double lotArea;
+
+  @Schema(example = "R1-1, RE15-1-H")
+  private String zoneCodes;
+
+  private Integer version;
+
+  private Instant updatedAt;
+}
@@ -15,16 +15,4 @@ public class ConfirmationMessage {
   private String token;
   private String userEmail;
   private String userFirstName;
-
-  @Override
-  public String toString() {
-    return String.format("""
-        {
-        "template": "%s",
-        "token": "%s",
-        "userEmail": "%s",
-        "userFirstName": "%s"
-        }
-        """, template, token, userEmail, userFirstName);
-  }
-}
\ No newline at end of file
+}
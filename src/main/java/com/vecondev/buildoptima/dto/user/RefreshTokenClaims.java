@@ -0,0 +1,9 @@
+package com.vecondev.buildoptima.dto.user;
+
+import com.vecondev.buildoptima.model.user.Role;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** A refresh token hash together with the claims of its user needed to issue an access token. */
+public record RefreshTokenClaims(
+    String tokenHash, LocalDateTime expiresAt, UUID userId, String email, Role role) {}
@@ -6,6 +6,8 @@ import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 import lombok.Getter;
@@ -31,9 +33,15 @@ public enum Error {
   REFRESH_TOKEN_EXPIRED(40012, BAD_REQUEST, "Expired Refresh Token"),
   REFRESH_TOKEN_INVALID(40013, BAD_REQUEST, "Invalid Refresh Token"),
   INVALID_SORTING_FIELD(40014, BAD_REQUEST, "Invalid Sorting Field In Fetch Request"),
+  TOO_MANY_AINS(40015, BAD_REQUEST, "Too Many Properties Requested At Once"),
+  INVALID_LOCATION(40016, BAD_REQUEST, "Invalid Coordinates, Bounds Or Radius"),
+  INVALID_NUMBER(40017, BAD_REQUEST, "Can't Parse String Value To Number"),
 
   BAD_CREDENTIALS(4011, UNAUTHORIZED, "Bad Credentials"),
+  INVALID_ACCESS_TOKEN(4013, UNAUTHORIZED, "Invalid Access Token"),
+  ACCESS_TOKEN_EXPIRED(4014, UNAUTHORIZED, "Expired Access Token"),
   NOT_ACTIVE_ACCOUNT(4015, UNAUTHORIZED, "User Email Is Not Verified"),
+  UNTRUSTED_USER_HEADERS(4016, UNAUTHORIZED, "User Headers Are Not Accepted"),
 
   ACCESS_DENIED(4031, FORBIDDEN, "Permission Denied To Requested Resource"),
 
@@ -66,6 +74,9 @@ public enum Error {
   INVALID_IMAGE_EXTENSION(
       4124, PRECONDITION_FAILED, "The Extension Of The Image Should Be Either 'jpg/jpeg' or 'png'"),
 
+  TOO_MANY_LOGIN_ATTEMPTS(
+      4291, TOO_MANY_REQUESTS, "Too Many Failed Login Attempts, Try Again Later"),
+
   SEND_EMAIL_FAILED(5001, INTERNAL_SERVER_ERROR, "Failed To Send An Email"),
   FAILED_MULTIPART_CONVERTING(
       5002, INTERNAL_SERVER_ERROR, "Error Occurred While Converting Multipart File To File"),
@@ -85,7 +96,10 @@ public enum Error {
   FAILED_BULK_DOCUMENT(
       50013, INTERNAL_SERVER_ERROR, "Error Occurred While Adding Data To OpenSearch Index"),
   FAILED_SEARCH(
-      50014, INTERNAL_SERVER_ERROR, "Error Occurred While Performing Search In OpenSearch");
+      50014, INTERNAL_SERVER_ERROR, "Error Occurred While Performing Search In OpenSearch"),
+
+  PASSWORD_HASHING_UNAVAILABLE(
+      5031, SERVICE_UNAVAILABLE, "Too Many Authentication Requests, Try Again Later");
 
   private final Integer code;
   private final HttpStatus httpStatus;
@@ -6,6 +6,9 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +19,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+@Slf4j
 @ControllerAdvice
 public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 
@@ -43,7 +47,26 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 
   @ExceptionHandler({BaseException.class})
   public ResponseEntity<ApiError> handleIllegalArgument(BaseException ex) {
-    Error error = ex.getError();
+    return toResponse(ex.getError());
+  }
+
+  /**
+   * Uniqueness isn't checked before writes, so the violation of a unique constraint is reported as
+   * the corresponding application error. Other violations are reported as an invalid input.
+   */
+  @ExceptionHandler({DataIntegrityViolationException.class})
+  public ResponseEntity<ApiError> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+    Error error =
+        UniqueConstraint.translate(ex).map(BaseException::getError).orElse(CONSTRAINT_VIOLATION);
+    log.warn(
+        "Data integrity violated, responding with {}: {}",
+        error,
+        NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+
+    return toResponse(error);
+  }
+
+  private ResponseEntity<ApiError> toResponse(Error error) {
     ApiError apiError =
         new ApiError(error.getHttpStatus(), error.getCode(), Instant.now(), error.getMessage());
 
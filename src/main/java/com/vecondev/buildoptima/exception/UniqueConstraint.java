@@ -0,0 +1,76 @@
+package com.vecondev.buildoptima.exception;
+
+import static com.vecondev.buildoptima.exception.Error.FAQ_CATEGORY_ALREADY_EXIST;
+import static com.vecondev.buildoptima.exception.Error.FAQ_QUESTION_ALREADY_EXIST;
+import static com.vecondev.buildoptima.exception.Error.USER_ALREADY_EXIST_WITH_EMAIL;
+import static com.vecondev.buildoptima.exception.Error.USER_ALREADY_EXIST_WITH_PHONE;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+
+/**
+ * Unique constraints of the database that are checked only by the database itself. Violating one
+ * of them is translated to the corresponding application error instead of checking the uniqueness
+ * with a query before every write.
+ */
+public enum UniqueConstraint {
+  USER_EMAIL(
+      USER_ALREADY_EXIST_WITH_EMAIL,
+      UserAlreadyExistException::new,
+      "users_email_lower_uindex",
+      "users_email_key"),
+  USER_PHONE(USER_ALREADY_EXIST_WITH_PHONE, UserAlreadyExistException::new, "users_phone_key"),
+  FAQ_CATEGORY_NAME(
+      FAQ_CATEGORY_ALREADY_EXIST,
+      FaqCategoryAlreadyExistException::new,
+      "faq_category_name_lower_uindex"),
+  FAQ_QUESTION_CONTENT(
+      FAQ_QUESTION_ALREADY_EXIST,
+      FaqQuestionAlreadyExistException::new,
+      "faq_question_question_lower_uindex");
+
+  private final Error error;
+  private final Function<Error, BaseException> exceptionFactory;
+  private final List<String> names;
+
+  UniqueConstraint(
+      Error error, Function<Error, BaseException> exceptionFactory, String... names) {
+    this.error = error;
+    this.exceptionFactory = exceptionFactory;
+    this.names = List.of(names);
+  }
+
+  /**
+   * Translates the violation of a known unique constraint to the application exception. Some
+   * dialects report the constraint name with the violating values, so the name is searched in the
+   * reported one.
+   */
+  public static Optional<BaseException> translate(Throwable ex) {
+    String violated = violatedConstraintOf(ex);
+    if (violated == null) {
+      return Optional.empty();
+    }
+
+    String lowerCaseViolated = violated.toLowerCase(Locale.ROOT);
+    return Arrays.stream(values())
+        .filter(constraint -> constraint.names.stream().anyMatch(lowerCaseViolated::contains))
+        .findFirst()
+        .map(constraint -> constraint.exceptionFactory.apply(constraint.error));
+  }
+
+  private static String violatedConstraintOf(Throwable ex) {
+    for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConstraintViolationException violation
+          && violation.getConstraintName() != null) {
+        return violation.getConstraintName();
+      }
+    }
+
+    return NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+  }
+}
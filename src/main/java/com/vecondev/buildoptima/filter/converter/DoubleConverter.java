@@ -0,0 +1,19 @@
+package com.vecondev.buildoptima.filter.converter;
+
+import static com.vecondev.buildoptima.exception.Error.INVALID_NUMBER;
+
+import com.vecondev.buildoptima.exception.InvalidFieldException;
+import lombok.NonNull;
+import org.springframework.core.convert.converter.Converter;
+
+public class DoubleConverter implements Converter<String, Double> {
+
+  @Override
+  public Double convert(@NonNull String number) {
+    try {
+      return Double.valueOf(number.trim());
+    } catch (NumberFormatException ex) {
+      throw new InvalidFieldException(INVALID_NUMBER);
+    }
+  }
+}
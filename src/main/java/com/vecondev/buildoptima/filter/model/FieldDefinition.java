@@ -1,7 +1,10 @@
 package com.vecondev.buildoptima.filter.model;
 
+import com.vecondev.buildoptima.filter.converter.SingleCriteriaConverter;
 import java.util.function.Function;
+import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import org.springframework.core.convert.converter.Converter;
 
@@ -63,4 +66,10 @@ public class FieldDefinition<T, Y extends Comparable<Y>> {
   public Y convertValue(String s) {
     return converter.convert(s);
   }
+
+  /** Compares the entity field with the criteria value, definitions of other fields override it. */
+  public Predicate toPredicate(
+      Root<T> root, CriteriaBuilder builder, SearchOperation operation, Criteria criteria) {
+    return SingleCriteriaConverter.toPredicate(root, builder, operation, criteria, this);
+  }
 }
@@ -19,7 +19,8 @@ public enum FieldType {
   LONG(Set.of(GT, GE, EQ, LE, LT, IN, NE)),
   BOOLEAN(Set.of(EQ, NE)),
   DATE(Set.of(GT, GE, EQ, LE, LT, IN, NE)),
-  DATETIME(Set.of(GT, GE, EQ, LE, LT, IN, NE));
+  DATETIME(Set.of(GT, GE, EQ, LE, LT, IN, NE)),
+  ARRAY(Set.of(EQ, IN, NE));
 
   private final Set<SearchOperation> operations;
 
@@ -0,0 +1,72 @@
+package com.vecondev.buildoptima.filter.model;
+
+import static com.vecondev.buildoptima.config.JsonbFunctionContributor.JSONB_CONTAINS;
+import static com.vecondev.buildoptima.exception.Error.INVALID_FIELD;
+import static com.vecondev.buildoptima.exception.Error.INVALID_FILTER_STRUCTURE;
+import static com.vecondev.buildoptima.filter.model.FieldType.ARRAY;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.vecondev.buildoptima.exception.InvalidFieldException;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+/**
+ * A string array nested in a jsonb column. A value is matched by whether the column contains a
+ * document with just that value at the path, so the GIN index of the column can be used.
+ */
+public class JsonbArrayFieldDefinition<T> extends FieldDefinition<T, String> {
+
+  private final String[] path;
+
+  public JsonbArrayFieldDefinition(
+      String searchParamName, String entityFieldName, String... path) {
+    super(searchParamName, ARRAY, entityFieldName);
+    this.path = path;
+  }
+
+  @Override
+  public Predicate toPredicate(
+      Root<T> root, CriteriaBuilder builder, SearchOperation operation, Criteria criteria) {
+    if (!ARRAY.getOperations().contains(operation)) {
+      throw new InvalidFieldException(INVALID_FIELD);
+    }
+
+    if (operation == SearchOperation.IN) {
+      if (criteria.getValues() == null) {
+        throw new InvalidFieldException(INVALID_FILTER_STRUCTURE);
+      }
+      return builder.or(
+          criteria.getValues().stream()
+              .map(value -> contains(root, builder, value))
+              .toArray(Predicate[]::new));
+    }
+
+    if (criteria.getValue() == null) {
+      throw new InvalidFieldException(INVALID_FILTER_STRUCTURE);
+    }
+    Predicate contains = contains(root, builder, criteria.getValue());
+    return operation == SearchOperation.EQ ? contains : builder.not(contains);
+  }
+
+  private Predicate contains(Root<T> root, CriteriaBuilder builder, String value) {
+    return builder.isTrue(
+        builder.function(
+            JSONB_CONTAINS,
+            Boolean.class,
+            root.get(getEntityFieldName()),
+            builder.literal(document(value))));
+  }
+
+  /** Builds the smallest document containing the value, e.g. {"a":{"b":["value"]}}. */
+  private String document(String value) {
+    ObjectNode document = JsonNodeFactory.instance.objectNode();
+    ObjectNode parent = document;
+    for (int i = 0; i < path.length - 1; i++) {
+      parent = parent.putObject(path[i]);
+    }
+    parent.putArray(path[path.length - 1]).add(value);
+    return document.toString();
+  }
+}
@@ -0,0 +1,76 @@
+package com.vecondev.buildoptima.filter.model;
+
+import static com.vecondev.buildoptima.filter.model.FieldType.ARRAY;
+import static com.vecondev.buildoptima.filter.model.FieldType.DATETIME;
+import static com.vecondev.buildoptima.filter.model.FieldType.DOUBLE;
+import static com.vecondev.buildoptima.filter.model.FieldType.LONG;
+import static com.vecondev.buildoptima.filter.model.FieldType.STRING;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+import com.vecondev.buildoptima.filter.converter.DoubleConverter;
+import com.vecondev.buildoptima.filter.converter.InstantConverter;
+import com.vecondev.buildoptima.filter.converter.IntegerConverter;
+import com.vecondev.buildoptima.model.property.Property;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * The json attributes are read from the columns the database generates out of the json, so they
+ * are compared and sorted like any other column. Arrays are matched inside the json itself.
+ */
+public class PropertyFields {
+
+  public static final Map<String, FieldDefinition<Property, ?>> propertyPageSortingFieldsMap;
+
+  /** The fields properties can be sorted by, the arrays can only be filtered on. */
+  public static final Map<String, FieldDefinition<Property, ?>> propertySortingFieldsMap;
+
+  private static final String AIN = "ain";
+  private static final String MUNICIPALITY = "municipality";
+  private static final String LOT_AREA = "lotArea";
+  private static final String YEAR_BUILT = "yearBuilt";
+  private static final String NEAR_ACTIVE_FAULT_DISTANCE = "nearActiveFaultDistance";
+  private static final String FIRE_HAZARD_ZONE = "fireHazardZone";
+  private static final String FIRE_BRUSH_CLEARANCE_ZONE = "fireBrushClearanceZone";
+  private static final String ZONE_CODES = "zoneCodes";
+  private static final String CREATED_AT = "createdAt";
+  private static final String UPDATED_AT = "updatedAt";
+
+  static {
+    propertyPageSortingFieldsMap =
+        Map.of(
+            AIN,
+            new FieldDefinition<Property, String>(AIN, STRING, AIN),
+            MUNICIPALITY,
+            new FieldDefinition<Property, String>(MUNICIPALITY, STRING, MUNICIPALITY),
+            LOT_AREA,
+            new FieldDefinition<>(LOT_AREA, DOUBLE, LOT_AREA, new DoubleConverter()),
+            YEAR_BUILT,
+            new FieldDefinition<>(YEAR_BUILT, LONG, YEAR_BUILT, new IntegerConverter()),
+            NEAR_ACTIVE_FAULT_DISTANCE,
+            new FieldDefinition<>(
+                NEAR_ACTIVE_FAULT_DISTANCE,
+                LONG,
+                NEAR_ACTIVE_FAULT_DISTANCE,
+                new IntegerConverter()),
+            FIRE_HAZARD_ZONE,
+            new FieldDefinition<Property, String>(FIRE_HAZARD_ZONE, STRING, FIRE_HAZARD_ZONE),
+            FIRE_BRUSH_CLEARANCE_ZONE,
+            new FieldDefinition<Property, String>(
+                FIRE_BRUSH_CLEARANCE_ZONE, STRING, FIRE_BRUSH_CLEARANCE_ZONE),
+            ZONE_CODES,
+            new JsonbArrayFieldDefinition<Property>(
+                ZONE_CODES, "zoningDetails", "generalInformation", ZONE_CODES),
+            CREATED_AT,
+            new FieldDefinition<>(CREATED_AT, DATETIME, CREATED_AT, new InstantConverter()),
+            UPDATED_AT,
+            new FieldDefinition<>(UPDATED_AT, DATETIME, UPDATED_AT, new InstantConverter()));
+
+    propertySortingFieldsMap =
+        propertyPageSortingFieldsMap.entrySet().stream()
+            .filter(entry -> entry.getValue().getType() != ARRAY)
+            .collect(toUnmodifiableMap(Entry::getKey, Entry::getValue));
+  }
+
+  private PropertyFields() {}
+}
@@ -0,0 +1,9 @@
+package com.vecondev.buildoptima.filter.model;
+
+public enum PropertyStatsDimension {
+  MUNICIPALITY,
+  ZONE_CODE,
+  FIRE_HAZARD_ZONE,
+  FIRE_BRUSH_CLEARANCE_ZONE,
+  YEAR_BUILT_DECADE;
+}
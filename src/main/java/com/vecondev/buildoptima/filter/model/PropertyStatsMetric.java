@@ -0,0 +1,7 @@
+package com.vecondev.buildoptima.filter.model;
+
+public enum PropertyStatsMetric {
+  LOT_AREA,
+  YEAR_BUILT,
+  NEAR_ACTIVE_FAULT_DISTANCE;
+}
@@ -0,0 +1,38 @@
+package com.vecondev.buildoptima.filter.model;
+
+import static com.vecondev.buildoptima.filter.model.FieldType.DATETIME;
+import static com.vecondev.buildoptima.filter.model.FieldType.DOUBLE;
+import static com.vecondev.buildoptima.filter.model.FieldType.STRING;
+
+import com.vecondev.buildoptima.filter.converter.DoubleConverter;
+import com.vecondev.buildoptima.filter.converter.InstantConverter;
+import com.vecondev.buildoptima.model.property.PropertySummary;
+import java.util.Map;
+
+public class PropertySummaryFields {
+
+  public static final Map<String, FieldDefinition<PropertySummary, ?>>
+      propertySummaryPageSortingFieldsMap;
+  private static final String AIN = "ain";
+  private static final String MUNICIPALITY = "municipality";
+  private static final String ADDRESS = "address";
+  private static final String LOT_AREA = "lotArea";
+  private static final String UPDATED_AT = "updatedAt";
+
+  static {
+    propertySummaryPageSortingFieldsMap =
+        Map.of(
+            AIN,
+            new FieldDefinition<PropertySummary, String>(AIN, STRING, AIN),
+            MUNICIPALITY,
+            new FieldDefinition<PropertySummary, String>(MUNICIPALITY, STRING, MUNICIPALITY),
+            ADDRESS,
+            new FieldDefinition<PropertySummary, String>(ADDRESS, STRING, ADDRESS),
+            LOT_AREA,
+            new FieldDefinition<>(LOT_AREA, DOUBLE, LOT_AREA, new DoubleConverter()),
+            UPDATED_AT,
+            new FieldDefinition<>(UPDATED_AT, DATETIME, UPDATED_AT, new InstantConverter()));
+  }
+
+  private PropertySummaryFields() {}
+}
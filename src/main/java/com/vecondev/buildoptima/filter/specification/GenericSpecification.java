@@ -8,7 +8,6 @@ import static com.vecondev.buildoptima.filter.model.FilterConstants.VALUE;
 import static com.vecondev.buildoptima.filter.model.FilterConstants.VALUES;
 
 import com.vecondev.buildoptima.exception.InvalidFieldException;
-import com.vecondev.buildoptima.filter.converter.SingleCriteriaConverter;
 import com.vecondev.buildoptima.filter.model.Criteria;
 import com.vecondev.buildoptima.filter.model.FieldDefinition;
 import com.vecondev.buildoptima.filter.model.SearchOperation;
@@ -73,8 +72,9 @@ public class GenericSpecification<T> implements Specification<T> {
         throw new InvalidFieldException(INVALID_FIELD);
       }
 
-      return SingleCriteriaConverter.toPredicate(
-          root, builder, searchOperation, criteria, fieldDefinitionMap.get(criteria.getName()));
+      return fieldDefinitionMap
+          .get(criteria.getName())
+          .toPredicate(root, builder, searchOperation, criteria);
     } else if (filter.get(OR) != null) {
       List<HashMap<String, Object>> values = (ArrayList) filter.get("or");
       return builder.or(
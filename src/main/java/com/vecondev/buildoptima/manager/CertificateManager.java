@@ -7,7 +7,10 @@ import com.vecondev.buildoptima.config.properties.SecretsManagerConfigProperties
 import com.vecondev.buildoptima.exception.KeypairException;
 import java.security.KeyFactory;
 import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateCrtKey;
 import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.bouncycastle.util.encoders.Base64;
@@ -31,4 +34,15 @@ public class CertificateManager {
       throw new KeypairException(FAILED_KEY_READ);
     }
   }
+
+  /** The public key is derived from the CRT parameters of the RSA private key. */
+  public PublicKey publicKey(PrivateKey privateKey) {
+    try {
+      RSAPrivateCrtKey crtKey = (RSAPrivateCrtKey) privateKey;
+      return KeyFactory.getInstance(jwtConfigProperties.getSignatureAlgorithm().getFamilyName())
+          .generatePublic(new RSAPublicKeySpec(crtKey.getModulus(), crtKey.getPublicExponent()));
+    } catch (Exception ex) {
+      throw new KeypairException(FAILED_KEY_READ);
+    }
+  }
 }
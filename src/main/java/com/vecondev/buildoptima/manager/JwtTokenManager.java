@@ -1,13 +1,32 @@
 package com.vecondev.buildoptima.manager;
 
+import static com.vecondev.buildoptima.exception.Error.ACCESS_TOKEN_EXPIRED;
+import static com.vecondev.buildoptima.exception.Error.INVALID_ACCESS_TOKEN;
+
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.vecondev.buildoptima.config.properties.JwtConfigProperties;
+import com.vecondev.buildoptima.exception.AuthenticationException;
+import com.vecondev.buildoptima.model.user.Role;
 import com.vecondev.buildoptima.model.user.User;
+import java.security.PrivateKey;
 import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,34 +40,119 @@ public class JwtTokenManager {
 
   private static final String USER_ID = "user_id";
   private static final String AUTHORITIES = "authorities";
+
+  /** Shared instances of every authority a role grants, looked up instead of allocated. */
+  private static final Map<String, SimpleGrantedAuthority> KNOWN_AUTHORITIES =
+      Arrays.stream(Role.values())
+          .flatMap(role -> role.getAuthorities().stream())
+          .collect(
+              Collectors.toUnmodifiableMap(
+                  SimpleGrantedAuthority::getAuthority, Function.identity(), (a, b) -> a));
+
   private final CertificateManager certificateManager;
   private final JwtConfigProperties jwtConfigProperties;
   private Algorithm algorithm;
+  private JWTVerifier verifier;
   private Integer accessTokenValidity;
+  private Cache<IssuedTokenKey, IssuedToken> issuedTokens;
 
+  /** The keys are parsed once, the algorithm and the verifier are thread-safe and shared. */
   @PostConstruct
   private void init() {
     accessTokenValidity = jwtConfigProperties.getAccessToken().getValidity();
-    algorithm = Algorithm.RSA256((RSAPrivateKey) certificateManager.privateKey());
+    PrivateKey privateKey = certificateManager.privateKey();
+    algorithm =
+        Algorithm.RSA256(
+            (RSAPublicKey) certificateManager.publicKey(privateKey), (RSAPrivateKey) privateKey);
+    verifier = JWT.require(algorithm).withIssuer(jwtConfigProperties.getIssuer()).build();
+    issuedTokens =
+        Caffeine.newBuilder()
+            .maximumSize(jwtConfigProperties.getAccessToken().getReuseCacheMaximumSize())
+            .expireAfterWrite(jwtConfigProperties.getAccessToken().getReuseWindow())
+            .build();
   }
 
   public String generateAccessToken(User user) {
+    return generateAccessToken(user.getId(), user.getEmail(), user.getRole());
+  }
+
+  private String generateAccessToken(UUID userId, String email, Role role) {
     log.info("Just created a new access token with {} minutes validity", accessTokenValidity);
     return JWT.create()
-        .withSubject(user.getEmail())
-        .withClaim(USER_ID, user.getId().toString())
-        .withClaim(AUTHORITIES, authoritiesAsString(user.getRole().getAuthorities()))
+        .withSubject(email)
+        .withClaim(USER_ID, userId.toString())
+        .withClaim(AUTHORITIES, authoritiesAsString(role.getAuthorities()))
         .withIssuer(jwtConfigProperties.getIssuer())
         .withIssuedAt(Instant.now())
         .withExpiresAt(Instant.now().plus(accessTokenValidity, ChronoUnit.MINUTES))
         .sign(algorithm);
   }
 
+  /**
+   * Returns the access token issued to the same user and role within the reuse window, so the
+   * refreshes following each other don't pay for an RSA signature each. A token issued for
+   * another email isn't reused.
+   */
+  public String getOrGenerateAccessToken(UUID userId, String email, Role role) {
+    IssuedTokenKey key = new IssuedTokenKey(userId, role);
+    IssuedToken issued = issuedTokens.getIfPresent(key);
+    if (issued != null && issued.email().equals(email)) {
+      return issued.token();
+    }
+
+    String token = generateAccessToken(userId, email, role);
+    issuedTokens.put(key, new IssuedToken(email, token));
+    return token;
+  }
+
+  public DecodedJWT verifyAccessToken(String token) {
+    try {
+      DecodedJWT jwt = verifier.verify(token);
+      if (jwt.getClaim(USER_ID).isNull()
+          || jwt.getSubject() == null
+          || jwt.getClaim(AUTHORITIES).isNull()
+          || jwt.getExpiresAt() == null) {
+        throw new AuthenticationException(INVALID_ACCESS_TOKEN);
+      }
+
+      return jwt;
+    } catch (TokenExpiredException ex) {
+      throw new AuthenticationException(ACCESS_TOKEN_EXPIRED);
+    } catch (JWTVerificationException ex) {
+      throw new AuthenticationException(INVALID_ACCESS_TOKEN);
+    }
+  }
+
+  public UUID userIdFrom(DecodedJWT jwt) {
+    try {
+      return UUID.fromString(jwt.getClaim(USER_ID).asString());
+    } catch (IllegalArgumentException ex) {
+      throw new AuthenticationException(INVALID_ACCESS_TOKEN);
+    }
+  }
+
+  public List<SimpleGrantedAuthority> authoritiesFrom(DecodedJWT jwt) {
+    try {
+      return authoritiesFromString(jwt.getClaim(AUTHORITIES).asList(String.class));
+    } catch (JWTDecodeException ex) {
+      throw new AuthenticationException(INVALID_ACCESS_TOKEN);
+    }
+  }
+
   public List<SimpleGrantedAuthority> authoritiesFromString(List<String> authorities) {
-    return authorities.stream().map(SimpleGrantedAuthority::new).toList();
+    return authorities.stream().map(JwtTokenManager::authorityOf).toList();
+  }
+
+  private static SimpleGrantedAuthority authorityOf(String authority) {
+    SimpleGrantedAuthority known = KNOWN_AUTHORITIES.get(authority);
+    return known != null ? known : new SimpleGrantedAuthority(authority);
   }
 
   public List<String> authoritiesAsString(List<SimpleGrantedAuthority> authorities) {
     return authorities.stream().map(SimpleGrantedAuthority::getAuthority).toList();
   }
+
+  private record IssuedTokenKey(UUID userId, Role role) {}
+
+  private record IssuedToken(String email, String token) {}
 }
@@ -2,7 +2,6 @@ package com.vecondev.buildoptima.mapper.faq;
 
 import com.vecondev.buildoptima.csv.faq.FaqCategoryRecord;
 import com.vecondev.buildoptima.dto.EntityOverview;
-import com.vecondev.buildoptima.dto.Metadata;
 import com.vecondev.buildoptima.dto.faq.request.FaqCategoryRequestDto;
 import com.vecondev.buildoptima.dto.faq.response.FaqCategoryResponseDto;
 import com.vecondev.buildoptima.mapper.faq.decorator.FaqCategoryMapperDecorator;
@@ -35,8 +34,6 @@ public interface FaqCategoryMapper {
   @Mapping(target = "updatedBy", ignore = true)
   FaqCategoryRecord mapToRecord(FaqCategory faqCategory);
 
-  Metadata getMetadata(FaqCategory category, Long allActiveCount, Long allArchivedCount);
-
   default List<FaqCategoryRecord> mapToRecordList(List<FaqCategory> faqCategories) {
     return faqCategories.stream().map(this::mapToRecord).toList();
   }
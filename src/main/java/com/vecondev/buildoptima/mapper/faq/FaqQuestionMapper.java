@@ -1,7 +1,6 @@
 package com.vecondev.buildoptima.mapper.faq;
 
 import com.vecondev.buildoptima.csv.faq.FaqQuestionRecord;
-import com.vecondev.buildoptima.dto.Metadata;
 import com.vecondev.buildoptima.dto.faq.request.FaqQuestionRequestDto;
 import com.vecondev.buildoptima.dto.faq.response.FaqQuestionResponseDto;
 import com.vecondev.buildoptima.mapper.faq.decorator.FaqQuestionMapperDecorator;
@@ -34,8 +33,6 @@ public interface FaqQuestionMapper {
   @Mapping(target = "category", ignore = true)
   FaqQuestionRecord mapToRecord(FaqQuestion faqQuestion);
 
-  Metadata getMetadata(FaqQuestion question, Long allActiveCount, Long allArchivedCount);
-
   default List<FaqQuestionRecord> mapToRecordList(List<FaqQuestion> faqQuestions) {
     return faqQuestions.stream().map(this::mapToRecord).toList();
   }
@@ -2,7 +2,6 @@ package com.vecondev.buildoptima.mapper.faq.decorator;
 
 import com.vecondev.buildoptima.csv.faq.FaqCategoryRecord;
 import com.vecondev.buildoptima.dto.EntityOverview;
-import com.vecondev.buildoptima.dto.Metadata;
 import com.vecondev.buildoptima.dto.faq.request.FaqCategoryRequestDto;
 import com.vecondev.buildoptima.dto.faq.response.FaqCategoryResponseDto;
 import com.vecondev.buildoptima.mapper.faq.FaqCategoryMapper;
@@ -60,12 +59,4 @@ public abstract class FaqCategoryMapperDecorator implements FaqCategoryMapper {
         .updatedBy(faqCategory.getUpdatedBy().getFullName())
         .build();
   }
-
-  @Override
-  public Metadata getMetadata(FaqCategory category, Long allActiveCount, Long allArchivedCount) {
-    return faqCategoryMapper.getMetadata(category, allActiveCount, allArchivedCount).toBuilder()
-        .lastUpdatedAt(category.getUpdatedAt())
-        .lastUpdatedBy(userMapper.mapToOverview(category.getUpdatedBy()))
-        .build();
-  }
 }
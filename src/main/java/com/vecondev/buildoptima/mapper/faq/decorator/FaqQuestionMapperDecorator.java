@@ -1,7 +1,6 @@
 package com.vecondev.buildoptima.mapper.faq.decorator;
 
 import com.vecondev.buildoptima.csv.faq.FaqQuestionRecord;
-import com.vecondev.buildoptima.dto.Metadata;
 import com.vecondev.buildoptima.dto.faq.request.FaqQuestionRequestDto;
 import com.vecondev.buildoptima.dto.faq.response.FaqQuestionResponseDto;
 import com.vecondev.buildoptima.mapper.faq.FaqCategoryMapper;
@@ -60,12 +59,4 @@ public abstract class FaqQuestionMapperDecorator implements FaqQuestionMapper {
         .category(faqQuestion.getCategory().getName())
         .build();
   }
-
-  @Override
-  public Metadata getMetadata(FaqQuestion question, Long allActiveCount, Long allArchivedCount) {
-    return faqQuestionMapper.getMetadata(question, allActiveCount, allArchivedCount).toBuilder()
-        .lastUpdatedAt(question.getUpdatedAt())
-        .lastUpdatedBy(userMapper.mapToOverview(question.getUpdatedBy()))
-        .build();
-  }
 }
@@ -2,6 +2,7 @@ package com.vecondev.buildoptima.mapper.news;
 
 import com.vecondev.buildoptima.csv.news.NewsRecord;
 import com.vecondev.buildoptima.dto.news.request.NewsCreateRequestDto;
+import com.vecondev.buildoptima.dto.news.request.NewsItemRequestDto;
 import com.vecondev.buildoptima.dto.news.response.NewsResponseDto;
 import com.vecondev.buildoptima.model.news.News;
 import com.vecondev.buildoptima.model.user.User;
@@ -20,6 +21,9 @@ public interface NewsMapper {
   @Mapping(target = "keywords", ignore = true)
   News mapToEntity(NewsCreateRequestDto dto, @Context User createdBy);
 
+  @Mapping(target = "keywords", ignore = true)
+  News mapToEntity(NewsItemRequestDto dto, @Context User createdBy);
+
   @Mapping(target = "keywords", ignore = true)
   @Mapping(target = "updatedBy", ignore = true)
   @Mapping(target = "createdBy", ignore = true)
@@ -2,6 +2,7 @@ package com.vecondev.buildoptima.mapper.news;
 
 import com.vecondev.buildoptima.csv.news.NewsRecord;
 import com.vecondev.buildoptima.dto.news.request.NewsCreateRequestDto;
+import com.vecondev.buildoptima.dto.news.request.NewsItemRequestDto;
 import com.vecondev.buildoptima.dto.news.response.NewsResponseDto;
 import com.vecondev.buildoptima.mapper.user.UserMapper;
 import com.vecondev.buildoptima.model.Status;
@@ -26,18 +27,14 @@ public abstract class NewsMapperDecorator implements NewsMapper {
 
   @Override
   public News mapToEntity(NewsCreateRequestDto dto, User createdBy) {
-    News news =
-        mapper.mapToEntity(dto, createdBy).toBuilder()
-            .category(NewsCategory.valueOf(dto.getCategory()))
-            .status(Status.ACTIVE)
-            .createdBy(createdBy.getId())
-            .updatedBy(createdBy.getId())
-            .imageVersion(0)
-            .build();
-    StringBuilder keywords = new StringBuilder();
-    dto.getKeywords().forEach(keyword -> keywords.append(keyword).append(" "));
-    news.setKeywords(keywords.toString());
-    return news;
+    return toNewItem(
+        mapper.mapToEntity(dto, createdBy), dto.getCategory(), dto.getKeywords(), createdBy);
+  }
+
+  @Override
+  public News mapToEntity(NewsItemRequestDto dto, User createdBy) {
+    return toNewItem(
+        mapper.mapToEntity(dto, createdBy), dto.getCategory(), dto.getKeywords(), createdBy);
   }
 
   @Override
@@ -75,4 +72,21 @@ public abstract class NewsMapperDecorator implements NewsMapper {
   public List<NewsRecord> mapToNewsRecordList(List<News> news) {
     return news.stream().map(this::mapToRecord).toList();
   }
+
+  private News toNewItem(News news, String category, List<String> keywords, User createdBy) {
+    News newItem =
+        news.toBuilder()
+            .category(NewsCategory.valueOf(category))
+            .status(Status.ACTIVE)
+            .createdBy(createdBy.getId())
+            .updatedBy(createdBy.getId())
+            .imageVersion(0)
+            .build();
+    StringBuilder keywordsAsString = new StringBuilder();
+    if (keywords != null) {
+      keywords.forEach(keyword -> keywordsAsString.append(keyword).append(" "));
+    }
+    newItem.setKeywords(keywordsAsString.toString());
+    return newItem;
+  }
 }
@@ -0,0 +1,15 @@
+package com.vecondev.buildoptima.mapper.property;
+
+import com.vecondev.buildoptima.dto.property.response.PropertyChangeResponseDto;
+import com.vecondev.buildoptima.model.property.PropertyChange;
+import java.util.List;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface PropertyChangeMapper {
+
+  PropertyChangeResponseDto mapToResponseDto(PropertyChange change);
+
+  List<PropertyChangeResponseDto> mapToResponseList(List<PropertyChange> changes);
+}
@@ -13,6 +13,8 @@ import org.mapstruct.ReportingPolicy;
 public interface PropertyMapper {
 
   @Mapping(target = "locations", ignore = true)
+  @Mapping(target = "polygons", ignore = true)
+  @Mapping(target = "decodedPolygons", ignore = true)
   Property mapToEntity(PropertyReadDto dto);
 
   @Mapping(target = "addresses", ignore = true)
@@ -0,0 +1,15 @@
+package com.vecondev.buildoptima.mapper.property;
+
+import com.vecondev.buildoptima.dto.property.response.PropertySummaryResponseDto;
+import com.vecondev.buildoptima.model.property.PropertySummary;
+import java.util.List;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface PropertySummaryMapper {
+
+  PropertySummaryResponseDto mapToResponseDto(PropertySummary summary);
+
+  List<PropertySummaryResponseDto> mapToResponseList(List<PropertySummary> summaries);
+}
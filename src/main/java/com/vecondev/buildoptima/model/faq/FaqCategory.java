@@ -6,7 +6,10 @@ import java.time.Instant;
 import java.util.UUID;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,14 +23,28 @@ import lombok.Setter;
 @Setter
 @Entity
 @Table(name = "faq_category")
+@NamedEntityGraph(
+    name = FaqCategory.OVERVIEW_GRAPH,
+    attributeNodes = @NamedAttributeNode("updatedBy"))
+@NamedEntityGraph(
+    name = FaqCategory.RECORD_GRAPH,
+    attributeNodes = {@NamedAttributeNode("createdBy"), @NamedAttributeNode("updatedBy")})
 public class FaqCategory extends AbstractEntity {
 
+  /** Associations needed to build a response dto. */
+  public static final String OVERVIEW_GRAPH = "FaqCategory.overview";
+
+  /** Associations needed to build a csv record. */
+  public static final String RECORD_GRAPH = "FaqCategory.record";
+
   @Column(name = "name")
   private String name;
 
-  @ManyToOne private User createdBy;
+  @ManyToOne(fetch = FetchType.LAZY)
+  private User createdBy;
 
-  @ManyToOne private User updatedBy;
+  @ManyToOne(fetch = FetchType.LAZY)
+  private User updatedBy;
 
   @Builder(toBuilder = true)
   public FaqCategory(
@@ -9,7 +9,10 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,8 +26,24 @@ import lombok.Setter;
 @Setter
 @Entity
 @Table(name = "faq_question")
+@NamedEntityGraph(
+    name = FaqQuestion.OVERVIEW_GRAPH,
+    attributeNodes = {@NamedAttributeNode("category"), @NamedAttributeNode("updatedBy")})
+@NamedEntityGraph(
+    name = FaqQuestion.RECORD_GRAPH,
+    attributeNodes = {
+      @NamedAttributeNode("category"),
+      @NamedAttributeNode("createdBy"),
+      @NamedAttributeNode("updatedBy")
+    })
 public class FaqQuestion extends AbstractEntity {
 
+  /** Associations needed to build a response dto. */
+  public static final String OVERVIEW_GRAPH = "FaqQuestion.overview";
+
+  /** Associations needed to build a csv record. */
+  public static final String RECORD_GRAPH = "FaqQuestion.record";
+
   @Column(name = "question")
   private String question;
 
@@ -35,11 +54,14 @@ public class FaqQuestion extends AbstractEntity {
   @Column(name = "status")
   private Status status;
 
-  @ManyToOne private FaqCategory category;
+  @ManyToOne(fetch = FetchType.LAZY)
+  private FaqCategory category;
 
-  @ManyToOne private User createdBy;
+  @ManyToOne(fetch = FetchType.LAZY)
+  private User createdBy;
 
-  @ManyToOne private User updatedBy;
+  @ManyToOne(fetch = FetchType.LAZY)
+  private User updatedBy;
 
   @Builder(toBuilder = true)
   public FaqQuestion(
@@ -0,0 +1,29 @@
+package com.vecondev.buildoptima.model.housekeeping;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** A lease one instance holds while running a housekeeping job, so the others skip the run. */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "housekeeping_lease")
+public class HousekeepingLease {
+
+  @Id
+  @Column(name = "name")
+  private String name;
+
+  @Column(name = "locked_by")
+  private String lockedBy;
+
+  @Column(name = "locked_until", nullable = false)
+  private LocalDateTime lockedUntil;
+}
@@ -0,0 +1,49 @@
+package com.vecondev.buildoptima.model.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+
+/**
+ * A mail queue message written in the transaction that caused it and sent to SQS by the relay
+ * after that transaction has committed.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "mail_outbox")
+public class MailOutboxMessage {
+
+  @Id
+  @GeneratedValue(generator = "UUID")
+  @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+  private UUID id;
+
+  @Column(name = "body", nullable = false)
+  private String body;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "attempts", nullable = false)
+  private Integer attempts;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  public MailOutboxMessage(String body, LocalDateTime createdAt) {
+    this.body = body;
+    this.createdAt = createdAt;
+    this.attempts = 0;
+    this.nextAttemptAt = createdAt;
+  }
+}
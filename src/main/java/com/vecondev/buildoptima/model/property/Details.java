@@ -1,5 +1,6 @@
 package com.vecondev.buildoptima.model.property;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.Set;
@@ -18,6 +19,11 @@ public class Details implements Serializable {
   private Set<Building> buildings;
   private Improvements improvements;
 
+  @JsonIgnore
+  public Double getLotArea() {
+    return land != null ? land.getLotArea() : null;
+  }
+
   @Data
   private static class Land implements Serializable {
     @Serial private static final long serialVersionUID = -6801937910816015654L;
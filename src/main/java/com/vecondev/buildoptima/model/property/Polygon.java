@@ -1,29 +1,101 @@
 package com.vecondev.buildoptima.model.property;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.List;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+/**
+ * The vertices are kept in order as packed {@code lat, lng} pairs, they are read from and written
+ * to JSON as {@code {"lat": .., "lng": ..}} objects without creating one per vertex.
+ */
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class Polygon implements Serializable {
 
   @Serial private static final long serialVersionUID = -8786962878612318996L;
-  private Set<Coordinate> coordinates;
-  private Set<EdgesLabel> edgesLabels;
 
-  @Data
-  private static class Coordinate implements Serializable {
-    @Serial private static final long serialVersionUID = -3820613662249072260L;
-    private double lat;
-    private double lng;
-  }
+  @JsonSerialize(using = CoordinatesSerializer.class)
+  @JsonDeserialize(using = CoordinatesDeserializer.class)
+  private double[] coordinates;
+
+  private List<EdgesLabel> edgesLabels;
 
   @Data
-  private static class EdgesLabel implements Serializable {
+  @NoArgsConstructor
+  @AllArgsConstructor
+  static class EdgesLabel implements Serializable {
     @Serial private static final long serialVersionUID = 1631488052944067524L;
     private String label;
     private double lat;
     private double lng;
   }
+
+  static class CoordinatesSerializer extends JsonSerializer<double[]> {
+
+    @Override
+    public void serialize(
+        double[] coordinates, JsonGenerator generator, SerializerProvider provider)
+        throws IOException {
+      generator.writeStartArray();
+      for (int i = 0; i + 1 < coordinates.length; i += 2) {
+        generator.writeStartObject();
+        generator.writeNumberField("lat", coordinates[i]);
+        generator.writeNumberField("lng", coordinates[i + 1]);
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+    }
+  }
+
+  static class CoordinatesDeserializer extends JsonDeserializer<double[]> {
+
+    @Override
+    public double[] deserialize(JsonParser parser, DeserializationContext context)
+        throws IOException {
+      if (!parser.isExpectedStartArrayToken()) {
+        return (double[]) context.handleUnexpectedToken(double[].class, parser);
+      }
+      double[] coordinates = new double[16];
+      int size = 0;
+      JsonToken token;
+      while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+        if (token != JsonToken.START_OBJECT) {
+          parser.skipChildren();
+          continue;
+        }
+        double lat = 0;
+        double lng = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String name = parser.getCurrentName();
+          parser.nextToken();
+          switch (name) {
+            case "lat" -> lat = parser.getValueAsDouble();
+            case "lng" -> lng = parser.getValueAsDouble();
+            default -> parser.skipChildren();
+          }
+        }
+        if (size + 2 > coordinates.length) {
+          coordinates = Arrays.copyOf(coordinates, coordinates.length * 2);
+        }
+        coordinates[size++] = lat;
+        coordinates[size++] = lng;
+      }
+      return Arrays.copyOf(coordinates, size);
+    }
+  }
 }
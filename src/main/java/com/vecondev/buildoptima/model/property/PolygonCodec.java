@@ -0,0 +1,140 @@
+package com.vecondev.buildoptima.model.property;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.vecondev.buildoptima.model.property.Polygon.EdgesLabel;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packs polygons into the bytes stored next to a property. Coordinates are kept as integers of
+ * 1e-7 degree, about a centimeter, each vertex as the zigzag varint of its difference to the
+ * previous one, so neighbouring vertices take a few bytes instead of two doubles.
+ */
+final class PolygonCodec {
+
+  private static final byte VERSION = 1;
+  private static final double SCALE = 1e7;
+
+  private PolygonCodec() {}
+
+  static byte[] encode(List<Polygon> polygons) {
+    if (polygons == null) {
+      return null;
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(VERSION);
+    writeVarint(out, polygons.size());
+    for (Polygon polygon : polygons) {
+      double[] coordinates =
+          polygon.getCoordinates() != null ? polygon.getCoordinates() : new double[0];
+      writeVarint(out, coordinates.length / 2);
+      long previousLat = 0;
+      long previousLng = 0;
+      for (int i = 0; i + 1 < coordinates.length; i += 2) {
+        long lat = Math.round(coordinates[i] * SCALE);
+        long lng = Math.round(coordinates[i + 1] * SCALE);
+        writeVarint(out, zigzag(lat - previousLat));
+        writeVarint(out, zigzag(lng - previousLng));
+        previousLat = lat;
+        previousLng = lng;
+      }
+
+      List<EdgesLabel> labels =
+          polygon.getEdgesLabels() != null ? polygon.getEdgesLabels() : List.of();
+      writeVarint(out, labels.size());
+      for (EdgesLabel label : labels) {
+        if (label.getLabel() == null) {
+          writeVarint(out, 0);
+        } else {
+          byte[] text = label.getLabel().getBytes(UTF_8);
+          writeVarint(out, text.length + 1L);
+          out.writeBytes(text);
+        }
+        writeVarint(out, zigzag(Math.round(label.getLat() * SCALE)));
+        writeVarint(out, zigzag(Math.round(label.getLng() * SCALE)));
+      }
+    }
+    return out.toByteArray();
+  }
+
+  static List<Polygon> decode(byte[] bytes) {
+    Reader in = new Reader(bytes);
+    if (in.readByte() != VERSION) {
+      throw new IllegalStateException("Unknown polygon encoding version");
+    }
+    int polygonCount = (int) in.readVarint();
+    List<Polygon> polygons = new ArrayList<>(polygonCount);
+    for (int p = 0; p < polygonCount; p++) {
+      double[] coordinates = new double[(int) in.readVarint() * 2];
+      long lat = 0;
+      long lng = 0;
+      for (int i = 0; i < coordinates.length; i += 2) {
+        lat += unzigzag(in.readVarint());
+        lng += unzigzag(in.readVarint());
+        coordinates[i] = lat / SCALE;
+        coordinates[i + 1] = lng / SCALE;
+      }
+
+      int labelCount = (int) in.readVarint();
+      List<EdgesLabel> labels = new ArrayList<>(labelCount);
+      for (int l = 0; l < labelCount; l++) {
+        int length = (int) in.readVarint();
+        String text = length == 0 ? null : in.readString(length - 1);
+        labels.add(
+            new EdgesLabel(
+                text, unzigzag(in.readVarint()) / SCALE, unzigzag(in.readVarint()) / SCALE));
+      }
+      polygons.add(new Polygon(coordinates, labels));
+    }
+    return polygons;
+  }
+
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void writeVarint(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static final class Reader {
+
+    private final byte[] bytes;
+    private int position;
+
+    private Reader(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    private byte readByte() {
+      return bytes[position++];
+    }
+
+    private long readVarint() {
+      long value = 0;
+      for (int shift = 0; ; shift += 7) {
+        byte b = bytes[position++];
+        value |= (long) (b & 0x7F) << shift;
+        if (b >= 0) {
+          return value;
+        }
+      }
+    }
+
+    private String readString(int length) {
+      String text = new String(bytes, position, length, UTF_8);
+      position += length;
+      return text;
+    }
+  }
+}
@@ -16,7 +16,9 @@ import javax.persistence.FetchType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import javax.persistence.Version;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -50,10 +52,33 @@ public class Property implements Serializable {
   @JsonBackReference
   private List<Address> addresses;
 
+  /** The centroid, the polygons are in {@link #polygons} unless saved before they were moved. */
+  @Getter(AccessLevel.NONE)
   @Type(type = "jsonb")
   @Column(name = "locations", columnDefinition = "jsonb")
   private Locations locations;
 
+  /** The polygons of {@link #locations} packed by {@link PolygonCodec}. */
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @Column(name = "polygons")
+  private byte[] polygons;
+
+  /** The polygons decoded out of {@link #polygons}, decoded only when the locations are read. */
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @Transient
+  private transient List<Polygon> decodedPolygons;
+
+  /** Copy of the centroid of {@link #locations}, in plain columns so it can be indexed. */
+  @Setter(AccessLevel.NONE)
+  @Column(name = "centroid_lat")
+  private Double centroidLat;
+
+  @Setter(AccessLevel.NONE)
+  @Column(name = "centroid_lng")
+  private Double centroidLng;
+
   @Type(type = "jsonb")
   @Column(name = "details", columnDefinition = "jsonb")
   private Details details;
@@ -66,6 +91,31 @@ public class Property implements Serializable {
   @Column(name = "zoning_details", columnDefinition = "jsonb")
   private ZoningDetails zoningDetails;
 
+  /**
+   * Attributes nested in the json columns that properties are filtered and sorted on. The
+   * database generates them from the json, so they are only read and a saved property keeps the
+   * values it was loaded with.
+   */
+  @Setter(AccessLevel.NONE)
+  @Column(name = "lot_area", insertable = false, updatable = false)
+  private Double lotArea;
+
+  @Setter(AccessLevel.NONE)
+  @Column(name = "year_built", insertable = false, updatable = false)
+  private Integer yearBuilt;
+
+  @Setter(AccessLevel.NONE)
+  @Column(name = "near_active_fault_distance", insertable = false, updatable = false)
+  private Integer nearActiveFaultDistance;
+
+  @Setter(AccessLevel.NONE)
+  @Column(name = "fire_hazard_zone", insertable = false, updatable = false)
+  private String fireHazardZone;
+
+  @Setter(AccessLevel.NONE)
+  @Column(name = "fire_brush_clearance_zone", insertable = false, updatable = false)
+  private String fireBrushClearanceZone;
+
   @Version
   @Column(name = "version", columnDefinition = "integer DEFAULT 0")
   private Integer version;
@@ -85,6 +135,26 @@ public class Property implements Serializable {
     addresses.forEach(address -> address.setProperty(this));
   }
 
+  public Locations getLocations() {
+    if (locations == null || polygons == null) {
+      return locations;
+    }
+    if (decodedPolygons == null) {
+      decodedPolygons = PolygonCodec.decode(polygons);
+    }
+    return new Locations(locations.getCentroid(), decodedPolygons);
+  }
+
+  public void setLocations(Locations locations) {
+    Centroid centroid = locations != null ? locations.getCentroid() : null;
+    this.locations = locations != null ? new Locations(centroid, null) : null;
+    this.polygons = PolygonCodec.encode(locations != null ? locations.getPolygons() : null);
+    // decoded again when read, so they are rounded the way the stored ones are
+    this.decodedPolygons = null;
+    this.centroidLat = centroid != null ? centroid.getLat() : null;
+    this.centroidLng = centroid != null ? centroid.getLng() : null;
+  }
+
   public void removeAddresses(List<Address> addresses) {
     this.addresses.removeAll(addresses);
     addresses.forEach(address -> address.setProperty(null));
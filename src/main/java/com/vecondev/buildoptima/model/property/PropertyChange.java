@@ -0,0 +1,69 @@
+package com.vecondev.buildoptima.model.property;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.Hibernate;
+
+/** An entry of the append-only log of the properties saved by the migration. */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "bo_property_change")
+public class PropertyChange implements Serializable {
+
+  @Serial private static final long serialVersionUID = -4187553208213386017L;
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "sequence", updatable = false, nullable = false)
+  private Long sequence;
+
+  @Column(name = "ain", updatable = false, nullable = false)
+  private String ain;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "op", updatable = false, nullable = false)
+  private PropertyOperation op;
+
+  /** Version of the property saved by the change. */
+  @Column(name = "version", updatable = false, nullable = false)
+  private Integer version;
+
+  @Column(name = "changed_at", updatable = false, nullable = false)
+  private Instant changedAt;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+      return false;
+    }
+    PropertyChange change = (PropertyChange) o;
+    return sequence != null && Objects.equals(sequence, change.sequence);
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
@@ -0,0 +1,6 @@
+package com.vecondev.buildoptima.model.property;
+
+public enum PropertyOperation {
+  CREATE,
+  UPDATE
+}
@@ -0,0 +1,82 @@
+package com.vecondev.buildoptima.model.property;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.UpdateTimestamp;
+
+/**
+ * Narrow copy of a {@link Property} for list views, written by the migration along with the
+ * property. It has no json, so a page of summaries reads nothing of the heavy property columns.
+ */
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "bo_property_summary")
+public class PropertySummary implements Serializable {
+
+  @Serial private static final long serialVersionUID = 2817153379474531164L;
+
+  @Id
+  @Column(name = "ain")
+  private String ain;
+
+  @Column(name = "municipality")
+  private String municipality;
+
+  /** The primary address, or any one if none is primary. */
+  @Column(name = "address")
+  private String address;
+
+  @Column(name = "centroid_lat")
+  private Double centroidLat;
+
+  @Column(name = "centroid_lng")
+  private Double centroidLng;
+
+  @Column(name = "lot_area")
+  private Double lotArea;
+
+  /** The zone codes in alphabetical order, separated by commas. */
+  @Column(name = "zone_codes")
+  private String zoneCodes;
+
+  /** Version of the property the summary was copied from. */
+  @Column(name = "version")
+  private Integer version;
+
+  @UpdateTimestamp
+  @Column(name = "updated_at")
+  private Instant updatedAt;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+      return false;
+    }
+    PropertySummary summary = (PropertySummary) o;
+    return ain != null && Objects.equals(ain, summary.ain);
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
@@ -1,5 +1,6 @@
 package com.vecondev.buildoptima.model.property;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.Set;
@@ -22,6 +23,14 @@ public class ZoningDetails implements Serializable {
   private FireRelated fireRelated;
   private Cases cases;
 
+  /** Zone codes of the general information, empty when there are none. */
+  @JsonIgnore
+  public Set<String> getZoneCodes() {
+    return generalInformation != null && generalInformation.getZoneCodes() != null
+        ? generalInformation.getZoneCodes()
+        : Set.of();
+  }
+
   @Data
   private static class GeneralInformation implements Serializable {
     @Serial private static final long serialVersionUID = 8958826365148119858L;
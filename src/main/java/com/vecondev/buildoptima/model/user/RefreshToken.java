@@ -1,27 +1,41 @@
 package com.vecondev.buildoptima.model.user;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.UUID;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
-import lombok.Builder;
+import javax.persistence.Transient;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
+/**
+ * Only the SHA-256 hash of a refresh token is stored. The plain token is known only to the
+ * instance created for it, to be handed out to the user once. New tokens are persisted rather than
+ * merged, so that instance is the one returned on save.
+ */
 @NoArgsConstructor
-@Builder(toBuilder = true)
 @Getter
 @Setter
 @Entity
 @Table(name = "refresh_token")
-public class RefreshToken {
+public class RefreshToken implements Persistable<String> {
+
+  private static final String HASH_ALGORITHM = "SHA-256";
 
   @Id
-  @Column(name = "refresh_token")
-  private String plainRefreshToken;
+  @Column(name = "token_hash")
+  private String tokenHash;
+
+  @Transient private String plainRefreshToken;
 
   @Column(name = "user_id")
   private UUID userId;
@@ -29,9 +43,39 @@ public class RefreshToken {
   @Column(name = "expires_at")
   private LocalDateTime expiresAt;
 
+  @Transient private boolean created;
+
   public RefreshToken(String refreshToken, UUID userId, LocalDateTime expiresAt) {
+    this.tokenHash = hashOf(refreshToken);
     this.plainRefreshToken = refreshToken;
     this.userId = userId;
     this.expiresAt = expiresAt;
+    this.created = true;
+  }
+
+  @Override
+  public String getId() {
+    return tokenHash;
+  }
+
+  @Override
+  public boolean isNew() {
+    return created;
+  }
+
+  @PostPersist
+  void markPersisted() {
+    created = false;
+  }
+
+  public static String hashOf(String refreshToken) {
+    try {
+      return HexFormat.of()
+          .formatHex(
+              MessageDigest.getInstance(HASH_ALGORITHM)
+                  .digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(HASH_ALGORITHM + " isn't supported", ex);
+    }
   }
 }
@@ -1,8 +1,13 @@
 package com.vecondev.buildoptima.repository.faq;
 
 import com.vecondev.buildoptima.model.faq.FaqCategory;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -12,8 +17,22 @@ import org.springframework.stereotype.Repository;
 public interface FaqCategoryRepository
     extends JpaRepository<FaqCategory, UUID>, JpaSpecificationExecutor<FaqCategory> {
 
-  Boolean existsByNameIgnoreCase(String name);
+  @Override
+  @EntityGraph(FaqCategory.OVERVIEW_GRAPH)
+  List<FaqCategory> findAll();
 
+  @Override
+  @EntityGraph(FaqCategory.OVERVIEW_GRAPH)
+  Page<FaqCategory> findAll(Specification<FaqCategory> specification, Pageable pageable);
+
+  @EntityGraph(FaqCategory.OVERVIEW_GRAPH)
+  Optional<FaqCategory> findWithOverviewById(UUID id);
+
+  @EntityGraph(FaqCategory.RECORD_GRAPH)
+  @Query("SELECT c FROM FaqCategory c")
+  List<FaqCategory> findAllForExport();
+
+  @EntityGraph(attributePaths = "updatedBy")
   Optional<FaqCategory> findTopByOrderByUpdatedAtDesc();
 
   @Query(value = """
@@ -4,9 +4,14 @@ import com.vecondev.buildoptima.model.Status;
 import com.vecondev.buildoptima.model.faq.FaqCategory;
 import com.vecondev.buildoptima.model.faq.FaqQuestion;
 import com.vecondev.buildoptima.model.user.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -15,8 +20,25 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface FaqQuestionRepository extends JpaRepository<FaqQuestion, UUID>,
     JpaSpecificationExecutor<FaqQuestion> {
-  Boolean existsByQuestionIgnoreCase(String question);
+  @Override
+  @EntityGraph(FaqQuestion.OVERVIEW_GRAPH)
+  List<FaqQuestion> findAll();
 
+  @Override
+  @EntityGraph(FaqQuestion.OVERVIEW_GRAPH)
+  Page<FaqQuestion> findAll(Specification<FaqQuestion> specification, Pageable pageable);
+
+  @EntityGraph(FaqQuestion.OVERVIEW_GRAPH)
+  Optional<FaqQuestion> findWithOverviewById(UUID id);
+
+  @EntityGraph(FaqQuestion.OVERVIEW_GRAPH)
+  List<FaqQuestion> findWithOverviewByIdIn(Collection<UUID> ids);
+
+  @EntityGraph(FaqQuestion.RECORD_GRAPH)
+  @Query("SELECT q FROM FaqQuestion q")
+  List<FaqQuestion> findAllForExport();
+
+  @EntityGraph(attributePaths = "updatedBy")
   Optional<FaqQuestion> findTopByOrderByUpdatedAtDesc();
 
   Long countByStatus(Status status);
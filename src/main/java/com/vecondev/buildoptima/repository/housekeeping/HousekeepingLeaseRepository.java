@@ -0,0 +1,36 @@
+package com.vecondev.buildoptima.repository.housekeeping;
+
+import com.vecondev.buildoptima.model.housekeeping.HousekeepingLease;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface HousekeepingLeaseRepository extends JpaRepository<HousekeepingLease, String> {
+
+  /**
+   * Takes the lease if it's free or has expired.
+   *
+   * @return 1 if the lease was taken, 0 if another instance holds it
+   */
+  @Modifying
+  @Transactional
+  @Query("""
+        UPDATE HousekeepingLease l
+        SET l.lockedBy= :owner, l.lockedUntil= :lockedUntil
+        WHERE l.name= :name AND (l.lockedUntil < :now OR l.lockedBy= :owner)
+        """)
+  int acquire(String name, String owner, LocalDateTime now, LocalDateTime lockedUntil);
+
+  @Modifying
+  @Transactional
+  @Query("""
+        UPDATE HousekeepingLease l
+        SET l.lockedBy= NULL, l.lockedUntil= :now
+        WHERE l.name= :name AND l.lockedBy= :owner
+        """)
+  int release(String name, String owner, LocalDateTime now);
+}
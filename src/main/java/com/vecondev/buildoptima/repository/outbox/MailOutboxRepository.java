@@ -0,0 +1,22 @@
+package com.vecondev.buildoptima.repository.outbox;
+
+import com.vecondev.buildoptima.model.outbox.MailOutboxMessage;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxMessage, UUID> {
+
+  /** Oldest messages due to be sent that still have attempts left. */
+  @Query("""
+        SELECT m FROM MailOutboxMessage m
+        WHERE m.nextAttemptAt <= :now AND m.attempts < :maxAttempts
+        ORDER BY m.nextAttemptAt
+        """)
+  List<MailOutboxMessage> findDue(LocalDateTime now, int maxAttempts, Pageable pageable);
+}
@@ -1,9 +1,14 @@
 package com.vecondev.buildoptima.repository.property;
 
 import com.vecondev.buildoptima.model.property.Address;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface AddressRepository extends JpaRepository<Address, UUID> {}
+public interface AddressRepository extends JpaRepository<Address, UUID> {
+
+  List<Address> findByIdGreaterThanOrderById(UUID id, Pageable pageable);
+}
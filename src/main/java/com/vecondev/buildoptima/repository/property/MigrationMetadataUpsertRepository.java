@@ -0,0 +1,74 @@
+package com.vecondev.buildoptima.repository.property;
+
+import com.vecondev.buildoptima.model.property.migration.MigrationMetadata;
+import com.vladmihalcea.hibernate.type.util.ObjectMapperWrapper;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Writes migration metadata with a single multi-row {@code INSERT ... ON CONFLICT (ain) DO
+ * UPDATE}. A row without addresses or failure keeps the ones already stored for its AIN.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MigrationMetadataUpsertRepository {
+
+  private static final String INSERT =
+      """
+      INSERT INTO bo_migration_metadata
+          (id, migration_history_id, ain, addresses, synced_at, failed_at, failed_reason)
+      VALUES %s
+      ON CONFLICT (ain) DO UPDATE SET
+          migration_history_id = EXCLUDED.migration_history_id,
+          addresses = COALESCE(EXCLUDED.addresses, bo_migration_metadata.addresses),
+          synced_at = EXCLUDED.synced_at,
+          failed_at = COALESCE(EXCLUDED.failed_at, bo_migration_metadata.failed_at),
+          failed_reason = COALESCE(EXCLUDED.failed_reason, bo_migration_metadata.failed_reason)
+      """;
+  private static final String ROW = "(?, ?, ?, CAST(? AS json), ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private volatile Boolean supported;
+
+  /** Whether the database upserts, H2 has no {@code ON CONFLICT DO UPDATE}. */
+  public boolean isSupported() {
+    if (supported == null) {
+      supported =
+          jdbcTemplate.execute(
+              (ConnectionCallback<Boolean>)
+                  connection ->
+                      "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+    }
+    return Boolean.TRUE.equals(supported);
+  }
+
+  /** Upserts the rows, which must be of different AINs. */
+  public void upsertAll(List<MigrationMetadata> rows) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    List<Object> args = new ArrayList<>(rows.size() * 7);
+    for (MigrationMetadata row : rows) {
+      args.add(UUID.randomUUID());
+      args.add(row.getMigrationHistory().getId());
+      args.add(row.getAin());
+      args.add(
+          row.getAddresses() != null
+              ? ObjectMapperWrapper.INSTANCE.toString(row.getAddresses())
+              : null);
+      args.add(Timestamp.from(row.getSyncedAt()));
+      args.add(row.getFailedAt() != null ? Timestamp.from(row.getFailedAt()) : null);
+      args.add(row.getFailedReason());
+    }
+    jdbcTemplate.update(
+        INSERT.formatted(String.join(", ", Collections.nCopies(rows.size(), ROW))),
+        args.toArray());
+  }
+}
@@ -0,0 +1,25 @@
+package com.vecondev.buildoptima.repository.property;
+
+import com.vecondev.buildoptima.model.property.PropertyChange;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PropertyChangeRepository extends JpaRepository<PropertyChange, Long> {
+
+  /** Reads the changes logged after the given sequence and before the given time, in order. */
+  @Query("""
+        SELECT c
+        FROM PropertyChange c
+        WHERE c.sequence > :since AND c.changedAt < :before
+        ORDER BY c.sequence
+        """)
+  List<PropertyChange> findAllAfter(long since, Instant before, Pageable pageable);
+
+  @Query("SELECT COALESCE(MAX(c.sequence), 0) FROM PropertyChange c")
+  long findLastSequence();
+}
@@ -1,11 +1,47 @@
 package com.vecondev.buildoptima.repository.property;
 
+import com.vecondev.buildoptima.dto.property.PropertyAttributesDto;
+import com.vecondev.buildoptima.dto.property.PropertyLocationDto;
 import com.vecondev.buildoptima.model.property.Property;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface PropertyRepository extends JpaRepository<Property, String> {
+public interface PropertyRepository
+    extends JpaRepository<Property, String>, JpaSpecificationExecutor<Property> {
 
   boolean existsByAin(String ain);
+
+  @EntityGraph(attributePaths = "addresses")
+  List<Property> findAllByAinIn(Collection<String> ains);
+
+  /** Reads the centroids of the properties ordered after the given AIN, without their json. */
+  @Query("""
+        SELECT new com.vecondev.buildoptima.dto.property.PropertyLocationDto(
+            p.ain, p.centroidLat, p.centroidLng)
+        FROM Property p
+        WHERE p.ain > :ain AND p.centroidLat IS NOT NULL AND p.centroidLng IS NOT NULL
+        ORDER BY p.ain
+        """)
+  List<PropertyLocationDto> findLocationsAfter(String ain, Pageable pageable);
+
+  /**
+   * Reads the attributes of the properties ordered after the given AIN. Of the json only the zoning
+   * details are read, the rest is in the columns generated out of it.
+   */
+  @Query("""
+        SELECT new com.vecondev.buildoptima.dto.property.PropertyAttributesDto(
+            p.ain, p.municipality, p.lotArea, p.yearBuilt, p.nearActiveFaultDistance,
+            p.fireHazardZone, p.fireBrushClearanceZone, p.zoningDetails)
+        FROM Property p
+        WHERE p.ain > :ain
+        ORDER BY p.ain
+        """)
+  List<PropertyAttributesDto> findAttributesAfter(String ain, Pageable pageable);
 }
@@ -0,0 +1,10 @@
+package com.vecondev.buildoptima.repository.property;
+
+import com.vecondev.buildoptima.model.property.PropertySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PropertySummaryRepository
+    extends JpaRepository<PropertySummary, String>, JpaSpecificationExecutor<PropertySummary> {}
@@ -5,6 +5,9 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ConfirmationTokenRepository extends JpaRepository<ConfirmationToken, UUID> {
 
@@ -12,5 +15,17 @@ public interface ConfirmationTokenRepository extends JpaRepository<ConfirmationT
 
   void deleteByUserId(UUID userId);
 
-  void deleteByExpiresAtBefore(LocalDateTime now);
+  /** Deletes at most the given number of tokens expired before the given time. */
+  @Modifying
+  @Transactional
+  @Query(
+      value = """
+        DELETE FROM confirmation_token
+        WHERE id IN (
+            SELECT id FROM confirmation_token
+            WHERE expires_at < :expiresAt
+            LIMIT :limit)
+        """,
+      nativeQuery = true)
+  int deleteExpiredChunk(LocalDateTime expiresAt, int limit);
 }
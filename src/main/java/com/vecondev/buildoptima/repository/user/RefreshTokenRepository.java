@@ -1,16 +1,38 @@
 package com.vecondev.buildoptima.repository.user;
 
+import com.vecondev.buildoptima.dto.user.RefreshTokenClaims;
 import com.vecondev.buildoptima.model.user.RefreshToken;
 import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
 
-  Optional<RefreshToken> findByUserId(UUID userId);
+  @Query("""
+        SELECT new com.vecondev.buildoptima.dto.user.RefreshTokenClaims(
+            r.tokenHash, r.expiresAt, u.id, u.email, u.role)
+        FROM RefreshToken r
+        JOIN User u ON u.id=r.userId
+        WHERE r.tokenHash= :tokenHash
+        """)
+  Optional<RefreshTokenClaims> findClaimsByTokenHash(String tokenHash);
 
-  void deleteByExpiresAtBefore(LocalDateTime localDateTime);
+  /** Deletes at most the given number of tokens expired before the given time. */
+  @Modifying
+  @Transactional
+  @Query(
+      value = """
+        DELETE FROM refresh_token
+        WHERE token_hash IN (
+            SELECT token_hash FROM refresh_token
+            WHERE expires_at < :expiresAt
+            LIMIT :limit)
+        """,
+      nativeQuery = true)
+  int deleteExpiredChunk(LocalDateTime expiresAt, int limit);
 }
@@ -6,16 +6,22 @@ import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User> {
 
   boolean existsByEmailIgnoreCase(String email);
 
-  boolean existsByPhone(String phone);
-
   Optional<User> findByEmail(String email);
 
   Optional<User> findByRole(Role role);
+
+  @Modifying
+  @Transactional
+  @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+  void updatePassword(UUID id, String password);
 }
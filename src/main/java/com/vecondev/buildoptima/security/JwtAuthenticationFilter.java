@@ -0,0 +1,142 @@
+package com.vecondev.buildoptima.security;
+
+import static com.vecondev.buildoptima.exception.Error.ACCESS_TOKEN_EXPIRED;
+import static com.vecondev.buildoptima.security.RestAuthorizationFilter.ERROR;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.vecondev.buildoptima.config.properties.JwtConfigProperties;
+import com.vecondev.buildoptima.exception.AuthenticationException;
+import com.vecondev.buildoptima.manager.JwtTokenManager;
+import com.vecondev.buildoptima.security.user.AppUserDetails;
+import com.vecondev.buildoptima.service.auth.SecurityContextService;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Authenticates the requests by their bearer access token, for deployments without the gateway.
+ * Verifying the RS256 signature is the expensive part, so a verified token is kept, keyed by its
+ * SHA-256 hash, until it expires and all the requests made with it share one authentication.
+ * Requests without a bearer token are passed on to the other filters untouched.
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "platform.security.jwt.verification",
+    name = "enabled",
+    havingValue = "true")
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+
+  private final JwtTokenManager jwtTokenManager;
+  private final SecurityContextService securityContextService;
+  private final String authorizationHeader;
+  private final String authorizationHeaderPrefix;
+  private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
+
+  public JwtAuthenticationFilter(
+      JwtTokenManager jwtTokenManager,
+      SecurityContextService securityContextService,
+      JwtConfigProperties jwtConfigProperties) {
+    this.jwtTokenManager = jwtTokenManager;
+    this.securityContextService = securityContextService;
+    this.authorizationHeader = jwtConfigProperties.getAuthorizationHeader();
+    this.authorizationHeaderPrefix = jwtConfigProperties.getAuthorizationHeaderPrefix();
+    this.verifiedTokens =
+        Caffeine.newBuilder()
+            .maximumSize(jwtConfigProperties.getVerification().getCacheMaximumSize())
+            .expireAfter(new UntilTokenExpires())
+            .build();
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+
+    String header = request.getHeader(authorizationHeader);
+    if (header == null || !header.startsWith(authorizationHeaderPrefix)) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    try {
+      String token = header.substring(authorizationHeaderPrefix.length()).trim();
+      VerifiedToken verified = verifiedTokens.get(hash(token), key -> verify(token));
+      if (!verified.expiresAt().isAfter(Instant.now())) {
+        throw new AuthenticationException(ACCESS_TOKEN_EXPIRED);
+      }
+
+      securityContextService.setAuthentication(verified.authentication());
+      filterChain.doFilter(request, response);
+    } catch (AuthenticationException ex) {
+      response.addHeader(ERROR, ex.getError().name());
+      response.setStatus(ex.getError().getHttpStatus().value());
+    } finally {
+      securityContextService.clearAuthentication();
+    }
+  }
+
+  private VerifiedToken verify(String token) {
+    DecodedJWT jwt = jwtTokenManager.verifyAccessToken(token);
+    AppUserDetails userDetails =
+        AppUserDetails.builder()
+            .id(jwtTokenManager.userIdFrom(jwt))
+            .username(jwt.getSubject())
+            .authorities(jwtTokenManager.authoritiesFrom(jwt))
+            .build();
+
+    return new VerifiedToken(
+        new SharedAuthenticationToken(userDetails), jwt.getExpiresAt().toInstant());
+  }
+
+  private static ByteBuffer hash(String token) {
+    try {
+      return ByteBuffer.wrap(
+          MessageDigest.getInstance(DIGEST_ALGORITHM)
+              .digest(token.getBytes(StandardCharsets.US_ASCII)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(DIGEST_ALGORITHM + " isn't supported", ex);
+    }
+  }
+
+  private record VerifiedToken(SharedAuthenticationToken authentication, Instant expiresAt) {}
+
+  private static class UntilTokenExpires implements Expiry<ByteBuffer, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+      long millis = value.expiresAt().toEpochMilli() - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(millis, 0));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(
+        ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
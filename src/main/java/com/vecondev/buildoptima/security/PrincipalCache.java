@@ -0,0 +1,66 @@
+package com.vecondev.buildoptima.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vecondev.buildoptima.config.properties.PrincipalCacheConfigProperties;
+import com.vecondev.buildoptima.manager.JwtTokenManager;
+import com.vecondev.buildoptima.security.user.AppUserDetails;
+import com.vecondev.buildoptima.service.user.event.UserChangedEvent;
+import com.vecondev.buildoptima.util.JsonUtil;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Resolves the authentication of the user headers set by the gateway. The result depends on the
+ * headers only, so it's built once per distinct header combination and then shared by all the
+ * requests carrying the same headers. Headers that can't be parsed aren't cached, every such
+ * request fails the same way it would without the cache.
+ */
+@Component
+public class PrincipalCache {
+
+  private final JwtTokenManager jwtTokenManager;
+  private final Cache<Key, SharedAuthenticationToken> authentications;
+
+  public PrincipalCache(
+      JwtTokenManager jwtTokenManager, PrincipalCacheConfigProperties properties) {
+    this.jwtTokenManager = jwtTokenManager;
+    this.authentications =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterAccess(properties.getExpireAfterAccess())
+            .build();
+  }
+
+  public SharedAuthenticationToken get(String id, String username, String authorities) {
+    return authentications.get(new Key(id, username, authorities), this::authenticate);
+  }
+
+  /**
+   * Drops the principals of a changed user right away. The gateway sends new headers after a
+   * change, but the ones it sent before would keep resolving until they expire.
+   */
+  @TransactionalEventListener
+  public void onUserChanged(UserChangedEvent event) {
+    authentications
+        .asMap()
+        .keySet()
+        .removeIf(key -> event.userId().equals(UUID.fromString(key.id())));
+  }
+
+  private SharedAuthenticationToken authenticate(Key key) {
+    AppUserDetails userDetails =
+        AppUserDetails.builder()
+            .id(UUID.fromString(key.id()))
+            .username(key.username())
+            .authorities(
+                jwtTokenManager.authoritiesFromString(
+                    JsonUtil.getListOfAuthoritiesFromJsonString(key.authorities())))
+            .build();
+
+    return new SharedAuthenticationToken(userDetails);
+  }
+
+  private record Key(String id, String username, String authorities) {}
+}
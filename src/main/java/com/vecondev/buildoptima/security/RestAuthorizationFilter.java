@@ -1,14 +1,11 @@
 package com.vecondev.buildoptima.security;
 
-import static com.vecondev.buildoptima.util.JsonUtil.*;
+import static com.vecondev.buildoptima.exception.Error.UNTRUSTED_USER_HEADERS;
 
+import com.vecondev.buildoptima.config.properties.JwtConfigProperties;
 import com.vecondev.buildoptima.exception.AuthenticationException;
-import com.vecondev.buildoptima.manager.JwtTokenManager;
-import com.vecondev.buildoptima.security.user.AppUserDetails;
 import com.vecondev.buildoptima.service.auth.SecurityContextService;
 import java.io.IOException;
-import java.util.List;
-import java.util.UUID;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -17,11 +14,14 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+/**
+ * Authenticates the requests by the user headers the gateway sets after verifying the token. When
+ * the service verifies the tokens itself there is no gateway to strip such headers from the
+ * clients, so requests carrying them are rejected instead of trusted.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -32,8 +32,9 @@ public class RestAuthorizationFilter extends OncePerRequestFilter {
   public static final String AUTHORITIES = "authorities";
   public static final String ERROR = "error";
 
-  private final JwtTokenManager jwtTokenManager;
+  private final PrincipalCache principalCache;
   private final SecurityContextService securityContextService;
+  private final JwtConfigProperties jwtConfigProperties;
 
   @Override
   protected void doFilterInternal(
@@ -46,21 +47,16 @@ public class RestAuthorizationFilter extends OncePerRequestFilter {
       String id = request.getHeader(USER_ID);
       String username = request.getHeader(USERNAME);
       String authoritiesInString = request.getHeader(AUTHORITIES);
-      if (id != null
+      if (jwtConfigProperties.getVerification().isEnabled()) {
+        if (id != null || username != null || authoritiesInString != null) {
+          log.warn("Rejected a request carrying user headers to {}", request.getRequestURI());
+          throw new AuthenticationException(UNTRUSTED_USER_HEADERS);
+        }
+      } else if (id != null
           && StringUtils.isNotBlank(username)
           && StringUtils.isNotBlank(authoritiesInString)) {
-        List<SimpleGrantedAuthority> authorities =
-            jwtTokenManager.authoritiesFromString(
-                getListOfAuthoritiesFromJsonString(authoritiesInString));
-        AppUserDetails userDetails =
-            AppUserDetails.builder()
-                .id(UUID.fromString(id))
-                .username(request.getHeader(USERNAME))
-                .authorities(authorities)
-                .build();
         securityContextService.setAuthentication(
-            new UsernamePasswordAuthenticationToken(
-                userDetails, null, userDetails.getAuthorities()));
+            principalCache.get(id, username, authoritiesInString));
       }
       filterChain.doFilter(request, response);
     } catch (AuthenticationException ex) {
@@ -0,0 +1,27 @@
+package com.vecondev.buildoptima.security;
+
+import com.vecondev.buildoptima.security.user.AppUserDetails;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+/** Authentication token that can't be changed by any of the requests sharing it. */
+final class SharedAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+  SharedAuthenticationToken(AppUserDetails userDetails) {
+    super(userDetails, null, userDetails.getAuthorities());
+  }
+
+  @Override
+  public void setAuthenticated(boolean authenticated) {
+    throw new UnsupportedOperationException("Shared authentication can't be changed");
+  }
+
+  @Override
+  public void setDetails(Object details) {
+    throw new UnsupportedOperationException("Shared authentication can't be changed");
+  }
+
+  @Override
+  public void eraseCredentials() {
+    // there are no credentials to erase, and the principal is shared
+  }
+}
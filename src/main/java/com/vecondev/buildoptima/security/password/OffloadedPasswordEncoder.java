@@ -0,0 +1,78 @@
+package com.vecondev.buildoptima.security.password;
+
+import static com.vecondev.buildoptima.exception.Error.PASSWORD_HASHING_UNAVAILABLE;
+
+import com.vecondev.buildoptima.exception.AuthenticationException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs the hashing of the delegate on a dedicated pool sized to the available processors, so a
+ * burst of logins can't occupy every request thread with hashing. When the pool and its bounded
+ * queue are full, the request is rejected at once instead of waiting.
+ */
+@Slf4j
+public class OffloadedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+
+  public OffloadedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+    this.delegate = delegate;
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("password-hashing-"),
+            new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return offload(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return offload(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  /** Only parses the hash, so it isn't offloaded. */
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+
+  private <T> T offload(Callable<T> hashing) {
+    try {
+      return executor.submit(hashing).get();
+    } catch (RejectedExecutionException ex) {
+      log.warn("Password hashing is rejected, {} requests are waiting", executor.getQueue().size());
+      throw new AuthenticationException(PASSWORD_HASHING_UNAVAILABLE);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("Password hashing failed", ex.getCause());
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.vecondev.buildoptima.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vecondev.buildoptima.config.properties.LoginRateLimitConfigProperties.Limit;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the buckets of this instance in a bounded cache. Buckets are updated with compare-and-set,
+ * so concurrent attempts never wait for each other, and a bucket left alone for longer than the
+ * longest window is full again and dropped.
+ */
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+  private final Cache<String, Bucket> buckets;
+
+  public InMemoryLoginAttemptStore(long maximumKeys, Duration maximumWindow) {
+    this.buckets =
+        Caffeine.newBuilder().maximumSize(maximumKeys).expireAfterAccess(maximumWindow).build();
+  }
+
+  @Override
+  public boolean tryConsume(String key, Limit limit) {
+    return buckets.get(key, k -> new Bucket(limit)).add(-1, limit);
+  }
+
+  @Override
+  public void refund(String key, Limit limit) {
+    Bucket bucket = buckets.getIfPresent(key);
+    if (bucket != null) {
+      bucket.add(1, limit);
+    }
+  }
+
+  private static class Bucket {
+
+    private final AtomicReference<State> state;
+
+    Bucket(Limit limit) {
+      this.state = new AtomicReference<>(new State(limit.getCapacity(), System.nanoTime()));
+    }
+
+    /** Refills the bucket and adds the tokens, unless that would leave it below zero. */
+    boolean add(int tokens, Limit limit) {
+      while (true) {
+        final State current = state.get();
+        final long now = System.nanoTime();
+        final double refilled =
+            Math.min(
+                limit.getCapacity(),
+                current.tokens()
+                    + (double) (now - current.refilledAt())
+                        * limit.getCapacity()
+                        / limit.getWindow().toNanos());
+        final double updated = Math.min(limit.getCapacity(), refilled + tokens);
+        if (updated < 0) {
+          return false;
+        }
+        if (state.compareAndSet(current, new State(updated, now))) {
+          return true;
+        }
+      }
+    }
+  }
+
+  private record State(double tokens, long refilledAt) {}
+}
@@ -0,0 +1,20 @@
+package com.vecondev.buildoptima.security.ratelimit;
+
+import com.vecondev.buildoptima.config.properties.LoginRateLimitConfigProperties.Limit;
+
+/**
+ * Keeps the token buckets of the login rate limiter. The in-memory store is used unless a bean of
+ * this type is defined, e.g. one backed by a store shared by all the instances.
+ */
+public interface LoginAttemptStore {
+
+  /**
+   * Takes a token from the bucket of the key.
+   *
+   * @return false if the bucket is empty
+   */
+  boolean tryConsume(String key, Limit limit);
+
+  /** Gives back a token taken by an attempt that has turned out to be legitimate. */
+  void refund(String key, Limit limit);
+}
@@ -0,0 +1,125 @@
+package com.vecondev.buildoptima.security.ratelimit;
+
+import static com.vecondev.buildoptima.exception.Error.TOO_MANY_LOGIN_ATTEMPTS;
+
+import com.vecondev.buildoptima.config.properties.LoginRateLimitConfigProperties;
+import com.vecondev.buildoptima.exception.AuthenticationException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import javax.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Limits the failed logins per username and per client address. Every attempt takes a token from
+ * both buckets before the user is looked up or any password is hashed, and a successful login
+ * gives them back, so only failures count against the limits.
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+  private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+  private final LoginRateLimitConfigProperties properties;
+  private final LoginAttemptStore store;
+
+  private final LongAdder allowed = new LongAdder();
+  private final LongAdder rejectedByUsername = new LongAdder();
+  private final LongAdder rejectedByClientIp = new LongAdder();
+
+  public LoginRateLimiter(
+      LoginRateLimitConfigProperties properties, ObjectProvider<LoginAttemptStore> sharedStore) {
+    this.properties = properties;
+    final Duration maximumWindow =
+        Collections.max(
+            List.of(properties.getUsername().getWindow(), properties.getClientIp().getWindow()));
+    this.store =
+        sharedStore.getIfAvailable(
+            () -> new InMemoryLoginAttemptStore(properties.getMaximumKeys(), maximumWindow));
+  }
+
+  /**
+   * Takes an attempt of the user from the current client.
+   *
+   * @throws AuthenticationException if the username or the client has no attempts left
+   */
+  public void acquire(String username) {
+    if (!properties.getEnabled()) {
+      return;
+    }
+
+    final String clientIp = clientIp();
+    if (clientIp != null && !store.tryConsume(clientIpKey(clientIp), properties.getClientIp())) {
+      rejectedByClientIp.increment();
+      log.warn("Login of {} is rejected, too many failed attempts from {}", username, clientIp);
+      throw new AuthenticationException(TOO_MANY_LOGIN_ATTEMPTS);
+    }
+    if (!store.tryConsume(usernameKey(username), properties.getUsername())) {
+      rejectedByUsername.increment();
+      log.warn("Login of {} is rejected, too many failed attempts", username);
+      throw new AuthenticationException(TOO_MANY_LOGIN_ATTEMPTS);
+    }
+    allowed.increment();
+  }
+
+  /** Gives back the attempt of a user who has logged in. */
+  public void onSuccess(String username) {
+    if (!properties.getEnabled()) {
+      return;
+    }
+
+    final String clientIp = clientIp();
+    if (clientIp != null) {
+      store.refund(clientIpKey(clientIp), properties.getClientIp());
+    }
+    store.refund(usernameKey(username), properties.getUsername());
+  }
+
+  @Scheduled(fixedDelayString = "${platform.security.login-limit.report-interval}")
+  public void report() {
+    final long rejectedUsernames = rejectedByUsername.sumThenReset();
+    final long rejectedClients = rejectedByClientIp.sumThenReset();
+    final long allowedAttempts = allowed.sumThenReset();
+    if (rejectedUsernames + rejectedClients > 0) {
+      log.info(
+          "Login attempts: {} allowed, {} rejected by username, {} rejected by client address",
+          allowedAttempts,
+          rejectedUsernames,
+          rejectedClients);
+    }
+  }
+
+  private String clientIp() {
+    if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attrs)) {
+      return null;
+    }
+
+    HttpServletRequest request = attrs.getRequest();
+    String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+    if (properties.getTrustForwardedFor() && forwardedFor != null && !forwardedFor.isBlank()) {
+      String[] hops = forwardedFor.split(",");
+      int clientHop = hops.length - properties.getForwardedForHops();
+      if (clientHop >= 0) {
+        return hops[clientHop].trim();
+      }
+      log.warn("{} has fewer entries than trusted proxies: {}", FORWARDED_FOR_HEADER, forwardedFor);
+    }
+    return request.getRemoteAddr();
+  }
+
+  private static String usernameKey(String username) {
+    return "username:" + username.toLowerCase(Locale.ROOT);
+  }
+
+  private static String clientIpKey(String clientIp) {
+    return "ip:" + clientIp;
+  }
+}
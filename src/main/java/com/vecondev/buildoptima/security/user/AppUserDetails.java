@@ -2,20 +2,17 @@ package com.vecondev.buildoptima.security.user;
 
 import java.util.List;
 import java.util.UUID;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
-@Data
+/** Immutable, as the same instance is shared by every request made with the same headers. */
+@Value
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
 public class AppUserDetails {
 
-  private UUID id;
-  private String username;
-  private List<SimpleGrantedAuthority> authorities;
-  private Boolean enabled;
+  UUID id;
+  String username;
+  List<SimpleGrantedAuthority> authorities;
+  Boolean enabled;
 }
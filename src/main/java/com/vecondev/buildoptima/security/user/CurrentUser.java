@@ -0,0 +1,55 @@
+package com.vecondev.buildoptima.security.user;
+
+import static com.vecondev.buildoptima.exception.Error.USER_NOT_FOUND;
+
+import com.vecondev.buildoptima.exception.UserNotFoundException;
+import com.vecondev.buildoptima.model.user.User;
+import com.vecondev.buildoptima.repository.user.UserRepository;
+import com.vecondev.buildoptima.service.auth.SecurityContextService;
+import java.util.UUID;
+import javax.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * The user of the current request, loaded from the database at most once however many services
+ * ask for it. Only usable while handling a request.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentUser {
+
+  private final SecurityContextService securityContextService;
+  private final UserRepository userRepository;
+  private final EntityManager entityManager;
+
+  private User user;
+
+  public UUID getId() {
+    return securityContextService.getUserDetails().getId();
+  }
+
+  /**
+   * The loaded user. Inside a transaction it's the instance managed by that transaction, so it's
+   * loaded again only if it was loaded by another one.
+   */
+  public User getUser() {
+    if (user == null
+        || (TransactionSynchronizationManager.isActualTransactionActive()
+            && !entityManager.contains(user))) {
+      user =
+          userRepository
+              .findById(getId())
+              .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND));
+    }
+    return user;
+  }
+
+  /** The loaded user if there is one, otherwise a reference that isn't loaded until used. */
+  public User getReference() {
+    return user != null ? user : userRepository.getReferenceById(getId());
+  }
+}
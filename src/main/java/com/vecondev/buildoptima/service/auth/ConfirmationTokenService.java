@@ -12,7 +12,5 @@ public interface ConfirmationTokenService {
 
   void remove(UUID id);
 
-  void deleteExpiredOnes();
-
   void deleteByUserId(UUID id);
 }
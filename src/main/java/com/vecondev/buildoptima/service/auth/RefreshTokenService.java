@@ -1,5 +1,6 @@
 package com.vecondev.buildoptima.service.auth;
 
+import com.vecondev.buildoptima.dto.user.RefreshTokenClaims;
 import com.vecondev.buildoptima.model.user.RefreshToken;
 import java.util.UUID;
 
@@ -7,9 +8,5 @@ public interface RefreshTokenService {
 
   RefreshToken create(UUID userId);
 
-  void deleteExpiredOnes();
-
-  RefreshToken findByUserId(UUID id);
-
-  RefreshToken findByRefreshToken(String refreshToken);
+  RefreshTokenClaims findClaimsByRefreshToken(String refreshToken);
 }
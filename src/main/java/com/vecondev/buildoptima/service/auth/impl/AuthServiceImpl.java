@@ -3,7 +3,7 @@ package com.vecondev.buildoptima.service.auth.impl;
 import static com.vecondev.buildoptima.exception.Error.BAD_CREDENTIALS;
 import static com.vecondev.buildoptima.exception.Error.USER_NOT_FOUND;
 
-import com.vecondev.buildoptima.dto.user.ConfirmationMessage;
+import com.vecondev.buildoptima.dto.user.RefreshTokenClaims;
 import com.vecondev.buildoptima.dto.user.request.AuthRequestDto;
 import com.vecondev.buildoptima.dto.user.request.ConfirmEmailRequestDto;
 import com.vecondev.buildoptima.dto.user.request.RefreshTokenRequestDto;
@@ -20,16 +20,20 @@ import com.vecondev.buildoptima.model.user.ConfirmationToken;
 import com.vecondev.buildoptima.model.user.RefreshToken;
 import com.vecondev.buildoptima.model.user.User;
 import com.vecondev.buildoptima.repository.user.UserRepository;
+import com.vecondev.buildoptima.security.ratelimit.LoginRateLimiter;
 import com.vecondev.buildoptima.service.auth.AuthService;
 import com.vecondev.buildoptima.service.auth.ConfirmationTokenService;
 import com.vecondev.buildoptima.service.auth.RefreshTokenService;
-import com.vecondev.buildoptima.service.sqs.SqsService;
-import com.vecondev.buildoptima.validation.UserValidator;
+import com.vecondev.buildoptima.service.user.event.ConfirmationRequestedEvent;
+import com.vecondev.buildoptima.service.user.event.UserChangedEvent;
 import java.util.Optional;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -40,24 +44,21 @@ public class AuthServiceImpl implements AuthService {
 
   private final UserRepository userRepository;
   private final UserMapper userMapper;
-  private final UserValidator userValidator;
   private final PasswordEncoder passwordEncoder;
   private final JwtTokenManager tokenManager;
   private final ConfirmationTokenService confirmationTokenService;
   private final RefreshTokenService refreshTokenService;
-  private final SqsService sqsService;
-  private static final String CONFIRM_TEMPLATE = "confirm.html";
-  private static final String RESTORE_TEMPLATE = "restore.html";
+  private final LoginRateLimiter loginRateLimiter;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private volatile String unknownUserPasswordHash;
 
   @Override
   public UserResponseDto register(UserRegistrationRequestDto dto) {
     User user = userMapper.mapToEntity(dto);
-    userValidator.validateUserRegistration(user);
     user = userRepository.saveAndFlush(user);
-    ConfirmationToken confirmationToken = confirmationTokenService.create(user);
     log.info("New user registered.");
-    sendEmail(confirmationToken, CONFIRM_TEMPLATE);
-    log.info("Verification email was sent to user {}", user.getEmail());
+    eventPublisher.publishEvent(ConfirmationRequestedEvent.emailConfirmation(user.getId()));
     return userMapper.mapToResponseDto(user);
   }
 
@@ -68,13 +69,21 @@ public class AuthServiceImpl implements AuthService {
     return activateUserAccount(confirmationToken);
   }
 
+  /**
+   * Runs outside of a transaction, the user is read and the upgraded hash written each in a short
+   * one of the repository, so no connection is held while the password is hashed.
+   */
   @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public AuthResponseDto login(final AuthRequestDto authRequestDto) {
     log.info("Request from user {} to get authenticated", authRequestDto.getUsername());
+    loginRateLimiter.acquire(authRequestDto.getUsername());
     Optional<User> optionalUser = userRepository.findByEmail(authRequestDto.getUsername());
-    if (optionalUser.isEmpty()
-        || !passwordEncoder.matches(
-            authRequestDto.getPassword(), optionalUser.get().getPassword())) {
+    // an unknown user costs the same hashing as a wrong password, so it can't be told by timing
+    String passwordHash =
+        optionalUser.map(User::getPassword).orElseGet(this::unknownUserPasswordHash);
+    if (!passwordEncoder.matches(authRequestDto.getPassword(), passwordHash)
+        || optionalUser.isEmpty()) {
       log.warn("{}: Provided wrong credentials for authentication", authRequestDto.getUsername());
       throw new AuthenticationException(BAD_CREDENTIALS);
     }
@@ -82,20 +91,27 @@ public class AuthServiceImpl implements AuthService {
     if (!user.isEnabled()) {
       throw new AuthenticationException(Error.NOT_ACTIVE_ACCOUNT);
     }
+    if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+      user.setPassword(passwordEncoder.encode(authRequestDto.getPassword()));
+      userRepository.updatePassword(user.getId(), user.getPassword());
+      log.info("Password hash of user {} is upgraded", user.getEmail());
+    }
+    loginRateLimiter.onSuccess(authRequestDto.getUsername());
     return buildAuthDto(optionalUser.get());
   }
 
   @Override
   public RefreshTokenResponseDto refreshToken(RefreshTokenRequestDto request) {
     log.info("Request to refresh the access token");
-    final RefreshToken refreshToken =
-        refreshTokenService.findByRefreshToken(request.getRefreshToken());
+    final RefreshTokenClaims claims =
+        refreshTokenService.findClaimsByRefreshToken(request.getRefreshToken());
 
-    User user = userRepository.getReferenceById(refreshToken.getUserId());
-    log.info("Access token is refreshed for user {}", user.getEmail());
+    String accessToken =
+        tokenManager.getOrGenerateAccessToken(claims.userId(), claims.email(), claims.role());
+    log.info("Access token is refreshed for user {}", claims.email());
     return RefreshTokenResponseDto.builder()
-        .accessToken(tokenManager.generateAccessToken(user))
-        .refreshToken(refreshToken.getPlainRefreshToken())
+        .accessToken(accessToken)
+        .refreshToken(request.getRefreshToken())
         .build();
   }
 
@@ -108,10 +124,8 @@ public class AuthServiceImpl implements AuthService {
             .findByEmail(requestDto.getEmail())
             .orElseThrow(() -> new AuthenticationException(USER_NOT_FOUND));
 
-    ConfirmationToken token = confirmationTokenService.create(user);
     log.info("Sending a password restoring email to user {}", user.getEmail());
-    sendEmail(token, RESTORE_TEMPLATE);
-    log.info("Password restoring email was sent to user {}", user.getEmail());
+    eventPublisher.publishEvent(ConfirmationRequestedEvent.passwordRestoring(user.getId()));
   }
 
   @Override
@@ -123,6 +137,7 @@ public class AuthServiceImpl implements AuthService {
     User user = confirmationToken.getUser();
     user.setPassword(passwordEncoder.encode(restorePasswordRequestDto.getNewPassword()));
     confirmationTokenService.deleteByUserId(confirmationToken.getUser().getId());
+    eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
     log.info("User {} has successfully changed the password", user.getEmail());
   }
 
@@ -131,6 +146,7 @@ public class AuthServiceImpl implements AuthService {
     user.setEnabled(true);
 
     confirmationTokenService.remove(user.getId());
+    eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
     log.info("User {} account was verified by email", user.getEmail());
     return userMapper.mapToResponseDto(user);
   }
@@ -138,10 +154,7 @@ public class AuthServiceImpl implements AuthService {
   private AuthResponseDto buildAuthDto(final User user) {
     log.info("User {} provided credentials to receive an access token", user.getEmail());
     final String accessToken = tokenManager.generateAccessToken(user);
-    RefreshToken refreshToken = refreshTokenService.findByUserId(user.getId());
-    if (refreshToken == null) {
-      refreshToken = refreshTokenService.create(user.getId());
-    }
+    RefreshToken refreshToken = refreshTokenService.create(user.getId());
     log.info("Access token is created for user {}", user.getEmail());
     return AuthResponseDto.builder()
         .userId(user.getId())
@@ -150,14 +163,10 @@ public class AuthServiceImpl implements AuthService {
         .build();
   }
 
-  private void sendEmail(ConfirmationToken confirmationToken, String template) {
-    ConfirmationMessage message =
-        ConfirmationMessage.builder()
-            .template(template)
-            .token(confirmationToken.getToken())
-            .userEmail(confirmationToken.getUser().getEmail())
-            .userFirstName(confirmationToken.getUser().getFirstName())
-            .build();
-    sqsService.sendMessage(message.toString());
+  private String unknownUserPasswordHash() {
+    if (unknownUserPasswordHash == null) {
+      unknownUserPasswordHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+    return unknownUserPasswordHash;
   }
 }
@@ -12,7 +12,6 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -49,13 +48,6 @@ public class ConfirmationTokenServiceImpl implements ConfirmationTokenService {
     log.info("Confirmation token was deleted, because user has verified the email");
   }
 
-  @Override
-  @Scheduled(cron = "0 */12 * * * *")
-  public void deleteExpiredOnes() {
-    confirmationTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
-    log.info("Expired confirmation tokens have been removed");
-  }
-
   @Override
   public void deleteByUserId(UUID userId) {
     confirmationTokenRepository.deleteByUserId(userId);
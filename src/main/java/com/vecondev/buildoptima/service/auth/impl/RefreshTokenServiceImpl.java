@@ -1,57 +1,75 @@
 package com.vecondev.buildoptima.service.auth.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.vecondev.buildoptima.config.properties.JwtConfigProperties;
+import com.vecondev.buildoptima.dto.user.RefreshTokenClaims;
 import com.vecondev.buildoptima.exception.AuthenticationException;
 import com.vecondev.buildoptima.exception.Error;
 import com.vecondev.buildoptima.model.user.RefreshToken;
 import com.vecondev.buildoptima.repository.user.RefreshTokenRepository;
 import com.vecondev.buildoptima.service.auth.RefreshTokenService;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @Transactional
-@RequiredArgsConstructor
 public class RefreshTokenServiceImpl implements RefreshTokenService {
 
   private final JwtConfigProperties jwtConfigProperties;
   private final RefreshTokenRepository refreshTokenRepository;
 
+  /**
+   * Hashes of the tokens found unknown or expired, with the error they were rejected with. Tokens
+   * are random, so such a hash never becomes valid again and can be rejected without a database
+   * lookup.
+   */
+  private final Cache<String, Error> revokedTokens;
+
+  public RefreshTokenServiceImpl(
+      JwtConfigProperties jwtConfigProperties, RefreshTokenRepository refreshTokenRepository) {
+    this.jwtConfigProperties = jwtConfigProperties;
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.revokedTokens =
+        Caffeine.newBuilder()
+            .maximumSize(jwtConfigProperties.getRefreshToken().getRevokedCacheMaximumSize())
+            .build();
+  }
+
   @Override
   public RefreshToken create(UUID userId) {
-    final String refreshTokenPlain = UUID.randomUUID().toString();
     final RefreshToken refreshToken =
-        RefreshToken.builder()
-            .userId(userId)
-            .plainRefreshToken(refreshTokenPlain)
-            .expiresAt(
-                LocalDateTime.now().plusDays(jwtConfigProperties.getRefreshToken().getValidity()))
-            .build();
+        new RefreshToken(
+            UUID.randomUUID().toString(),
+            userId,
+            LocalDateTime.now().plusDays(jwtConfigProperties.getRefreshToken().getValidity()));
     return refreshTokenRepository.saveAndFlush(refreshToken);
   }
 
   @Override
-  public RefreshToken findByUserId(UUID id) {
-    return refreshTokenRepository.findByUserId(id).orElse(null);
-  }
+  @Transactional(readOnly = true)
+  public RefreshTokenClaims findClaimsByRefreshToken(String refreshToken) {
+    final String tokenHash = RefreshToken.hashOf(refreshToken);
+    final Error revoked = revokedTokens.getIfPresent(tokenHash);
+    if (revoked != null) {
+      throw new AuthenticationException(revoked);
+    }
 
-  @Override
-  public RefreshToken findByRefreshToken(String refreshToken) {
-    return refreshTokenRepository
-        .findById(refreshToken)
-        .orElseThrow(() -> new AuthenticationException(Error.REFRESH_TOKEN_INVALID));
-  }
+    Optional<RefreshTokenClaims> claims = refreshTokenRepository.findClaimsByTokenHash(tokenHash);
+    if (claims.isEmpty()) {
+      revokedTokens.put(tokenHash, Error.REFRESH_TOKEN_INVALID);
+      throw new AuthenticationException(Error.REFRESH_TOKEN_INVALID);
+    }
+    if (claims.get().expiresAt().isBefore(LocalDateTime.now())) {
+      revokedTokens.put(tokenHash, Error.REFRESH_TOKEN_EXPIRED);
+      throw new AuthenticationException(Error.REFRESH_TOKEN_EXPIRED);
+    }
 
-  @Override
-  @Scheduled(cron = "0 */12 * * * *")
-  public void deleteExpiredOnes() {
-    refreshTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
-    log.info("Expired refresh tokens have been removed");
+    return claims.get();
   }
 }
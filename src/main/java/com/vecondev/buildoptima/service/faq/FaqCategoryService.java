@@ -6,7 +6,9 @@ import com.vecondev.buildoptima.dto.faq.response.FaqCategoryResponseDto;
 import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
 import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
 import com.vecondev.buildoptima.model.faq.FaqCategory;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +27,8 @@ public interface FaqCategoryService {
 
   FaqCategory findCategoryById(UUID id);
 
+  Map<UUID, FaqCategory> findCategoriesByIds(Collection<UUID> ids);
+
   FetchResponseDto fetch(FetchRequestDto fetchRequest);
 
   ResponseEntity<Resource> exportInCsv();
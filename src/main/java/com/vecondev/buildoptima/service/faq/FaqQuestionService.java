@@ -3,6 +3,7 @@ package com.vecondev.buildoptima.service.faq;
 import com.vecondev.buildoptima.dto.EntityOverview;
 import com.vecondev.buildoptima.dto.Metadata;
 import com.vecondev.buildoptima.dto.faq.request.FaqQuestionRequestDto;
+import com.vecondev.buildoptima.dto.faq.request.FaqQuestionUpdateItemDto;
 import com.vecondev.buildoptima.dto.faq.response.FaqQuestionResponseDto;
 import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
 import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
@@ -26,6 +27,12 @@ public interface FaqQuestionService {
 
   void delete(UUID questionId, UUID userId);
 
+  List<FaqQuestionResponseDto> createAll(List<FaqQuestionRequestDto> requestDtos, UUID userId);
+
+  List<FaqQuestionResponseDto> updateAll(List<FaqQuestionUpdateItemDto> items, UUID userId);
+
+  List<FaqQuestionResponseDto> archiveAll(List<UUID> questionIds, UUID userId);
+
   FaqQuestion findQuestionById(UUID questionId);
 
   FetchResponseDto fetch(FetchRequestDto fetchRequest);
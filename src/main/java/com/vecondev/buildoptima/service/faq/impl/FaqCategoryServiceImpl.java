@@ -1,5 +1,8 @@
 package com.vecondev.buildoptima.service.faq.impl;
 
+import static com.vecondev.buildoptima.config.CacheConfig.FAQ_CATEGORIES;
+import static com.vecondev.buildoptima.config.CacheConfig.FAQ_QUESTIONS;
+import static com.vecondev.buildoptima.config.CacheConfig.FAQ_QUESTION_LOOKUP;
 import static com.vecondev.buildoptima.exception.Error.CATEGORY_HAS_QUESTIONS;
 import static com.vecondev.buildoptima.exception.Error.FAQ_CATEGORY_NOT_FOUND;
 import static com.vecondev.buildoptima.filter.model.FaqCategoryFields.faqCategoryPageSortingFieldsMap;
@@ -22,12 +25,20 @@ import com.vecondev.buildoptima.model.user.User;
 import com.vecondev.buildoptima.repository.faq.FaqCategoryRepository;
 import com.vecondev.buildoptima.service.csv.CsvService;
 import com.vecondev.buildoptima.service.faq.FaqCategoryService;
+import com.vecondev.buildoptima.service.metadata.EntityMetadataService;
 import com.vecondev.buildoptima.service.user.UserService;
-import com.vecondev.buildoptima.validation.faq.FaqCategoryValidator;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
@@ -46,13 +57,14 @@ public class FaqCategoryServiceImpl implements FaqCategoryService {
 
   private final FaqCategoryMapper faqCategoryMapper;
   private final FaqCategoryRepository faqCategoryRepository;
-  private final FaqCategoryValidator faqCategoryValidator;
   private final PageableConverter pageableConverter;
   private final CsvService<FaqCategoryRecord> csvService;
+  private final EntityMetadataService entityMetadataService;
 
   private final UserService userService;
 
   @Override
+  @Cacheable(FAQ_CATEGORIES)
   public List<FaqCategoryResponseDto> getAll() {
     List<FaqCategory> faqCategories = faqCategoryRepository.findAll();
 
@@ -61,14 +73,19 @@ public class FaqCategoryServiceImpl implements FaqCategoryService {
 
   @Override
   public FaqCategoryResponseDto getById(UUID categoryId) {
-    return faqCategoryMapper.mapToDto(findCategoryById(categoryId));
+    FaqCategory category =
+        faqCategoryRepository
+            .findWithOverviewById(categoryId)
+            .orElseThrow(() -> new FaqCategoryNotFoundException(FAQ_CATEGORY_NOT_FOUND));
+
+    return faqCategoryMapper.mapToDto(category);
   }
 
   @Override
+  @CacheEvict(cacheNames = FAQ_CATEGORIES, allEntries = true)
   public FaqCategoryResponseDto create(FaqCategoryRequestDto requestDto, UUID userId) {
     User user = userService.findUserById(userId);
     FaqCategory faqCategory = faqCategoryMapper.mapToEntity(requestDto, user);
-    faqCategoryValidator.validateCategoryName(faqCategory.getName());
 
     faqCategory = faqCategoryRepository.saveAndFlush(faqCategory);
     log.info(
@@ -78,13 +95,13 @@ public class FaqCategoryServiceImpl implements FaqCategoryService {
   }
 
   @Override
+  @CacheEvict(cacheNames = {FAQ_CATEGORIES, FAQ_QUESTIONS, FAQ_QUESTION_LOOKUP}, allEntries = true)
   public FaqCategoryResponseDto update(
       UUID categoryId, FaqCategoryRequestDto requestDto, UUID userId) {
     FaqCategory category =
         faqCategoryRepository
             .findById(categoryId)
             .orElseThrow(() -> new FaqCategoryNotFoundException(FAQ_CATEGORY_NOT_FOUND));
-    faqCategoryValidator.validateCategoryName(requestDto.getName());
 
     category =
         category.toBuilder()
@@ -96,6 +113,7 @@ public class FaqCategoryServiceImpl implements FaqCategoryService {
   }
 
   @Override
+  @CacheEvict(cacheNames = FAQ_CATEGORIES, allEntries = true)
   public void delete(UUID categoryId, UUID userId) {
     if (!faqCategoryRepository.existsById(categoryId)) {
       log.warn(
@@ -123,6 +141,19 @@ public class FaqCategoryServiceImpl implements FaqCategoryService {
         .orElseThrow(() -> new FaqCategoryNotFoundException(FAQ_CATEGORY_NOT_FOUND));
   }
 
+  @Override
+  public Map<UUID, FaqCategory> findCategoriesByIds(Collection<UUID> ids) {
+    Set<UUID> distinctIds = new HashSet<>(ids);
+    Map<UUID, FaqCategory> categories =
+        faqCategoryRepository.findAllById(distinctIds).stream()
+            .collect(Collectors.toMap(FaqCategory::getId, Function.identity()));
+    if (categories.size() != distinctIds.size()) {
+      throw new FaqCategoryNotFoundException(FAQ_CATEGORY_NOT_FOUND);
+    }
+
+    return categories;
+  }
+
   @Override
   public FetchResponseDto fetch(FetchRequestDto fetchRequest) {
     log.info("Request to fetch users from DB");
@@ -150,7 +181,7 @@ public class FaqCategoryServiceImpl implements FaqCategoryService {
   /** Exports all faq categories in csv file. */
   @Override
   public ResponseEntity<Resource> exportInCsv() {
-    List<FaqCategory> categories = faqCategoryRepository.findAll();
+    List<FaqCategory> categories = faqCategoryRepository.findAllForExport();
     List<FaqCategoryRecord> categoryRecords = faqCategoryMapper.mapToRecordList(categories);
     InputStreamResource categoriesResource =
         new InputStreamResource(csvService.writeToCsv(categoryRecords, FaqCategoryRecord.class));
@@ -163,11 +194,6 @@ public class FaqCategoryServiceImpl implements FaqCategoryService {
 
   @Override
   public Metadata getMetadata() {
-    FaqCategory category = faqCategoryRepository.findTopByOrderByUpdatedAtDesc().orElse(null);
-    if (category == null) {
-      return new Metadata();
-    }
-
-    return faqCategoryMapper.getMetadata(category, faqCategoryRepository.count(), 0L);
+    return entityMetadataService.getMetadata(FaqCategory.class);
   }
 }
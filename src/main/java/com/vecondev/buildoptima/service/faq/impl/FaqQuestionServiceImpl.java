@@ -1,11 +1,12 @@
 package com.vecondev.buildoptima.service.faq.impl;
 
+import static com.vecondev.buildoptima.config.CacheConfig.FAQ_QUESTIONS;
+import static com.vecondev.buildoptima.config.CacheConfig.FAQ_QUESTION_LOOKUP;
 import static com.vecondev.buildoptima.exception.Error.FAQ_QUESTION_NOT_FOUND;
 import static com.vecondev.buildoptima.exception.Error.INVALID_FIELD;
 import static com.vecondev.buildoptima.filter.model.DictionaryField.CATEGORY;
 import static com.vecondev.buildoptima.filter.model.DictionaryField.UPDATED_BY;
 import static com.vecondev.buildoptima.filter.model.FaqQuestionFields.faqQuestionPageSortingFieldsMap;
-import static com.vecondev.buildoptima.model.Status.ACTIVE;
 import static com.vecondev.buildoptima.model.Status.ARCHIVED;
 import static com.vecondev.buildoptima.validation.validator.FieldNameValidator.validateFieldNames;
 
@@ -13,6 +14,7 @@ import com.vecondev.buildoptima.csv.faq.FaqQuestionRecord;
 import com.vecondev.buildoptima.dto.EntityOverview;
 import com.vecondev.buildoptima.dto.Metadata;
 import com.vecondev.buildoptima.dto.faq.request.FaqQuestionRequestDto;
+import com.vecondev.buildoptima.dto.faq.request.FaqQuestionUpdateItemDto;
 import com.vecondev.buildoptima.dto.faq.response.FaqQuestionResponseDto;
 import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
 import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
@@ -31,13 +33,21 @@ import com.vecondev.buildoptima.repository.faq.FaqQuestionRepository;
 import com.vecondev.buildoptima.service.csv.CsvService;
 import com.vecondev.buildoptima.service.faq.FaqCategoryService;
 import com.vecondev.buildoptima.service.faq.FaqQuestionService;
+import com.vecondev.buildoptima.service.metadata.EntityMetadataService;
 import com.vecondev.buildoptima.service.user.UserService;
-import com.vecondev.buildoptima.validation.faq.FaqQuestionValidator;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
@@ -55,15 +65,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class FaqQuestionServiceImpl implements FaqQuestionService {
 
   private final FaqQuestionMapper faqQuestionMapper;
-  private final FaqQuestionValidator faqQuestionValidator;
   private final FaqQuestionRepository faqQuestionRepository;
 
   private final FaqCategoryService faqCategoryService;
   private final UserService userService;
   private final PageableConverter pageableConverter;
   private final CsvService<FaqQuestionRecord> csvService;
+  private final EntityMetadataService entityMetadataService;
 
   @Override
+  @Cacheable(FAQ_QUESTIONS)
   public List<FaqQuestionResponseDto> getAll() {
     List<FaqQuestion> faqQuestions = faqQuestionRepository.findAll();
 
@@ -72,15 +83,20 @@ public class FaqQuestionServiceImpl implements FaqQuestionService {
 
   @Override
   public FaqQuestionResponseDto getById(UUID questionId) {
-    return faqQuestionMapper.mapToDto(findQuestionById(questionId));
+    FaqQuestion question =
+        faqQuestionRepository
+            .findWithOverviewById(questionId)
+            .orElseThrow(() -> new FaqQuestionNotFoundException(FAQ_QUESTION_NOT_FOUND));
+
+    return faqQuestionMapper.mapToDto(question);
   }
 
   @Override
+  @CacheEvict(cacheNames = {FAQ_QUESTIONS, FAQ_QUESTION_LOOKUP}, allEntries = true)
   public FaqQuestionResponseDto create(FaqQuestionRequestDto requestDto, UUID userId) {
     User user = userService.findUserById(userId);
     FaqCategory faqCategory = faqCategoryService.findCategoryById(requestDto.getFaqCategoryId());
     FaqQuestion faqQuestion = faqQuestionMapper.mapToEntity(requestDto, faqCategory, user);
-    faqQuestionValidator.validateQuestion(faqQuestion.getQuestion());
 
     faqQuestion = faqQuestionRepository.saveAndFlush(faqQuestion);
     log.info("User with id: {} created new FAQ QUESTION with id: {}", userId, faqQuestion.getId());
@@ -89,13 +105,13 @@ public class FaqQuestionServiceImpl implements FaqQuestionService {
   }
 
   @Override
+  @CacheEvict(cacheNames = {FAQ_QUESTIONS, FAQ_QUESTION_LOOKUP}, allEntries = true)
   public FaqQuestionResponseDto update(
       UUID questionId, FaqQuestionRequestDto requestDto, UUID userId) {
     FaqQuestion question =
         faqQuestionRepository
             .findById(questionId)
             .orElseThrow(() -> new FaqQuestionNotFoundException(FAQ_QUESTION_NOT_FOUND));
-    faqQuestionValidator.validateQuestion(requestDto.getQuestion());
 
     question =
         question.toBuilder()
@@ -111,6 +127,7 @@ public class FaqQuestionServiceImpl implements FaqQuestionService {
   }
 
   @Override
+  @CacheEvict(cacheNames = {FAQ_QUESTIONS, FAQ_QUESTION_LOOKUP}, allEntries = true)
   public void delete(UUID questionId, UUID userId) {
     if (!faqQuestionRepository.existsById(questionId)) {
       throw new FaqQuestionNotFoundException(FAQ_QUESTION_NOT_FOUND);
@@ -120,6 +137,77 @@ public class FaqQuestionServiceImpl implements FaqQuestionService {
     log.info("User with id: {} deleted the FAQ Question with id: {}", userId, questionId);
   }
 
+  @Override
+  @CacheEvict(cacheNames = {FAQ_QUESTIONS, FAQ_QUESTION_LOOKUP}, allEntries = true)
+  public List<FaqQuestionResponseDto> createAll(
+      List<FaqQuestionRequestDto> requestDtos, UUID userId) {
+    User user = userService.findUserById(userId);
+    Map<UUID, FaqCategory> categories =
+        faqCategoryService.findCategoriesByIds(
+            requestDtos.stream().map(FaqQuestionRequestDto::getFaqCategoryId).toList());
+    List<FaqQuestion> questions =
+        requestDtos.stream()
+            .map(
+                requestDto ->
+                    faqQuestionMapper.mapToEntity(
+                        requestDto, categories.get(requestDto.getFaqCategoryId()), user))
+            .toList();
+    questions = faqQuestionRepository.saveAll(questions);
+    faqQuestionRepository.flush();
+    log.info("User with id: {} created {} FAQ Questions", userId, questions.size());
+
+    return faqQuestionMapper.mapToListDto(questions);
+  }
+
+  @Override
+  @CacheEvict(cacheNames = {FAQ_QUESTIONS, FAQ_QUESTION_LOOKUP}, allEntries = true)
+  public List<FaqQuestionResponseDto> updateAll(
+      List<FaqQuestionUpdateItemDto> items, UUID userId) {
+    Map<UUID, FaqQuestion> questions =
+        findQuestionsByIds(items.stream().map(FaqQuestionUpdateItemDto::getId).toList());
+    Map<UUID, FaqCategory> categories =
+        faqCategoryService.findCategoriesByIds(
+            items.stream().map(item -> item.getContent().getFaqCategoryId()).toList());
+    User user = userService.findUserById(userId);
+
+    List<FaqQuestion> updated =
+        items.stream()
+            .map(
+                item ->
+                    questions.get(item.getId()).toBuilder()
+                        .question(item.getContent().getQuestion())
+                        .answer(item.getContent().getAnswer())
+                        .status(item.getContent().getStatus())
+                        .category(categories.get(item.getContent().getFaqCategoryId()))
+                        .updatedBy(user)
+                        .build())
+            .toList();
+    updated = faqQuestionRepository.saveAll(updated);
+    faqQuestionRepository.flush();
+    log.info("User with id: {} updated {} FAQ Questions", userId, updated.size());
+
+    return faqQuestionMapper.mapToListDto(updated);
+  }
+
+  @Override
+  @CacheEvict(cacheNames = {FAQ_QUESTIONS, FAQ_QUESTION_LOOKUP}, allEntries = true)
+  public List<FaqQuestionResponseDto> archiveAll(List<UUID> questionIds, UUID userId) {
+    Map<UUID, FaqQuestion> questions = findQuestionsByIds(questionIds);
+    User user = userService.findUserById(userId);
+
+    questions
+        .values()
+        .forEach(
+            question -> {
+              question.setStatus(ARCHIVED);
+              question.setUpdatedBy(user);
+            });
+    faqQuestionRepository.flush();
+    log.info("User with id: {} archived {} FAQ Questions", userId, questions.size());
+
+    return faqQuestionMapper.mapToListDto(questionIds.stream().map(questions::get).toList());
+  }
+
   @Override
   public FaqQuestion findQuestionById(UUID questionId) {
     return faqQuestionRepository
@@ -151,9 +239,25 @@ public class FaqQuestionServiceImpl implements FaqQuestionService {
         .build();
   }
 
+  /**
+   * Loads all the given questions with their category and modifier in one query, failing if any of
+   * them doesn't exist.
+   */
+  private Map<UUID, FaqQuestion> findQuestionsByIds(Collection<UUID> questionIds) {
+    Set<UUID> distinctIds = new HashSet<>(questionIds);
+    Map<UUID, FaqQuestion> questions =
+        faqQuestionRepository.findWithOverviewByIdIn(distinctIds).stream()
+            .collect(Collectors.toMap(FaqQuestion::getId, Function.identity()));
+    if (questions.size() != distinctIds.size()) {
+      throw new FaqQuestionNotFoundException(FAQ_QUESTION_NOT_FOUND);
+    }
+
+    return questions;
+  }
+
   /** Exports all faq questions in csv file. */
   public ResponseEntity<Resource> exportInCsv() {
-    List<FaqQuestion> questions = faqQuestionRepository.findAll();
+    List<FaqQuestion> questions = faqQuestionRepository.findAllForExport();
     List<FaqQuestionRecord> questionRecords = faqQuestionMapper.mapToRecordList(questions);
     InputStreamResource questionsResource =
         new InputStreamResource(csvService.writeToCsv(questionRecords, FaqQuestionRecord.class));
@@ -166,18 +270,11 @@ public class FaqQuestionServiceImpl implements FaqQuestionService {
 
   @Override
   public Metadata getMetadata() {
-    FaqQuestion question = faqQuestionRepository.findTopByOrderByUpdatedAtDesc().orElse(null);
-    if (question == null) {
-      return new Metadata();
-    }
-
-    return faqQuestionMapper.getMetadata(
-        question,
-        faqQuestionRepository.countByStatus(ACTIVE),
-        faqQuestionRepository.countByStatus(ARCHIVED));
+    return entityMetadataService.getMetadata(FaqQuestion.class);
   }
 
   @Override
+  @Cacheable(cacheNames = FAQ_QUESTION_LOOKUP, key = "{#status, #dictionary}")
   public List<EntityOverview> lookup(Status status, DictionaryField dictionary) {
     List<EntityOverview> response = new ArrayList<>();
     if (dictionary == UPDATED_BY) {
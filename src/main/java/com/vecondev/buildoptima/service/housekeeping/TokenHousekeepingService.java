@@ -0,0 +1,17 @@
+package com.vecondev.buildoptima.service.housekeeping;
+
+import java.util.Map;
+
+/**
+ * Removes expired refresh and confirmation tokens in bounded chunks. A run is done by one instance
+ * at a time, the one holding the database lease.
+ */
+public interface TokenHousekeepingService {
+
+  /**
+   * Deletes the tokens expired so far.
+   *
+   * @return the number of deleted rows per table, empty if another instance holds the lease
+   */
+  Map<String, Long> deleteExpiredTokens();
+}
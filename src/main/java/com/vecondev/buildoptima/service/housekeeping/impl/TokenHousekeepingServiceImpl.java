@@ -0,0 +1,89 @@
+package com.vecondev.buildoptima.service.housekeeping.impl;
+
+import com.vecondev.buildoptima.config.properties.HousekeepingConfigProperties;
+import com.vecondev.buildoptima.repository.housekeeping.HousekeepingLeaseRepository;
+import com.vecondev.buildoptima.repository.user.ConfirmationTokenRepository;
+import com.vecondev.buildoptima.repository.user.RefreshTokenRepository;
+import com.vecondev.buildoptima.service.housekeeping.TokenHousekeepingService;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class TokenHousekeepingServiceImpl implements TokenHousekeepingService {
+
+  static final String LEASE_NAME = "token-cleanup";
+
+  private final HousekeepingConfigProperties housekeepingConfigProperties;
+  private final HousekeepingLeaseRepository leaseRepository;
+  private final Map<String, ExpiredChunkDeleter> deleters = new LinkedHashMap<>();
+
+  /** Identifies this instance as the lease holder. */
+  private final String owner = UUID.randomUUID().toString();
+
+  public TokenHousekeepingServiceImpl(
+      HousekeepingConfigProperties housekeepingConfigProperties,
+      HousekeepingLeaseRepository leaseRepository,
+      RefreshTokenRepository refreshTokenRepository,
+      ConfirmationTokenRepository confirmationTokenRepository) {
+    this.housekeepingConfigProperties = housekeepingConfigProperties;
+    this.leaseRepository = leaseRepository;
+    deleters.put("refresh_token", refreshTokenRepository::deleteExpiredChunk);
+    deleters.put("confirmation_token", confirmationTokenRepository::deleteExpiredChunk);
+  }
+
+  /** Every chunk is deleted in its own transaction, so the tables are never locked for long. */
+  @Override
+  @Scheduled(cron = "${housekeeping.cron}")
+  public Map<String, Long> deleteExpiredTokens() {
+    final LocalDateTime now = LocalDateTime.now();
+    if (leaseRepository.acquire(
+            LEASE_NAME, owner, now, now.plus(housekeepingConfigProperties.getLeaseDuration()))
+        == 0) {
+      log.info("Expired tokens are being removed by another instance");
+      return Collections.emptyMap();
+    }
+
+    final Map<String, Long> deleted = new LinkedHashMap<>();
+    try {
+      for (Map.Entry<String, ExpiredChunkDeleter> deleter : deleters.entrySet()) {
+        final long rows = deleteExpired(deleter.getValue(), now);
+        deleted.put(deleter.getKey(), rows);
+        log.info("{} expired rows have been removed from {}", rows, deleter.getKey());
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      log.warn("Removal of expired tokens has been interrupted");
+    } finally {
+      leaseRepository.release(LEASE_NAME, owner, LocalDateTime.now());
+    }
+    return deleted;
+  }
+
+  private long deleteExpired(ExpiredChunkDeleter deleter, LocalDateTime expiresAt)
+      throws InterruptedException {
+    final int batchSize = housekeepingConfigProperties.getBatchSize();
+    final long pause = housekeepingConfigProperties.getPause().toMillis();
+    long deleted = 0;
+    int chunk = deleter.delete(expiresAt, batchSize);
+    deleted += chunk;
+    while (chunk == batchSize) {
+      Thread.sleep(pause);
+      chunk = deleter.delete(expiresAt, batchSize);
+      deleted += chunk;
+    }
+    return deleted;
+  }
+
+  @FunctionalInterface
+  private interface ExpiredChunkDeleter {
+
+    int delete(LocalDateTime expiresAt, int limit);
+  }
+}
@@ -0,0 +1,33 @@
+package com.vecondev.buildoptima.service.metadata;
+
+import com.vecondev.buildoptima.dto.Metadata;
+import com.vecondev.buildoptima.model.AbstractEntity;
+import com.vecondev.buildoptima.model.Status;
+
+/**
+ * Keeps the metadata (active/archived counts and the last modification) of the entities shown on
+ * the dashboards in memory. It's updated from entity lifecycle events and periodically reconciled
+ * with the database.
+ */
+public interface EntityMetadataService {
+
+  Metadata getMetadata(Class<? extends AbstractEntity> entityType);
+
+  boolean supports(Class<?> entityType);
+
+  void onCreated(AbstractEntity entity);
+
+  /**
+   * Applies an update of the entity.
+   *
+   * @param previousStatus status the entity had before the update, null if it has no status
+   */
+  void onUpdated(AbstractEntity entity, Status previousStatus);
+
+  void onDeleted(AbstractEntity entity);
+
+  /** Forces the metadata of the given entity type to be reloaded on the next read. */
+  void invalidate(Class<? extends AbstractEntity> entityType);
+
+  void reconcile();
+}
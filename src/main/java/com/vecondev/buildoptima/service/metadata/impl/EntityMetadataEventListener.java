@@ -0,0 +1,105 @@
+package com.vecondev.buildoptima.service.metadata.impl;
+
+import com.vecondev.buildoptima.model.AbstractEntity;
+import com.vecondev.buildoptima.model.Status;
+import com.vecondev.buildoptima.service.metadata.EntityMetadataService;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ArrayUtils;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds the {@link EntityMetadataService} with the changes of the tracked entities. Hibernate
+ * calls it only after the transaction is committed, so rolled back changes are never counted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityMetadataEventListener
+    implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+  private static final String STATUS = "status";
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final EntityMetadataService entityMetadataService;
+
+  @PostConstruct
+  public void register() {
+    EventListenerRegistry registry =
+        entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+    registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    if (entityMetadataService.supports(event.getEntity().getClass())) {
+      entityMetadataService.onCreated((AbstractEntity) event.getEntity());
+    }
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    if (!entityMetadataService.supports(event.getEntity().getClass())) {
+      return;
+    }
+
+    AbstractEntity entity = (AbstractEntity) event.getEntity();
+    if (event.getOldState() == null) {
+      entityMetadataService.invalidate(entity.getClass());
+      return;
+    }
+
+    int statusIndex = ArrayUtils.indexOf(event.getPersister().getPropertyNames(), STATUS);
+    Status previousStatus =
+        statusIndex != ArrayUtils.INDEX_NOT_FOUND
+            ? (Status) event.getOldState()[statusIndex]
+            : null;
+    entityMetadataService.onUpdated(entity, previousStatus);
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    if (entityMetadataService.supports(event.getEntity().getClass())) {
+      entityMetadataService.onDeleted((AbstractEntity) event.getEntity());
+    }
+  }
+
+  @Override
+  public void onPostInsertCommitFailed(PostInsertEvent event) {
+    log.debug("Insert of {} wasn't committed", event.getId());
+  }
+
+  @Override
+  public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    log.debug("Update of {} wasn't committed", event.getId());
+  }
+
+  @Override
+  public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    log.debug("Delete of {} wasn't committed", event.getId());
+  }
+
+  @Override
+  public boolean requiresPostCommitHanding(EntityPersister persister) {
+    return entityMetadataService.supports(persister.getMappedClass());
+  }
+}
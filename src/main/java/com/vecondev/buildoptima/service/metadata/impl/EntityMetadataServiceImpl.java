@@ -0,0 +1,300 @@
+package com.vecondev.buildoptima.service.metadata.impl;
+
+import static com.vecondev.buildoptima.model.Status.ACTIVE;
+import static com.vecondev.buildoptima.model.Status.ARCHIVED;
+
+import com.vecondev.buildoptima.dto.EntityOverview;
+import com.vecondev.buildoptima.dto.Metadata;
+import com.vecondev.buildoptima.mapper.user.UserMapper;
+import com.vecondev.buildoptima.model.AbstractEntity;
+import com.vecondev.buildoptima.model.Status;
+import com.vecondev.buildoptima.model.faq.FaqCategory;
+import com.vecondev.buildoptima.model.faq.FaqQuestion;
+import com.vecondev.buildoptima.model.news.News;
+import com.vecondev.buildoptima.model.user.User;
+import com.vecondev.buildoptima.repository.faq.FaqCategoryRepository;
+import com.vecondev.buildoptima.repository.faq.FaqQuestionRepository;
+import com.vecondev.buildoptima.repository.news.NewsRepository;
+import com.vecondev.buildoptima.repository.user.UserRepository;
+import com.vecondev.buildoptima.service.metadata.EntityMetadataService;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the counters of the entity metadata in memory and applies the changes made on this instance
+ * to them. The changes made on other instances are only seen when the counters are reconciled with
+ * the database, so another instance may serve counters stale by up to the interval of
+ * {@code metadata.reconcile-cron}, a minute by default.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EntityMetadataServiceImpl implements EntityMetadataService {
+
+  private static final Set<Class<? extends AbstractEntity>> SUPPORTED_TYPES =
+      Set.of(News.class, FaqQuestion.class, FaqCategory.class);
+
+  private final NewsRepository newsRepository;
+  private final FaqQuestionRepository faqQuestionRepository;
+  private final FaqCategoryRepository faqCategoryRepository;
+  private final UserRepository userRepository;
+  private final UserMapper userMapper;
+
+  private final Map<Class<? extends AbstractEntity>, Counters> counters =
+      new ConcurrentHashMap<>();
+
+  @Override
+  public Metadata getMetadata(Class<? extends AbstractEntity> entityType) {
+    Counters current = counters.get(entityType);
+    if (current == null || current.isStale()) {
+      current = reload(entityType);
+    }
+    if (current.getLastUpdatedAt() == null) {
+      return new Metadata();
+    }
+
+    EntityOverview lastUpdatedBy = current.getLastUpdatedBy();
+    if (lastUpdatedBy == null && current.getLastUpdatedById() != null) {
+      lastUpdatedBy = resolveModifier(entityType, current.getLastUpdatedById());
+    }
+
+    return Metadata.builder()
+        .lastUpdatedAt(current.getLastUpdatedAt())
+        .lastUpdatedBy(lastUpdatedBy)
+        .allActiveCount(current.getActiveCount())
+        .allArchivedCount(current.getArchivedCount())
+        .build();
+  }
+
+  @Override
+  public boolean supports(Class<?> entityType) {
+    return SUPPORTED_TYPES.contains(entityType);
+  }
+
+  @Override
+  public void onCreated(AbstractEntity entity) {
+    apply(entity.getClass(), null, statusOf(entity), entity.getUpdatedAt(), modifierOf(entity));
+  }
+
+  @Override
+  public void onUpdated(AbstractEntity entity, Status previousStatus) {
+    Status status = statusOf(entity);
+    apply(
+        entity.getClass(),
+        previousStatus != null ? previousStatus : status,
+        status,
+        entity.getUpdatedAt(),
+        modifierOf(entity));
+  }
+
+  @Override
+  public void onDeleted(AbstractEntity entity) {
+    counters.compute(
+        entity.getClass(),
+        (type, current) -> {
+          if (current == null) {
+            return Counters.unknown();
+          }
+
+          boolean wasLastUpdated =
+              current.getLastUpdatedAt() != null
+                  && entity.getUpdatedAt() != null
+                  && !entity.getUpdatedAt().isBefore(current.getLastUpdatedAt());
+          return current.toBuilder()
+              .activeCount(current.getActiveCount() - countOf(statusOf(entity), ACTIVE))
+              .archivedCount(current.getArchivedCount() - countOf(statusOf(entity), ARCHIVED))
+              .version(current.getVersion() + 1)
+              .stale(current.isStale() || wasLastUpdated)
+              .build();
+        });
+  }
+
+  @Override
+  public void invalidate(Class<? extends AbstractEntity> entityType) {
+    counters.compute(
+        entityType,
+        (type, current) ->
+            current == null
+                ? Counters.unknown()
+                : current.toBuilder().version(current.getVersion() + 1).stale(true).build());
+  }
+
+  @Override
+  @Scheduled(cron = "${metadata.reconcile-cron}")
+  public void reconcile() {
+    SUPPORTED_TYPES.forEach(
+        entityType -> {
+          try {
+            reload(entityType);
+          } catch (Exception ex) {
+            log.error("Failed to reconcile {} metadata with the database", entityType, ex);
+          }
+        });
+    log.info("Entity metadata has been reconciled with the database");
+  }
+
+  private void apply(
+      Class<? extends AbstractEntity> entityType,
+      Status previousStatus,
+      Status status,
+      Instant updatedAt,
+      UUID updatedBy) {
+    counters.compute(
+        entityType,
+        (type, current) -> {
+          if (current == null) {
+            return Counters.unknown();
+          }
+
+          Counters.CountersBuilder next =
+              current.toBuilder()
+                  .activeCount(
+                      current.getActiveCount()
+                          - countOf(previousStatus, ACTIVE)
+                          + countOf(status, ACTIVE))
+                  .archivedCount(
+                      current.getArchivedCount()
+                          - countOf(previousStatus, ARCHIVED)
+                          + countOf(status, ARCHIVED))
+                  .version(current.getVersion() + 1);
+          if (updatedAt != null
+              && (current.getLastUpdatedAt() == null
+                  || !updatedAt.isBefore(current.getLastUpdatedAt()))) {
+            next.lastUpdatedAt(updatedAt).lastUpdatedById(updatedBy);
+            if (updatedBy == null || !updatedBy.equals(current.getLastUpdatedById())) {
+              next.lastUpdatedBy(null);
+            }
+          }
+
+          return next.build();
+        });
+  }
+
+  /**
+   * Loads the metadata of the given entity type from the database. If any event was applied while
+   * loading, the result is kept but marked stale, as it's unknown whether the database already
+   * reflected that event.
+   */
+  private Counters reload(Class<? extends AbstractEntity> entityType) {
+    long version = counters.computeIfAbsent(entityType, type -> Counters.unknown()).getVersion();
+    Counters loaded = load(entityType);
+
+    return counters.compute(
+        entityType,
+        (type, current) ->
+            loaded.toBuilder()
+                .version(current.getVersion())
+                .stale(current.getVersion() != version)
+                .build());
+  }
+
+  private Counters load(Class<? extends AbstractEntity> entityType) {
+    if (entityType == News.class) {
+      return loaded(
+          newsRepository.findTopByOrderByUpdatedAtDesc(),
+          newsRepository.countByStatus(ACTIVE),
+          newsRepository.countByStatus(ARCHIVED));
+    }
+    if (entityType == FaqQuestion.class) {
+      return loaded(
+          faqQuestionRepository.findTopByOrderByUpdatedAtDesc().orElse(null),
+          faqQuestionRepository.countByStatus(ACTIVE),
+          faqQuestionRepository.countByStatus(ARCHIVED));
+    }
+    if (entityType == FaqCategory.class) {
+      return loaded(
+          faqCategoryRepository.findTopByOrderByUpdatedAtDesc().orElse(null),
+          faqCategoryRepository.count(),
+          0L);
+    }
+
+    throw new IllegalArgumentException("Metadata isn't tracked for " + entityType);
+  }
+
+  private Counters loaded(AbstractEntity lastUpdated, long activeCount, long archivedCount) {
+    return Counters.builder()
+        .activeCount(activeCount)
+        .archivedCount(archivedCount)
+        .lastUpdatedAt(lastUpdated != null ? lastUpdated.getUpdatedAt() : null)
+        .lastUpdatedById(lastUpdated != null ? modifierOf(lastUpdated) : null)
+        .build();
+  }
+
+  private EntityOverview resolveModifier(
+      Class<? extends AbstractEntity> entityType, UUID modifierId) {
+    EntityOverview modifier =
+        userRepository.findById(modifierId).map(userMapper::mapToOverview).orElse(null);
+    counters.computeIfPresent(
+        entityType,
+        (type, current) ->
+            modifierId.equals(current.getLastUpdatedById())
+                ? current.toBuilder().lastUpdatedBy(modifier).build()
+                : current);
+
+    return modifier;
+  }
+
+  /** FAQ categories have no status, they are all counted as active ones. */
+  private static Status statusOf(AbstractEntity entity) {
+    if (entity instanceof News news) {
+      return news.getStatus();
+    }
+    if (entity instanceof FaqQuestion question) {
+      return question.getStatus();
+    }
+
+    return ACTIVE;
+  }
+
+  private static UUID modifierOf(AbstractEntity entity) {
+    if (entity instanceof News news) {
+      return news.getUpdatedBy() != null ? news.getUpdatedBy() : news.getCreatedBy();
+    }
+    if (entity instanceof FaqQuestion question) {
+      return idOf(question.getUpdatedBy());
+    }
+    if (entity instanceof FaqCategory category) {
+      return idOf(category.getUpdatedBy());
+    }
+
+    return null;
+  }
+
+  private static UUID idOf(User user) {
+    return user != null ? user.getId() : null;
+  }
+
+  private static long countOf(Status status, Status counted) {
+    return status == counted ? 1 : 0;
+  }
+
+  @Value
+  @Builder(toBuilder = true)
+  private static class Counters {
+
+    long activeCount;
+    long archivedCount;
+    Instant lastUpdatedAt;
+    UUID lastUpdatedById;
+    EntityOverview lastUpdatedBy;
+
+    /** Incremented on every applied event, used to detect events racing with a reload. */
+    long version;
+
+    /** Whether the counters have to be reloaded from the database before being read. */
+    boolean stale;
+
+    static Counters unknown() {
+      return Counters.builder().stale(true).build();
+    }
+  }
+}
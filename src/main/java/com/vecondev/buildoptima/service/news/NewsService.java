@@ -4,8 +4,11 @@ import com.vecondev.buildoptima.dto.Metadata;
 import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
 import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
 import com.vecondev.buildoptima.dto.news.request.NewsCreateRequestDto;
+import com.vecondev.buildoptima.dto.news.request.NewsItemRequestDto;
+import com.vecondev.buildoptima.dto.news.request.NewsUpdateItemDto;
 import com.vecondev.buildoptima.dto.news.request.NewsUpdateRequestDto;
 import com.vecondev.buildoptima.dto.news.response.NewsResponseDto;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.core.io.InputStreamResource;
 
@@ -26,4 +29,10 @@ public interface NewsService {
   InputStreamResource exportCsv(FetchRequestDto fetchRequestDto);
 
   NewsResponseDto archiveNews(UUID id);
+
+  List<NewsResponseDto> createAll(List<NewsItemRequestDto> items);
+
+  List<NewsResponseDto> updateAll(List<NewsUpdateItemDto> items);
+
+  List<NewsResponseDto> archiveAll(List<UUID> ids);
 }
@@ -8,12 +8,13 @@ import static com.vecondev.buildoptima.validation.validator.FieldNameValidator.v
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vecondev.buildoptima.csv.news.NewsRecord;
-import com.vecondev.buildoptima.dto.EntityOverview;
 import com.vecondev.buildoptima.dto.Metadata;
 import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
 import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
 import com.vecondev.buildoptima.dto.news.NewsReport;
 import com.vecondev.buildoptima.dto.news.request.NewsCreateRequestDto;
+import com.vecondev.buildoptima.dto.news.request.NewsItemRequestDto;
+import com.vecondev.buildoptima.dto.news.request.NewsUpdateItemDto;
 import com.vecondev.buildoptima.dto.news.request.NewsUpdateRequestDto;
 import com.vecondev.buildoptima.dto.news.response.NewsResponseDto;
 import com.vecondev.buildoptima.exception.FailedFileOperationException;
@@ -22,24 +23,30 @@ import com.vecondev.buildoptima.filter.converter.PageableConverter;
 import com.vecondev.buildoptima.filter.model.SortDto;
 import com.vecondev.buildoptima.filter.specification.GenericSpecification;
 import com.vecondev.buildoptima.mapper.news.NewsMapper;
-import com.vecondev.buildoptima.mapper.user.UserMapper;
 import com.vecondev.buildoptima.model.Status;
 import com.vecondev.buildoptima.model.news.News;
 import com.vecondev.buildoptima.model.news.NewsCategory;
 import com.vecondev.buildoptima.model.user.User;
 import com.vecondev.buildoptima.repository.news.NewsRepository;
-import com.vecondev.buildoptima.repository.user.UserRepository;
 import com.vecondev.buildoptima.security.user.AppUserDetails;
+import com.vecondev.buildoptima.security.user.CurrentUser;
 import com.vecondev.buildoptima.service.auth.SecurityContextService;
 import com.vecondev.buildoptima.service.csv.CsvService;
+import com.vecondev.buildoptima.service.metadata.EntityMetadataService;
 import com.vecondev.buildoptima.service.s3.AmazonS3Service;
 import com.vecondev.buildoptima.util.FileUtil;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.InputStreamResource;
@@ -59,22 +66,22 @@ public class NewsServiceImpl implements NewsService {
 
   private final CsvService<NewsRecord> csvService;
   private final SecurityContextService securityContextService;
+  private final CurrentUser currentUser;
   private final AmazonS3Service amazonS3Service;
+  private final EntityMetadataService entityMetadataService;
 
   private final NewsRepository newsRepository;
-  private final UserRepository userRepository;
 
   private final NewsMapper newsMapper;
-  private final UserMapper userMapper;
   private final ObjectMapper objectMapper;
 
   private final PageableConverter pageableConverter;
 
   @Override
   public NewsResponseDto create(NewsCreateRequestDto createNewsRequestDto) {
-    UUID userId = securityContextService.getUserDetails().getId();
+    UUID userId = currentUser.getId();
     log.info("Trying to add news item with title: {}", createNewsRequestDto.getTitle());
-    User creator = userRepository.getReferenceById(userId);
+    User creator = currentUser.getReference();
     News news =
         newsMapper.mapToEntity(createNewsRequestDto, creator).toBuilder()
             .createdBy(creator.getId())
@@ -100,11 +107,11 @@ public class NewsServiceImpl implements NewsService {
 
   @Override
   public NewsResponseDto update(UUID newsId, NewsUpdateRequestDto newsRequestDto) {
-    UUID userId = securityContextService.getUserDetails().getId();
+    UUID userId = currentUser.getId();
     log.info("Trying to update news item: item id {}", newsId);
     News news =
         newsRepository.findById(newsId).orElseThrow(() -> new NewsException(NEWS_ITEM_NOT_FOUND));
-    User user = userRepository.getReferenceById(userId);
+    User user = currentUser.getReference();
 
     log.info("Trying to update news entity properties");
     updateNews(newsRequestDto, news, user, userId);
@@ -166,27 +173,10 @@ public class NewsServiceImpl implements NewsService {
   public Metadata getMetadata() {
     String username = securityContextService.getUserDetails().getUsername();
     log.info("User {} is trying to get the news metadata", username);
-    News lastUpdated = newsRepository.findTopByOrderByUpdatedAtDesc();
-    long allActiveCount = newsRepository.countByStatus(ACTIVE);
-    long allArchivedCount = newsRepository.countByStatus(Status.ARCHIVED);
-
-    if (lastUpdated == null) {
-      return new Metadata();
-    }
-    EntityOverview lastModifier =
-        userMapper.mapToOverview(
-            userRepository.getReferenceById(
-                lastUpdated.getUpdatedBy() != null
-                    ? lastUpdated.getUpdatedBy()
-                    : lastUpdated.getCreatedBy()));
+    Metadata metadata = entityMetadataService.getMetadata(News.class);
 
     log.info("User {} successfully got the news metadata", username);
-    return Metadata.builder()
-        .lastUpdatedAt(lastUpdated.getUpdatedAt())
-        .lastUpdatedBy(lastModifier)
-        .allActiveCount(allActiveCount)
-        .allArchivedCount(allArchivedCount)
-        .build();
+    return metadata;
   }
 
   @Override
@@ -220,19 +210,78 @@ public class NewsServiceImpl implements NewsService {
     return newsResponseDto;
   }
 
-  private void updateNews(NewsUpdateRequestDto dto, News news, User modifier, UUID userId) {
-    if (dto.getTitle() != null) {
-      news.setTitle(dto.getTitle());
-    }
-    if (dto.getSummary() != null) {
-      news.setSummary(dto.getSummary());
-    }
-    if (dto.getDescription() != null) {
-      news.setDescription(dto.getDescription());
-    }
-    if (dto.getCategory() != null) {
-      news.setCategory(NewsCategory.valueOf(dto.getCategory()));
+  @Override
+  public List<NewsResponseDto> createAll(List<NewsItemRequestDto> items) {
+    UUID userId = currentUser.getId();
+    log.info("User with id: {} is trying to add {} news items", userId, items.size());
+    User creator = currentUser.getReference();
+    List<News> news =
+        newsRepository.saveAll(
+            items.stream().map(item -> newsMapper.mapToEntity(item, creator)).toList());
+    newsRepository.flush();
+    log.info("Successfully saved {} news items in DB", news.size());
+
+    updateNewsInS3();
+    return news.stream().map(newsMapper::mapToResponseDto).toList();
+  }
+
+  @Override
+  public List<NewsResponseDto> updateAll(List<NewsUpdateItemDto> items) {
+    UUID userId = securityContextService.getUserDetails().getId();
+    log.info("User with id: {} is trying to update {} news items", userId, items.size());
+    Map<UUID, News> news = findAllNews(items.stream().map(NewsUpdateItemDto::getId).toList());
+
+    items.forEach(
+        item -> {
+          News newsItem = news.get(item.getId());
+          updateContent(
+              newsItem,
+              item.getTitle(),
+              item.getSummary(),
+              item.getDescription(),
+              item.getCategory());
+          newsItem.setUpdatedBy(userId);
+        });
+    newsRepository.flush();
+    log.info("User with id: {} successfully updated {} news items", userId, news.size());
+
+    updateNewsInS3();
+    return items.stream().map(item -> newsMapper.mapToResponseDto(news.get(item.getId()))).toList();
+  }
+
+  @Override
+  public List<NewsResponseDto> archiveAll(List<UUID> ids) {
+    UUID userId = securityContextService.getUserDetails().getId();
+    log.info("User with id: {} is trying to archive {} news items", userId, ids.size());
+    Map<UUID, News> news = findAllNews(ids);
+
+    news.values()
+        .forEach(
+            newsItem -> {
+              newsItem.setStatus(Status.ARCHIVED);
+              newsItem.setUpdatedBy(userId);
+            });
+    newsRepository.flush();
+    log.info("User with id: {} successfully archived {} news items", userId, news.size());
+
+    updateNewsInS3();
+    return ids.stream().map(id -> newsMapper.mapToResponseDto(news.get(id))).toList();
+  }
+
+  /** Loads all the given news items with one query, failing if any of them doesn't exist. */
+  private Map<UUID, News> findAllNews(Collection<UUID> ids) {
+    Set<UUID> distinctIds = new HashSet<>(ids);
+    List<News> news = newsRepository.findAllById(distinctIds);
+    if (news.size() != distinctIds.size()) {
+      log.warn("{} of the requested news items weren't found", distinctIds.size() - news.size());
+      throw new NewsException(NEWS_ITEM_NOT_FOUND);
     }
+
+    return news.stream().collect(Collectors.toMap(News::getId, Function.identity()));
+  }
+
+  private void updateNews(NewsUpdateRequestDto dto, News news, User modifier, UUID userId) {
+    updateContent(news, dto.getTitle(), dto.getSummary(), dto.getDescription(), dto.getCategory());
     if (dto.getImage() != null) {
       String className = news.getClass().getSimpleName().toLowerCase();
       amazonS3Service.uploadImagesToS3(
@@ -242,6 +291,22 @@ public class NewsServiceImpl implements NewsService {
     news.setUpdatedBy(modifier.getId());
   }
 
+  private void updateContent(
+      News news, String title, String summary, String description, String category) {
+    if (title != null) {
+      news.setTitle(title);
+    }
+    if (summary != null) {
+      news.setSummary(summary);
+    }
+    if (description != null) {
+      news.setDescription(description);
+    }
+    if (category != null) {
+      news.setCategory(NewsCategory.valueOf(category));
+    }
+  }
+
   private void updateNewsInS3() {
     File file = new File(NEWS_JSON_FILE_NAME);
     try (FileWriter fileWriter = new FileWriter(file)) {
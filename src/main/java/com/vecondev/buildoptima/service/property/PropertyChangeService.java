@@ -0,0 +1,26 @@
+package com.vecondev.buildoptima.service.property;
+
+import com.vecondev.buildoptima.dto.property.response.PropertyChangesResponseDto;
+import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.model.property.PropertyChange;
+import com.vecondev.buildoptima.model.property.PropertyOperation;
+import java.util.List;
+
+/**
+ * Logs the properties saved by the migration, so consumers can sync the changed properties by the
+ * sequence they have read up to instead of rescanning all the properties.
+ */
+public interface PropertyChangeService {
+
+  /** Appends the change of a just saved property to the log. */
+  void record(Property property, PropertyOperation op);
+
+  /** Returns the changes logged after the given sequence, oldest first. */
+  PropertyChangesResponseDto getChanges(long since, Integer limit);
+
+  /** Returns at most limit changes logged after the given sequence, oldest first. */
+  List<PropertyChange> findVisibleAfter(long since, int limit);
+
+  /** Returns the sequence of the last logged change, 0 when nothing is logged yet. */
+  long getLastSequence();
+}
@@ -0,0 +1,24 @@
+package com.vecondev.buildoptima.service.property;
+
+import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
+import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
+import com.vecondev.buildoptima.model.property.Property;
+import java.util.List;
+
+/**
+ * Serves properties as serialized JSON. Responses of recently read properties are kept in memory,
+ * so reading them again needs neither the database nor serialization.
+ */
+public interface PropertyService {
+
+  byte[] getByAin(String ain);
+
+  /** Returns a JSON array of the found properties in the requested order, unknown ones skipped. */
+  byte[] getAllByAins(List<String> ains);
+
+  /** Filters and sorts properties on their columns and the attributes nested in their json. */
+  FetchResponseDto fetch(FetchRequestDto fetchRequest);
+
+  /** Drops the kept response of a property saved with the given version or an older one. */
+  void evict(Property property);
+}
@@ -0,0 +1,18 @@
+package com.vecondev.buildoptima.service.property;
+
+import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
+import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
+import com.vecondev.buildoptima.model.property.Property;
+
+/**
+ * Keeps a narrow summary of every property for list views, so listing properties never reads
+ * their addresses or json.
+ */
+public interface PropertySummaryService {
+
+  /** Writes the summary of a just saved property. */
+  void save(Property property);
+
+  /** Filters and sorts property summaries. */
+  FetchResponseDto fetch(FetchRequestDto fetchRequest);
+}
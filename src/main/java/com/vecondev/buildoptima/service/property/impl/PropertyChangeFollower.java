@@ -0,0 +1,101 @@
+package com.vecondev.buildoptima.service.property.impl;
+
+import com.vecondev.buildoptima.config.properties.PropertyChangeConfigProperties;
+import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.model.property.PropertyChange;
+import com.vecondev.buildoptima.repository.property.PropertyRepository;
+import com.vecondev.buildoptima.service.property.PropertyChangeService;
+import com.vecondev.buildoptima.service.property.PropertyService;
+import com.vecondev.buildoptima.service.property.search.AddressSearchService;
+import com.vecondev.buildoptima.service.property.search.LocationSearchService;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reads the change log to pass the properties saved by the migration of any instance to the
+ * in-memory views of this one. The views are loaded on startup, so the log is followed from the
+ * last change logged before they were loaded. A property saved by this instance is passed once
+ * more, the views take it as an ordinary save.
+ */
+@Slf4j
+@Component
+public class PropertyChangeFollower {
+
+  private final PropertyChangeConfigProperties properties;
+  private final PropertyChangeService propertyChangeService;
+  private final PropertyRepository propertyRepository;
+  private final AddressSearchService addressSearchService;
+  private final LocationSearchService locationSearchService;
+  private final PropertyService propertyService;
+  private final TransactionTemplate transactionTemplate;
+
+  /** Sequence of the last change passed to the views, negative until the views are loaded. */
+  private volatile long since = -1;
+
+  public PropertyChangeFollower(
+      PropertyChangeConfigProperties properties,
+      PropertyChangeService propertyChangeService,
+      PropertyRepository propertyRepository,
+      AddressSearchService addressSearchService,
+      LocationSearchService locationSearchService,
+      PropertyService propertyService,
+      PlatformTransactionManager transactionManager) {
+    this.properties = properties;
+    this.propertyChangeService = propertyChangeService;
+    this.propertyRepository = propertyRepository;
+    this.addressSearchService = addressSearchService;
+    this.locationSearchService = locationSearchService;
+    this.propertyService = propertyService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+  }
+
+  /** Runs before the views are loaded, a change logged meanwhile is passed to them again. */
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    since = propertyChangeService.getLastSequence();
+  }
+
+  @Scheduled(fixedDelayString = "${property-changes.follow-delay}")
+  public synchronized void follow() {
+    if (since < 0) {
+      return;
+    }
+
+    int batchSize = properties.getMaxPageSize();
+    int passed = 0;
+    List<PropertyChange> changes;
+    do {
+      changes = propertyChangeService.findVisibleAfter(since, batchSize);
+      if (!changes.isEmpty()) {
+        Set<String> ains =
+            changes.stream().map(PropertyChange::getAin).collect(Collectors.toSet());
+        transactionTemplate.executeWithoutResult(
+            status -> propertyRepository.findAllByAinIn(ains).forEach(this::pass));
+        since = changes.get(changes.size() - 1).getSequence();
+        passed += ains.size();
+      }
+    } while (changes.size() == batchSize);
+
+    if (passed > 0) {
+      log.info("Passed {} changed properties up to change {} to the views", passed, since);
+    }
+  }
+
+  private void pass(Property property) {
+    addressSearchService.index(property);
+    locationSearchService.index(property);
+    propertyService.evict(property);
+  }
+}
@@ -0,0 +1,70 @@
+package com.vecondev.buildoptima.service.property.impl;
+
+import com.vecondev.buildoptima.config.properties.PropertyChangeConfigProperties;
+import com.vecondev.buildoptima.dto.property.response.PropertyChangesResponseDto;
+import com.vecondev.buildoptima.mapper.property.PropertyChangeMapper;
+import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.model.property.PropertyChange;
+import com.vecondev.buildoptima.model.property.PropertyOperation;
+import com.vecondev.buildoptima.repository.property.PropertyChangeRepository;
+import com.vecondev.buildoptima.service.property.PropertyChangeService;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PropertyChangeServiceImpl implements PropertyChangeService {
+
+  private final PropertyChangeConfigProperties properties;
+  private final PropertyChangeRepository propertyChangeRepository;
+  private final PropertyChangeMapper propertyChangeMapper;
+
+  @Override
+  public void record(Property property, PropertyOperation op) {
+    propertyChangeRepository.save(
+        PropertyChange.builder()
+            .ain(property.getAin())
+            .op(op)
+            .version(Objects.requireNonNullElse(property.getVersion(), 0))
+            .changedAt(Instant.now())
+            .build());
+  }
+
+  @Override
+  public PropertyChangesResponseDto getChanges(long since, Integer limit) {
+    int pageSize =
+        limit == null || limit <= 0
+            ? properties.getMaxPageSize()
+            : Math.min(limit, properties.getMaxPageSize());
+    // one more than requested tells whether there are more
+    List<PropertyChange> changes = findVisibleAfter(since, pageSize + 1);
+    boolean hasMore = changes.size() > pageSize;
+    if (hasMore) {
+      changes = changes.subList(0, pageSize);
+    }
+
+    log.info("Returning {} property changes after {}", changes.size(), since);
+    return PropertyChangesResponseDto.builder()
+        .changes(propertyChangeMapper.mapToResponseList(changes))
+        .next(changes.isEmpty() ? since : changes.get(changes.size() - 1).getSequence())
+        .hasMore(hasMore)
+        .build();
+  }
+
+  @Override
+  public List<PropertyChange> findVisibleAfter(long since, int limit) {
+    return propertyChangeRepository.findAllAfter(
+        since, Instant.now().minus(properties.getVisibilityDelay()), PageRequest.of(0, limit));
+  }
+
+  @Override
+  public long getLastSequence() {
+    return propertyChangeRepository.findLastSequence();
+  }
+}
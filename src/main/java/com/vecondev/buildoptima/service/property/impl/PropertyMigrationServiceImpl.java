@@ -4,6 +4,7 @@ import static com.vecondev.buildoptima.util.FileUtil.convertS3ObjectToPath;
 import static com.vecondev.buildoptima.util.JsonUtil.*;
 
 import com.amazonaws.services.s3.model.S3Object;
+import com.vecondev.buildoptima.config.properties.PropertyMigrationConfigProperties;
 import com.vecondev.buildoptima.config.properties.S3ConfigProperties;
 import com.vecondev.buildoptima.dto.property.PropertyListDto;
 import com.vecondev.buildoptima.dto.property.PropertyReadDto;
@@ -14,41 +15,96 @@ import com.vecondev.buildoptima.mapper.property.AddressMapper;
 import com.vecondev.buildoptima.mapper.property.PropertyMapper;
 import com.vecondev.buildoptima.model.property.Address;
 import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.model.property.PropertyOperation;
 import com.vecondev.buildoptima.model.property.migration.MigrationHistory;
 import com.vecondev.buildoptima.repository.property.PropertyRepository;
+import com.vecondev.buildoptima.service.property.PropertyChangeService;
 import com.vecondev.buildoptima.service.property.PropertyMigrationService;
+import com.vecondev.buildoptima.service.property.PropertyService;
+import com.vecondev.buildoptima.service.property.PropertySummaryService;
 import com.vecondev.buildoptima.service.property.migration.MigrationHistoryService;
 import com.vecondev.buildoptima.service.property.migration.MigrationMetadataService;
+import com.vecondev.buildoptima.service.property.search.AddressSearchService;
+import com.vecondev.buildoptima.service.property.search.LocationSearchService;
+import com.vecondev.buildoptima.service.property.stats.PropertyStatsService;
 import com.vecondev.buildoptima.service.s3.AmazonS3Service;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(isolation = Isolation.REPEATABLE_READ, noRollbackFor = Exception.class)
 public class PropertyMigrationServiceImpl implements PropertyMigrationService {
 
   private final MigrationHistoryService migrationHistoryService;
   private final MigrationMetadataService migrationMetadataService;
   private final AmazonS3Service amazonS3Service;
+  private final AddressSearchService addressSearchService;
+  private final LocationSearchService locationSearchService;
+  private final PropertyService propertyService;
+  private final PropertySummaryService propertySummaryService;
+  private final PropertyChangeService propertyChangeService;
+  private final PropertyStatsService propertyStatsService;
 
   private final PropertyRepository propertyRepository;
 
   private final PropertyMapper propertyMapper;
 
   private final S3ConfigProperties s3ConfigProperties;
+  private final PropertyMigrationConfigProperties migrationConfigProperties;
+
+  private final TransactionTemplate transactionTemplate;
+
+  public PropertyMigrationServiceImpl(
+      MigrationHistoryService migrationHistoryService,
+      MigrationMetadataService migrationMetadataService,
+      AmazonS3Service amazonS3Service,
+      AddressSearchService addressSearchService,
+      LocationSearchService locationSearchService,
+      PropertyService propertyService,
+      PropertySummaryService propertySummaryService,
+      PropertyChangeService propertyChangeService,
+      PropertyStatsService propertyStatsService,
+      PropertyRepository propertyRepository,
+      PropertyMapper propertyMapper,
+      S3ConfigProperties s3ConfigProperties,
+      PropertyMigrationConfigProperties migrationConfigProperties,
+      PlatformTransactionManager transactionManager) {
+    this.migrationHistoryService = migrationHistoryService;
+    this.migrationMetadataService = migrationMetadataService;
+    this.amazonS3Service = amazonS3Service;
+    this.addressSearchService = addressSearchService;
+    this.locationSearchService = locationSearchService;
+    this.propertyService = propertyService;
+    this.propertySummaryService = propertySummaryService;
+    this.propertyChangeService = propertyChangeService;
+    this.propertyStatsService = propertyStatsService;
+    this.propertyRepository = propertyRepository;
+    this.propertyMapper = propertyMapper;
+    this.s3ConfigProperties = s3ConfigProperties;
+    this.migrationConfigProperties = migrationConfigProperties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
 
   @Override
   public List<MigrationHistory> migrateFromS3() {
@@ -155,65 +211,141 @@ public class PropertyMigrationServiceImpl implements PropertyMigrationService {
         allProcessedFiles.size(), allFailedFilesToProcess, allProperties.size());
   }
 
-  private void  processFiles(List<S3Object> unprocessedFiles, boolean isDelta) {
-    int sizeOfUnprocessedFiles = unprocessedFiles.size();
-    CountDownLatch countDownLatch = new CountDownLatch(sizeOfUnprocessedFiles);
-    ExecutorService executorService = Executors.newFixedThreadPool(sizeOfUnprocessedFiles);
-    unprocessedFiles.forEach(
-            s3Object -> {
-              Runnable runnable = () -> {
-                try {
-                  saveProperty(
-                      readFromJson(convertS3ObjectToPath(s3Object).toFile()),
-                      migrationHistoryService.saveSucceededHistory(s3Object.getKey(), isDelta));
-                  log.info("""
-                          {} file from S3 was successfully processed
-                          and removed from local storage""",
-                      s3Object.getKey());
-                } catch (Exception e) {
-                  migrationHistoryService
-                      .saveFailedHistory(s3Object.getKey(), e.getMessage(), isDelta);
-                  log.info("""
-                          Failed processing {} file from S3.
-                          See failed reason in migration metadata""",
-                      s3Object.getKey());
-                }
-                countDownLatch.countDown();
-              };
-              executorService.submit(runnable);
-            });
+  /**
+   * Parses the files in parallel and writes their properties on a fixed number of lanes, each
+   * property on the lane of its AIN hash. The files are handed to the lanes in the given order, so
+   * a property found in several files is written by a single thread in file order and its
+   * optimistic version never conflicts with another writer. A lane holds a bounded number of
+   * properties, the dispatching waits for a full one, and a parsed file is dropped once dispatched.
+   */
+  private void processFiles(List<S3Object> unprocessedFiles, boolean isDelta) {
+    ExecutorService parsers =
+        Executors.newFixedThreadPool(
+            Math.min(unprocessedFiles.size(), migrationConfigProperties.getParserThreads()));
+    ExecutorService[] lanes = new ExecutorService[migrationConfigProperties.getWriterLanes()];
+    Arrays.setAll(lanes, lane -> boundedLane(migrationConfigProperties.getWriterQueueCapacity()));
+    List<Future<PropertyListDto>> parsedFiles =
+        unprocessedFiles.stream()
+            .map(
+                s3Object ->
+                    parsers.submit(() -> readFromJson(convertS3ObjectToPath(s3Object).toFile())))
+            .collect(Collectors.toCollection(ArrayList::new));
     try {
-      countDownLatch.await();
+      for (int i = 0; i < unprocessedFiles.size(); i++) {
+        dispatch(unprocessedFiles.get(i).getKey(), parsedFiles.set(i, null), lanes, isDelta);
+      }
     } catch (InterruptedException ex) {
-      ex.printStackTrace();
+      log.error("Interrupted while dispatching the property files", ex);
       Thread.currentThread().interrupt();
+    } finally {
+      parsers.shutdownNow();
+      Arrays.stream(lanes).forEach(ExecutorService::shutdown);
     }
+    awaitTermination(lanes);
+    migrationMetadataService.flush();
+    propertyStatsService.invalidate();
   }
 
+  /** Waits for the parsing of a file and queues its properties on their lanes. */
+  private void dispatch(
+      String key, Future<PropertyListDto> parsedFile, ExecutorService[] lanes, boolean isDelta)
+      throws InterruptedException {
+    try {
+      List<PropertyReadDto> properties = parsedFile.get().getProperties();
+      MigrationHistory migrationHistory =
+          migrationHistoryService.saveSucceededHistory(key, isDelta);
+      properties.forEach(
+          propertyDto -> {
+            int lane = Math.floorMod(Objects.hashCode(propertyDto.getAin()), lanes.length);
+            lanes[lane].execute(() -> saveProperty(propertyDto, migrationHistory));
+          });
+      log.info("""
+              {} file from S3 was successfully parsed
+              and removed from local storage, its properties are queued for writing""",
+          key);
+    } catch (ExecutionException | RuntimeException e) {
+      Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+      migrationHistoryService.saveFailedHistory(key, cause.getMessage(), isDelta);
+      log.info("""
+              Failed processing {} file from S3.
+              See failed reason in migration metadata""",
+          key);
+    }
+  }
 
   /**
-   * Saves the whole property data in database and the property addresses in OpenSearch.
+   * A single writer thread whose queue holds at most the given number of properties. A property
+   * queued on a full lane waits for room instead of being rejected, so the lane keeps file order.
    */
-  private void saveProperty(PropertyListDto propertyListDto, MigrationHistory migrationHistory) {
-    List<PropertyReadDto> properties = propertyListDto.getProperties();
-    properties.forEach(
-        propertyDto -> {
+  private static ExecutorService boundedLane(int capacity) {
+    return new ThreadPoolExecutor(
+        1,
+        1,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(capacity),
+        (task, lane) -> {
+          if (lane.isShutdown()) {
+            throw new RejectedExecutionException("Writer lane is shut down");
+          }
           try {
-            Optional<Property> fromDb = propertyRepository.findById(propertyDto.getAin());
-            Property savedProperty;
-            if (fromDb.isEmpty()) {
-              savedProperty =
-                  propertyRepository.save(propertyMapper.mapToEntity(propertyDto));
-            } else {
-              savedProperty = update(propertyDto, fromDb.get());
-            }
-            migrationMetadataService.save(migrationHistory, savedProperty);
-          } catch (Exception e) {
-            migrationMetadataService.save(migrationHistory, propertyDto, e.getMessage());
+            lane.getQueue().put(task);
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for a writer lane", ex);
           }
         });
   }
 
+  private void awaitTermination(ExecutorService[] lanes) {
+    try {
+      for (ExecutorService lane : lanes) {
+        lane.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+      }
+    } catch (InterruptedException ex) {
+      log.error("Interrupted while writing the migrated properties", ex);
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Saves the whole property data in database with its summary for list views and the change for
+   * the consumers of the change log and, once committed, the property addresses and centroid in the
+   * search indexes.
+   */
+  private void saveProperty(PropertyReadDto propertyDto, MigrationHistory migrationHistory) {
+    try {
+      Property savedProperty = transactionTemplate.execute(status -> write(propertyDto));
+      migrationMetadataService.save(migrationHistory, savedProperty);
+      addressSearchService.index(savedProperty);
+      locationSearchService.index(savedProperty);
+      propertyService.evict(savedProperty);
+    } catch (Exception e) {
+      migrationMetadataService.save(migrationHistory, propertyDto, e.getMessage());
+    }
+  }
+
+  /**
+   * Writes the property, its summary and its change in one transaction, so neither the list views
+   * nor the change log have a row of a property that failed to save or miss the row of a saved one.
+   * The property is flushed before the other rows are written, which then hold its new version.
+   */
+  private Property write(PropertyReadDto propertyDto) {
+    Optional<Property> fromDb = propertyRepository.findById(propertyDto.getAin());
+    Property savedProperty;
+    PropertyOperation op;
+    if (fromDb.isEmpty()) {
+      savedProperty = propertyRepository.saveAndFlush(propertyMapper.mapToEntity(propertyDto));
+      op = PropertyOperation.CREATE;
+    } else {
+      savedProperty = update(propertyDto, fromDb.get());
+      op = PropertyOperation.UPDATE;
+    }
+    propertySummaryService.save(savedProperty);
+    propertyChangeService.record(savedProperty, op);
+    return savedProperty;
+  }
+
   private Map<String, String> getFailedFilesWithReasons(List<MigrationHistory> migrationHistories) {
     return migrationHistories.stream()
         .filter(history -> history.getFailedAt() != null)
@@ -233,6 +365,6 @@ public class PropertyMigrationServiceImpl implements PropertyMigrationService {
     toUpdate.setDetails(property.getDetails());
     toUpdate.setHazards(property.getHazards());
     toUpdate.setZoningDetails(property.getZoningDetails());
-    return propertyRepository.save(toUpdate);
+    return propertyRepository.saveAndFlush(toUpdate);
   }
 }
@@ -0,0 +1,209 @@
+package com.vecondev.buildoptima.service.property.impl;
+
+import static com.vecondev.buildoptima.exception.Error.FAILED_JSON_CONVERTING;
+import static com.vecondev.buildoptima.exception.Error.PROPERTY_NOT_FOUND;
+import static com.vecondev.buildoptima.exception.Error.TOO_MANY_AINS;
+import static com.vecondev.buildoptima.filter.model.PropertyFields.propertyPageSortingFieldsMap;
+import static com.vecondev.buildoptima.filter.model.PropertyFields.propertySortingFieldsMap;
+import static com.vecondev.buildoptima.validation.validator.FieldNameValidator.validateFieldNames;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vecondev.buildoptima.config.properties.PropertyCacheConfigProperties;
+import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
+import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
+import com.vecondev.buildoptima.exception.ConvertingFailedException;
+import com.vecondev.buildoptima.exception.InvalidFieldException;
+import com.vecondev.buildoptima.exception.ResourceNotFoundException;
+import com.vecondev.buildoptima.filter.converter.PageableConverter;
+import com.vecondev.buildoptima.filter.model.SortDto;
+import com.vecondev.buildoptima.filter.specification.GenericSpecification;
+import com.vecondev.buildoptima.mapper.property.PropertyMapper;
+import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.repository.property.PropertyRepository;
+import com.vecondev.buildoptima.service.property.PropertyService;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the serialized responses of the read properties in a cache bounded by their total size.
+ * Every entry carries the version of the property it was serialized from, an eviction leaves the
+ * saved version behind, so a reader that loaded the property before the save can't put the older
+ * response back. The properties saved on other instances are evicted as the change log is
+ * followed.
+ */
+@Slf4j
+@Service
+public class PropertyServiceImpl implements PropertyService {
+
+  /** Rough per-entry overhead of the cache, so evicted entries still have a weight. */
+  private static final int ENTRY_OVERHEAD = 64;
+
+  private final PropertyCacheConfigProperties properties;
+  private final PropertyRepository propertyRepository;
+  private final PropertyMapper propertyMapper;
+  private final ObjectMapper objectMapper;
+  private final PageableConverter pageableConverter;
+  private final Cache<String, CachedProperty> responses;
+
+  public PropertyServiceImpl(
+      PropertyCacheConfigProperties properties,
+      PropertyRepository propertyRepository,
+      PropertyMapper propertyMapper,
+      ObjectMapper objectMapper,
+      PageableConverter pageableConverter) {
+    this.properties = properties;
+    this.propertyRepository = propertyRepository;
+    this.propertyMapper = propertyMapper;
+    this.objectMapper = objectMapper;
+    this.pageableConverter = pageableConverter;
+    this.responses =
+        Caffeine.newBuilder()
+            .maximumWeight(properties.getMaximumSize().toBytes())
+            .weigher((String ain, CachedProperty cached) -> cached.weight(ain))
+            .expireAfterWrite(properties.getExpireAfterWrite())
+            .build();
+  }
+
+  @Override
+  public byte[] getByAin(String ain) {
+    CachedProperty cached = responses.getIfPresent(ain);
+    if (cached != null && cached.json() != null) {
+      return cached.json();
+    }
+
+    Property property =
+        propertyRepository
+            .findById(ain)
+            .orElseThrow(() -> new ResourceNotFoundException(PROPERTY_NOT_FOUND));
+    return cache(property);
+  }
+
+  @Override
+  public byte[] getAllByAins(List<String> ains) {
+    Set<String> requested = new LinkedHashSet<>(ains);
+    if (requested.size() > properties.getMaxBatchSize()) {
+      throw new InvalidFieldException(TOO_MANY_AINS);
+    }
+
+    Map<String, byte[]> found = new HashMap<>();
+    List<String> missing = new ArrayList<>();
+    requested.forEach(
+        ain -> {
+          CachedProperty cached = responses.getIfPresent(ain);
+          if (cached != null && cached.json() != null) {
+            found.put(ain, cached.json());
+          } else {
+            missing.add(ain);
+          }
+        });
+    if (!missing.isEmpty()) {
+      propertyRepository
+          .findAllById(missing)
+          .forEach(property -> found.put(property.getAin(), cache(property)));
+    }
+
+    ByteArrayOutputStream array =
+        new ByteArrayOutputStream(
+            found.values().stream().mapToInt(json -> json.length + 1).sum() + 2);
+    array.write('[');
+    for (String ain : requested) {
+      byte[] json = found.get(ain);
+      if (json != null) {
+        if (array.size() > 1) {
+          array.write(',');
+        }
+        array.writeBytes(json);
+      }
+    }
+    array.write(']');
+    return array.toByteArray();
+  }
+
+  @Override
+  public FetchResponseDto fetch(FetchRequestDto fetchRequest) {
+    log.info("Fetching properties");
+    if (fetchRequest.getSort() == null || fetchRequest.getSort().isEmpty()) {
+      fetchRequest.setSort(List.of(new SortDto("ain", SortDto.Direction.ASC)));
+    }
+    validateFieldNames(propertySortingFieldsMap, fetchRequest.getSort());
+    Pageable pageable = pageableConverter.convert(fetchRequest);
+    Specification<Property> specification =
+        new GenericSpecification<>(propertyPageSortingFieldsMap, fetchRequest.getFilter());
+
+    assert pageable != null;
+    Page<Property> result = propertyRepository.findAll(specification, pageable);
+
+    List<?> content = result.map(propertyMapper::mapToResponseDto).getContent();
+    log.info("Response was sent. {} results where found", content.size());
+    return FetchResponseDto.builder()
+        .content(content)
+        .page(result.getNumber())
+        .size(result.getSize())
+        .totalElements(result.getTotalElements())
+        .last(result.isLast())
+        .build();
+  }
+
+  @Override
+  public void evict(Property property) {
+    responses
+        .asMap()
+        .merge(
+            property.getAin(),
+            new CachedProperty(versionOf(property), null),
+            PropertyServiceImpl::newer);
+  }
+
+  private byte[] cache(Property property) {
+    byte[] json = serialize(property);
+    responses
+        .asMap()
+        .merge(
+            property.getAin(),
+            new CachedProperty(versionOf(property), json),
+            PropertyServiceImpl::newer);
+    return json;
+  }
+
+  private byte[] serialize(Property property) {
+    try {
+      return objectMapper.writeValueAsBytes(propertyMapper.mapToResponseDto(property));
+    } catch (JsonProcessingException ex) {
+      log.error("Failed to serialize property {}", property.getAin(), ex);
+      throw new ConvertingFailedException(FAILED_JSON_CONVERTING);
+    }
+  }
+
+  private static int versionOf(Property property) {
+    return Objects.requireNonNullElse(property.getVersion(), 0);
+  }
+
+  /** Keeps the entry of the newer version, the candidate when both have the same one. */
+  private static CachedProperty newer(CachedProperty current, CachedProperty candidate) {
+    return candidate.version() >= current.version() ? candidate : current;
+  }
+
+  /**
+   * Serialized response of a property version, without it when the version was only evicted.
+   */
+  private record CachedProperty(int version, byte[] json) {
+
+    int weight(String ain) {
+      return ENTRY_OVERHEAD + ain.length() + (json != null ? json.length : 0);
+    }
+  }
+}
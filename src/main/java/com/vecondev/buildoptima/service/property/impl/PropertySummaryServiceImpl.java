@@ -0,0 +1,104 @@
+package com.vecondev.buildoptima.service.property.impl;
+
+import static com.vecondev.buildoptima.filter.model.PropertySummaryFields.propertySummaryPageSortingFieldsMap;
+import static com.vecondev.buildoptima.validation.validator.FieldNameValidator.validateFieldNames;
+
+import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
+import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
+import com.vecondev.buildoptima.filter.converter.PageableConverter;
+import com.vecondev.buildoptima.filter.model.SortDto;
+import com.vecondev.buildoptima.filter.specification.GenericSpecification;
+import com.vecondev.buildoptima.mapper.property.AddressMapper;
+import com.vecondev.buildoptima.mapper.property.PropertySummaryMapper;
+import com.vecondev.buildoptima.model.property.Address;
+import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.model.property.PropertySummary;
+import com.vecondev.buildoptima.repository.property.PropertySummaryRepository;
+import com.vecondev.buildoptima.service.property.PropertySummaryService;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PropertySummaryServiceImpl implements PropertySummaryService {
+
+  private static final int MAX_TEXT_LENGTH = 255;
+
+  private final PropertySummaryRepository propertySummaryRepository;
+  private final PropertySummaryMapper propertySummaryMapper;
+  private final AddressMapper addressMapper;
+  private final PageableConverter pageableConverter;
+
+  @Override
+  public void save(Property property) {
+    Set<String> zoneCodes =
+        property.getZoningDetails() != null
+            ? property.getZoningDetails().getZoneCodes()
+            : Set.of();
+    PropertySummary summary =
+        propertySummaryRepository
+            .findById(property.getAin())
+            .orElseGet(() -> PropertySummary.builder().ain(property.getAin()).build());
+    summary.setMunicipality(property.getMunicipality());
+    summary.setAddress(primaryAddress(property));
+    summary.setCentroidLat(property.getCentroidLat());
+    summary.setCentroidLng(property.getCentroidLng());
+    summary.setLotArea(property.getDetails() != null ? property.getDetails().getLotArea() : null);
+    summary.setZoneCodes(
+        zoneCodes.isEmpty()
+            ? null
+            : StringUtils.truncate(
+                String.join(", ", zoneCodes.stream().sorted().toList()), MAX_TEXT_LENGTH));
+    summary.setVersion(Objects.requireNonNullElse(property.getVersion(), 0));
+    propertySummaryRepository.save(summary);
+  }
+
+  @Override
+  public FetchResponseDto fetch(FetchRequestDto fetchRequest) {
+    log.info("Fetching property summaries");
+    if (fetchRequest.getSort() == null || fetchRequest.getSort().isEmpty()) {
+      fetchRequest.setSort(List.of(new SortDto("ain", SortDto.Direction.ASC)));
+    }
+    validateFieldNames(propertySummaryPageSortingFieldsMap, fetchRequest.getSort());
+    Pageable pageable = pageableConverter.convert(fetchRequest);
+    Specification<PropertySummary> specification =
+        new GenericSpecification<>(propertySummaryPageSortingFieldsMap, fetchRequest.getFilter());
+
+    assert pageable != null;
+    Page<PropertySummary> result = propertySummaryRepository.findAll(specification, pageable);
+
+    List<?> content = result.map(propertySummaryMapper::mapToResponseDto).getContent();
+    log.info("Response was sent. {} results where found", content.size());
+    return FetchResponseDto.builder()
+        .content(content)
+        .page(result.getNumber())
+        .size(result.getSize())
+        .totalElements(result.getTotalElements())
+        .last(result.isLast())
+        .build();
+  }
+
+  /** The primary address of the property, or its first one if none is primary. */
+  private String primaryAddress(Property property) {
+    List<Address> addresses = property.getAddresses();
+    if (addresses == null || addresses.isEmpty()) {
+      return null;
+    }
+    Address address =
+        addresses.stream()
+            .min(Comparator.comparing(candidate -> !candidate.isPrimary()))
+            .orElseThrow();
+    return StringUtils.truncate(
+        addressMapper.mapToDocument(address).getAddressToDisplay().trim(), MAX_TEXT_LENGTH);
+  }
+}
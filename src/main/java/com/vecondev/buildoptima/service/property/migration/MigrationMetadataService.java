@@ -3,12 +3,17 @@ package com.vecondev.buildoptima.service.property.migration;
 import com.vecondev.buildoptima.dto.property.PropertyReadDto;
 import com.vecondev.buildoptima.model.property.Property;
 import com.vecondev.buildoptima.model.property.migration.MigrationHistory;
-import com.vecondev.buildoptima.model.property.migration.MigrationMetadata;
 
+/**
+ * Queues the metadata of the migrated properties and writes it in batches, a batch is written once
+ * it is full or on {@link #flush()}.
+ */
 public interface MigrationMetadataService {
 
-  MigrationMetadata save(MigrationHistory migrationHistory, Property property);
+  void save(MigrationHistory migrationHistory, Property property);
 
-  MigrationMetadata save(
-      MigrationHistory migrationHistory, PropertyReadDto property, String failedReason);
+  void save(MigrationHistory migrationHistory, PropertyReadDto property, String failedReason);
+
+  /** Writes the queued metadata. */
+  void flush();
 }
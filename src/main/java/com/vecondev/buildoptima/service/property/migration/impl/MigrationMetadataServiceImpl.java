@@ -1,108 +1,192 @@
 package com.vecondev.buildoptima.service.property.migration.impl;
 
-import static com.vecondev.buildoptima.exception.Error.MIGRATION_METADATA_NOT_FOUND;
-
+import com.vecondev.buildoptima.config.properties.PropertyMigrationConfigProperties;
+import com.vecondev.buildoptima.dto.property.AddressDto;
 import com.vecondev.buildoptima.dto.property.PropertyReadDto;
-import com.vecondev.buildoptima.exception.ResourceNotFoundException;
 import com.vecondev.buildoptima.mapper.property.AddressMapper;
 import com.vecondev.buildoptima.model.property.Address;
 import com.vecondev.buildoptima.model.property.Property;
 import com.vecondev.buildoptima.model.property.migration.MigrationHistory;
 import com.vecondev.buildoptima.model.property.migration.MigrationMetadata;
 import com.vecondev.buildoptima.repository.property.MigrationMetadataRepository;
+import com.vecondev.buildoptima.repository.property.MigrationMetadataUpsertRepository;
 import com.vecondev.buildoptima.service.property.migration.MigrationMetadataService;
 import java.time.Instant;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Keeps the metadata of every AIN once per batch, a later one merged into the queued one the way
+ * the upsert merges it into the stored one. Batches are written one at a time, so the metadata of
+ * an AIN is never written out of order. A batch is taken off the queue under its lock and written
+ * outside it, so the migration threads keep queueing while a batch is written.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(noRollbackFor = Exception.class)
 public class MigrationMetadataServiceImpl implements MigrationMetadataService {
 
   private final MigrationMetadataRepository repository;
+  private final MigrationMetadataUpsertRepository upsertRepository;
   private final AddressMapper addressMapper;
+  private final PropertyMigrationConfigProperties properties;
+  private final TransactionTemplate transactionTemplate;
+
+  private final Map<String, MigrationMetadata> queued = new LinkedHashMap<>();
+  private final Object writeLock = new Object();
+
+  public MigrationMetadataServiceImpl(
+      MigrationMetadataRepository repository,
+      MigrationMetadataUpsertRepository upsertRepository,
+      AddressMapper addressMapper,
+      PropertyMigrationConfigProperties properties,
+      PlatformTransactionManager transactionManager) {
+    this.repository = repository;
+    this.upsertRepository = upsertRepository;
+    this.addressMapper = addressMapper;
+    this.properties = properties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
 
   @Override
-  public MigrationMetadata save(MigrationHistory migrationHistory, Property property) {
-    MigrationMetadata migrationMetadata;
-    if (repository.existsByAin(property.getAin())) {
-      migrationMetadata =
-          repository.save(
-              repository
-                  .findByAin(property.getAin())
-                  .orElseThrow(() -> new ResourceNotFoundException(MIGRATION_METADATA_NOT_FOUND))
-                  .toBuilder()
-                  .migrationHistory(migrationHistory)
-                  .addresses(addressMapper.mapToDtoList(property.getAddresses()))
-                  .build());
-    } else {
-      migrationMetadata =
-          MigrationMetadata.builder()
-              .ain(property.getAin())
-              .migrationHistory(migrationHistory)
-              .build();
-    }
-    return saveSucceeded(property, migrationMetadata);
+  public void save(MigrationHistory migrationHistory, Property property) {
+    List<Address> addresses = property.getAddresses();
+    queue(
+        MigrationMetadata.builder()
+            .ain(property.getAin())
+            .migrationHistory(migrationHistory)
+            .addresses(addresses != null ? addressMapper.mapToDtoList(addresses) : null)
+            .syncedAt(Instant.now())
+            .build());
   }
 
   @Override
-  public MigrationMetadata save(
+  public void save(
       MigrationHistory migrationHistory, PropertyReadDto property, String failedReason) {
-    MigrationMetadata.MigrationMetadataBuilder migrationMetadataBuilder;
-    if (repository.existsByAin(property.getAin())) {
-      migrationMetadataBuilder =
-          repository
-              .findByAin(property.getAin())
-              .orElseThrow(() -> new ResourceNotFoundException(MIGRATION_METADATA_NOT_FOUND))
-              .toBuilder();
-    } else {
-      migrationMetadataBuilder = MigrationMetadata.builder();
-    }
-    MigrationMetadata migrationMetadata =
-        migrationMetadataBuilder
+    queue(
+        MigrationMetadata.builder()
             .ain(property.getAin())
             .migrationHistory(migrationHistory)
+            .addresses(getAddresses(property))
+            .syncedAt(Instant.now())
             .failedAt(Instant.now())
             .failedReason(failedReason)
-            .build();
+            .build());
+  }
 
-    return saveFailed(property, migrationMetadata);
+  /**
+   * Writes each batch in its own transaction. A batch that fails is written again row by row, so
+   * only the rows failing on their own are lost and each of them is logged.
+   */
+  @Override
+  public void flush() {
+    synchronized (writeLock) {
+      List<MigrationMetadata> batch = takeQueued();
+      if (batch.isEmpty()) {
+        return;
+      }
+      try {
+        write(batch);
+        log.info("Saved the migration metadata of {} properties", batch.size());
+      } catch (RuntimeException ex) {
+        log.warn(
+            "Failed to save the migration metadata of {} properties, saving them one by one",
+            batch.size(),
+            ex);
+        batch.forEach(this::writeOne);
+      }
+    }
   }
 
-  private MigrationMetadata saveSucceeded(Property property, MigrationMetadata migrationMetadata) {
-    if (!property.getAddresses().isEmpty() && property.getAddresses() != null) {
-      migrationMetadata.setAddresses(addressMapper.mapToDtoList(property.getAddresses()));
+  private void queue(MigrationMetadata metadata) {
+    if (metadata.getAin() == null) {
+      log.warn("Skipped the migration metadata of a property without AIN");
+      return;
+    }
+    if (enqueue(metadata)) {
+      flush();
     }
-    return repository.save(migrationMetadata);
   }
 
-  private MigrationMetadata saveFailed(
-      PropertyReadDto property, MigrationMetadata migrationMetadata) {
-    if (property.getAssociatedAddresses() != null && !property.getAssociatedAddresses().isEmpty()) {
-      List<Address> addresses = property.getAssociatedAddresses();
-      if (addresses == null || addresses.isEmpty()) {
-        migrationMetadata.setAddresses(Collections.emptyList());
-      } else {
-        addresses.forEach(
+  /** Queues the metadata, true once the batch is full. */
+  private synchronized boolean enqueue(MigrationMetadata metadata) {
+    queued.merge(metadata.getAin(), metadata, MigrationMetadataServiceImpl::merge);
+    return queued.size() >= properties.getMetadataBatchSize();
+  }
+
+  private synchronized List<MigrationMetadata> takeQueued() {
+    List<MigrationMetadata> batch = new ArrayList<>(queued.values());
+    queued.clear();
+    return batch;
+  }
+
+  private void write(List<MigrationMetadata> batch) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          if (upsertRepository.isSupported()) {
+            upsertRepository.upsertAll(batch);
+          } else {
+            repository.saveAll(
+                batch.stream()
+                    .map(
+                        metadata ->
+                            repository
+                                .findByAin(metadata.getAin())
+                                .map(stored -> merge(stored, metadata))
+                                .orElse(metadata))
+                    .toList());
+          }
+        });
+  }
+
+  private void writeOne(MigrationMetadata metadata) {
+    try {
+      write(List.of(metadata));
+    } catch (RuntimeException ex) {
+      log.error("Failed to save the migration metadata of property {}", metadata.getAin(), ex);
+    }
+  }
+
+  /** Takes the later metadata, with the addresses and failure of the earlier one if it has none. */
+  private static MigrationMetadata merge(MigrationMetadata earlier, MigrationMetadata later) {
+    return earlier.toBuilder()
+        .migrationHistory(later.getMigrationHistory())
+        .addresses(ObjectUtils.firstNonNull(later.getAddresses(), earlier.getAddresses()))
+        .syncedAt(later.getSyncedAt())
+        .failedAt(ObjectUtils.firstNonNull(later.getFailedAt(), earlier.getFailedAt()))
+        .failedReason(ObjectUtils.firstNonNull(later.getFailedReason(), earlier.getFailedReason()))
+        .build();
+  }
+
+  /** The addresses of a property that failed to migrate, none to keep the stored ones. */
+  private List<AddressDto> getAddresses(PropertyReadDto property) {
+    if (property.getAssociatedAddresses() == null || property.getAssociatedAddresses().isEmpty()) {
+      return null;
+    }
+    List<Address> addresses = new ArrayList<>();
+    property.getAssociatedAddresses().stream()
+        .filter(Objects::nonNull)
+        .forEach(
             address -> {
-              if (address != null) {
-                address.setPrimary(false);
-              }
+              address.setPrimary(false);
+              addresses.add(address);
             });
-        Address primaryAddress = property.getPropertyAddress();
-        if (primaryAddress != null) {
-          primaryAddress.setPrimary(true);
-          addresses.add(primaryAddress);
-        }
-        migrationMetadata.setAddresses(addressMapper.mapToDtoList(addresses));
-      }
+    Address primaryAddress = property.getPropertyAddress();
+    if (primaryAddress != null) {
+      primaryAddress.setPrimary(true);
+      addresses.add(primaryAddress);
     }
-    return repository.save(migrationMetadata);
+    return addressMapper.mapToDtoList(addresses);
   }
 }
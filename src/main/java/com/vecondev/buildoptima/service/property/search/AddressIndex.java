@@ -0,0 +1,376 @@
+package com.vecondev.buildoptima.service.property.search;
+
+import com.vecondev.buildoptima.model.property.AddressDocument;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable in-memory index of property addresses. Addresses are split into words, the sorted
+ * dictionary of distinct words answers prefix lookups by binary search and a trigram index over
+ * the words finds the ones a misspelled query word may stand for. Every word points to the sorted
+ * ordinals of the addresses containing it, so a query is an intersection of a few int arrays.
+ */
+public final class AddressIndex {
+
+  public static final AddressIndex EMPTY = build(List.of());
+
+  private static final Pattern SEPARATOR = Pattern.compile("[^\\p{Alnum}]+");
+
+  /** Marks the start of a word in its trigrams, so prefixes of a word share its first trigram. */
+  private static final char WORD_START = '$';
+
+  private static final Comparator<Hit> RANKING =
+      Comparator.comparingInt(Hit::edits)
+          .thenComparingInt(hit -> hit.address().length())
+          .thenComparing(Hit::address)
+          .thenComparing(Hit::ain);
+
+  private final String[] ains;
+  private final String[] addresses;
+
+  /** Address ordinals sorted by the property AIN. */
+  private final int[] byAin;
+
+  private final String[] words;
+  private final int[][] postings;
+  private final Map<String, int[]> trigrams;
+
+  private AddressIndex(
+      String[] ains,
+      String[] addresses,
+      int[] byAin,
+      String[] words,
+      int[][] postings,
+      Map<String, int[]> trigrams) {
+    this.ains = ains;
+    this.addresses = addresses;
+    this.byAin = byAin;
+    this.words = words;
+    this.postings = postings;
+    this.trigrams = trigrams;
+  }
+
+  public static AddressIndex build(Collection<AddressDocument> documents) {
+    int size = documents.size();
+    String[] ains = new String[size];
+    String[] addresses = new String[size];
+    Map<String, IntList> wordPostings = new HashMap<>();
+    int ordinal = 0;
+    for (AddressDocument document : documents) {
+      ains[ordinal] = document.getPropertyAin();
+      addresses[ordinal] = document.getAddressToDisplay().trim();
+      for (String word : tokenize(document.getAddressToSearch())) {
+        wordPostings.computeIfAbsent(word, key -> new IntList()).add(ordinal);
+      }
+      ordinal++;
+    }
+
+    String[] words = wordPostings.keySet().toArray(String[]::new);
+    Arrays.sort(words);
+    int[][] postings = new int[words.length][];
+    Map<String, IntList> trigramWords = new HashMap<>();
+    for (int word = 0; word < words.length; word++) {
+      postings[word] = wordPostings.get(words[word]).toArray();
+      for (String trigram : trigramsOf(words[word])) {
+        trigramWords.computeIfAbsent(trigram, key -> new IntList()).add(word);
+      }
+    }
+    Map<String, int[]> trigrams = new HashMap<>(trigramWords.size() * 4 / 3 + 1);
+    trigramWords.forEach((trigram, wordIds) -> trigrams.put(trigram, wordIds.toArray()));
+
+    int[] byAin =
+        IntStream.range(0, size)
+            .boxed()
+            .sorted(Comparator.comparing(document -> ains[document]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+
+    return new AddressIndex(ains, addresses, byAin, words, postings, trigrams);
+  }
+
+  /** Number of indexed addresses. */
+  public int size() {
+    return ains.length;
+  }
+
+  /**
+   * Finds the addresses containing every word of the query. The last word may be incomplete and
+   * matches as a prefix, words of four letters and more also match with one typo, of eight and more
+   * with two. Properties are ranked by the number of typos, then by the shortest address.
+   *
+   * @param accepted properties the caller wants to see, others are skipped
+   */
+  public List<Hit> search(String query, int limit, int maxExpansions, Predicate<String> accepted) {
+    List<String> queryWords = tokenize(query);
+    if (queryWords.isEmpty() || ains.length == 0) {
+      return List.of();
+    }
+
+    List<Map<Integer, Integer>> expansions = new ArrayList<>(queryWords.size());
+    for (int i = 0; i < queryWords.size(); i++) {
+      Map<Integer, Integer> expansion =
+          expand(queryWords.get(i), i == queryWords.size() - 1, maxExpansions);
+      if (expansion.isEmpty()) {
+        return List.of();
+      }
+      expansions.add(expansion);
+    }
+    expansions.sort(Comparator.comparingLong(this::postingsSize));
+
+    Map<Integer, Integer> matches = null;
+    for (Map<Integer, Integer> expansion : expansions) {
+      Map<Integer, Integer> previous = matches;
+      Map<Integer, Integer> next = new HashMap<>();
+      expansion.forEach(
+          (word, edits) -> {
+            for (int document : postings[word]) {
+              if (previous == null) {
+                next.merge(document, edits, Math::min);
+              } else {
+                Integer previousEdits = previous.get(document);
+                if (previousEdits != null) {
+                  next.merge(document, previousEdits + edits, Math::min);
+                }
+              }
+            }
+          });
+      if (next.isEmpty()) {
+        return List.of();
+      }
+      matches = next;
+    }
+
+    Map<String, Hit> best = new HashMap<>();
+    matches.forEach(
+        (document, edits) -> {
+          if (accepted.test(ains[document])) {
+            best.merge(
+                ains[document],
+                new Hit(ains[document], addresses[document], edits),
+                (left, right) -> RANKING.compare(left, right) <= 0 ? left : right);
+          }
+        });
+
+    return top(best.values(), limit);
+  }
+
+  /** Finds the properties whose AIN starts with the given digits, in AIN order. */
+  public List<Hit> searchByAin(String query, int limit, Predicate<String> accepted) {
+    String prefix = SEPARATOR.matcher(query).replaceAll("");
+    if (prefix.isEmpty()) {
+      return List.of();
+    }
+
+    int low = 0;
+    int high = byAin.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (ains[byAin[middle]].compareTo(prefix) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+
+    Map<String, Hit> found = new LinkedHashMap<>();
+    for (int i = low; i < byAin.length && found.size() < limit; i++) {
+      String ain = ains[byAin[i]];
+      if (!ain.startsWith(prefix)) {
+        break;
+      }
+      if (accepted.test(ain)) {
+        found.putIfAbsent(ain, new Hit(ain, addresses[byAin[i]], 0));
+      }
+    }
+    return List.copyOf(found.values());
+  }
+
+  /** Merges hits of several indexes into the best ones, in ranking order. */
+  public static List<Hit> top(Collection<Hit> hits, int limit) {
+    PriorityQueue<Hit> top = new PriorityQueue<>(RANKING.reversed());
+    for (Hit hit : hits) {
+      top.add(hit);
+      if (top.size() > limit) {
+        top.poll();
+      }
+    }
+    List<Hit> ranked = new ArrayList<>(top);
+    ranked.sort(RANKING);
+    return ranked;
+  }
+
+  /**
+   * Maps the indexed words a query word stands for to the number of typos between them: the word
+   * itself (or the words it's a prefix of) first, then the words found through shared trigrams.
+   */
+  private Map<Integer, Integer> expand(String queryWord, boolean prefix, int maxExpansions) {
+    Map<Integer, Integer> expansion = new LinkedHashMap<>();
+    int from = lowerBound(queryWord);
+    if (prefix) {
+      for (int word = from;
+          word < words.length && words[word].startsWith(queryWord)
+              && expansion.size() < maxExpansions;
+          word++) {
+        expansion.put(word, 0);
+      }
+    } else if (from < words.length && words[from].equals(queryWord)) {
+      expansion.put(from, 0);
+    }
+
+    int allowedEdits = allowedEdits(queryWord);
+    if (allowedEdits == 0 || expansion.size() >= maxExpansions) {
+      return expansion;
+    }
+
+    List<String> queryTrigrams = trigramsOf(queryWord);
+    Map<Integer, Integer> shared = new HashMap<>();
+    for (String trigram : queryTrigrams) {
+      int[] candidates = trigrams.get(trigram);
+      if (candidates != null) {
+        for (int word : candidates) {
+          shared.merge(word, 1, Integer::sum);
+        }
+      }
+    }
+
+    // a single typo changes at most three trigrams of a word
+    int requiredShared = Math.max(1, queryTrigrams.size() - 3 * allowedEdits);
+    List<Map.Entry<Integer, Integer>> candidates =
+        shared.entrySet().stream()
+            .filter(entry -> entry.getValue() >= requiredShared)
+            .filter(entry -> !expansion.containsKey(entry.getKey()))
+            .sorted(Map.Entry.<Integer, Integer>comparingByValue().reversed())
+            .toList();
+    for (Map.Entry<Integer, Integer> candidate : candidates) {
+      if (expansion.size() >= maxExpansions) {
+        break;
+      }
+      int edits = distance(queryWord, words[candidate.getKey()], prefix, allowedEdits);
+      if (edits <= allowedEdits) {
+        expansion.put(candidate.getKey(), edits);
+      }
+    }
+    return expansion;
+  }
+
+  private long postingsSize(Map<Integer, Integer> expansion) {
+    long size = 0;
+    for (int word : expansion.keySet()) {
+      size += postings[word].length;
+    }
+    return size;
+  }
+
+  private int lowerBound(String word) {
+    int index = Arrays.binarySearch(words, word);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  /** House numbers, units and ZIP codes must be typed exactly, a typo there is another place. */
+  private static int allowedEdits(String word) {
+    if (word.length() < 4 || word.chars().anyMatch(Character::isDigit)) {
+      return 0;
+    }
+    return word.length() < 8 ? 1 : 2;
+  }
+
+  /**
+   * Optimal string alignment distance between the query word and the indexed one, or any of its
+   * prefixes when the query word may be incomplete. Returns {@code max + 1} when it's greater.
+   */
+  static int distance(String queryWord, String word, boolean prefix, int max) {
+    int length = queryWord.length();
+    int wordLength = prefix ? Math.min(word.length(), length + max) : word.length();
+    if (!prefix && Math.abs(length - wordLength) > max) {
+      return max + 1;
+    }
+
+    int[][] distances = new int[length + 1][wordLength + 1];
+    for (int i = 0; i <= length; i++) {
+      distances[i][0] = i;
+    }
+    for (int j = 0; j <= wordLength; j++) {
+      distances[0][j] = j;
+    }
+    for (int i = 1; i <= length; i++) {
+      for (int j = 1; j <= wordLength; j++) {
+        int cost = queryWord.charAt(i - 1) == word.charAt(j - 1) ? 0 : 1;
+        int distance =
+            Math.min(
+                Math.min(distances[i - 1][j] + 1, distances[i][j - 1] + 1),
+                distances[i - 1][j - 1] + cost);
+        if (i > 1
+            && j > 1
+            && queryWord.charAt(i - 1) == word.charAt(j - 2)
+            && queryWord.charAt(i - 2) == word.charAt(j - 1)) {
+          distance = Math.min(distance, distances[i - 2][j - 2] + 1);
+        }
+        distances[i][j] = distance;
+      }
+    }
+
+    int result = distances[length][wordLength];
+    if (prefix) {
+      for (int j = 0; j < wordLength; j++) {
+        result = Math.min(result, distances[length][j]);
+      }
+    }
+    return Math.min(result, max + 1);
+  }
+
+  static List<String> tokenize(String text) {
+    if (text == null) {
+      return List.of();
+    }
+    return Arrays.stream(SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+        .filter(word -> !word.isEmpty())
+        .toList();
+  }
+
+  private static List<String> trigramsOf(String word) {
+    String marked = WORD_START + word;
+    List<String> trigrams = new ArrayList<>(Math.max(1, marked.length() - 2));
+    if (marked.length() < 3) {
+      trigrams.add(marked);
+    }
+    for (int i = 0; i + 3 <= marked.length(); i++) {
+      trigrams.add(marked.substring(i, i + 3));
+    }
+    return trigrams;
+  }
+
+  /** An indexed property matching a query, with the number of typos it took to match. */
+  public record Hit(String ain, String address, int edits) {}
+
+  /** Growable list of increasing ints, an address or word is added to a list once. */
+  private static final class IntList {
+
+    private int[] values = new int[4];
+    private int size;
+
+    void add(int value) {
+      if (size > 0 && values[size - 1] == value) {
+        return;
+      }
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+}
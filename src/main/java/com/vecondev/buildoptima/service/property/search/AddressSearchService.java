@@ -0,0 +1,24 @@
+package com.vecondev.buildoptima.service.property.search;
+
+import com.vecondev.buildoptima.dto.property.response.PropertyOverview;
+import com.vecondev.buildoptima.filter.model.PropertySearchCriteria;
+import com.vecondev.buildoptima.model.property.Property;
+import java.util.List;
+
+/**
+ * Serves the address autocomplete from an index kept in memory. The index is loaded from the
+ * database on startup and follows the properties saved by the migration.
+ */
+public interface AddressSearchService {
+
+  List<PropertyOverview> autocomplete(String query, PropertySearchCriteria criteria, int limit);
+
+  /** Replaces the indexed addresses of the saved property with its current ones. */
+  void index(Property property);
+
+  /** Reloads the whole index from the database. */
+  void load();
+
+  /** Folds the properties indexed since the last merge into the main index. */
+  void merge();
+}
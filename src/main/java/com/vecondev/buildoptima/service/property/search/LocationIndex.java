@@ -0,0 +1,221 @@
+package com.vecondev.buildoptima.service.property.search;
+
+import com.vecondev.buildoptima.dto.property.PropertyLocationDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Immutable grid index of property centroids. The globe is cut into square cells of a fixed size
+ * in degrees and numbered row by row, the points are stored in packed arrays ordered by their
+ * cell. A row of the cells under a bounding box is a contiguous range of cell numbers, so a query
+ * takes one binary search per row and then reads the points of the cells in place.
+ */
+public final class LocationIndex {
+
+  public static final double EARTH_RADIUS_MILES = 3958.8;
+
+  private static final double MILES_PER_DEGREE = Math.toRadians(EARTH_RADIUS_MILES);
+
+  private final double cellSize;
+  private final long columns;
+
+  /** Numbers of the non-empty cells, in increasing order. */
+  private final long[] cells;
+
+  /** Index of the first point of every cell, followed by the number of points. */
+  private final int[] offsets;
+
+  private final String[] ains;
+  private final double[] lats;
+  private final double[] lngs;
+
+  private LocationIndex(
+      double cellSize,
+      long[] cells,
+      int[] offsets,
+      String[] ains,
+      double[] lats,
+      double[] lngs) {
+    this.cellSize = cellSize;
+    this.columns = columnsOf(cellSize);
+    this.cells = cells;
+    this.offsets = offsets;
+    this.ains = ains;
+    this.lats = lats;
+    this.lngs = lngs;
+  }
+
+  public static LocationIndex empty(double cellSize) {
+    return build(List.of(), cellSize);
+  }
+
+  public static LocationIndex build(Collection<PropertyLocationDto> locations, double cellSize) {
+    long columns = columnsOf(cellSize);
+    PropertyLocationDto[] sorted = locations.toArray(PropertyLocationDto[]::new);
+    Arrays.sort(
+        sorted,
+        Comparator.comparingLong(
+            (PropertyLocationDto location) ->
+                cellOf(location.lat(), location.lng(), cellSize, columns)));
+
+    int size = sorted.length;
+    String[] ains = new String[size];
+    double[] lats = new double[size];
+    double[] lngs = new double[size];
+    long[] cells = new long[size];
+    int[] offsets = new int[size + 1];
+    int cellCount = 0;
+    for (int i = 0; i < size; i++) {
+      ains[i] = sorted[i].ain();
+      lats[i] = sorted[i].lat();
+      lngs[i] = sorted[i].lng();
+      long cell = cellOf(lats[i], lngs[i], cellSize, columns);
+      if (cellCount == 0 || cells[cellCount - 1] != cell) {
+        cells[cellCount] = cell;
+        offsets[cellCount] = i;
+        cellCount++;
+      }
+    }
+    offsets[cellCount] = size;
+
+    return new LocationIndex(
+        cellSize,
+        Arrays.copyOf(cells, cellCount),
+        Arrays.copyOf(offsets, cellCount + 1),
+        ains,
+        lats,
+        lngs);
+  }
+
+  /** Number of indexed properties. */
+  public int size() {
+    return ains.length;
+  }
+
+  /** Finds at most the given number of properties inside the bounding box. */
+  public List<PropertyLocationDto> within(
+      double south,
+      double west,
+      double north,
+      double east,
+      int limit,
+      Predicate<String> accepted) {
+    List<PropertyLocationDto> found = new ArrayList<>();
+    scan(
+        south,
+        west,
+        north,
+        east,
+        point -> {
+          if (lats[point] >= south
+              && lats[point] <= north
+              && lngs[point] >= west
+              && lngs[point] <= east
+              && accepted.test(ains[point])) {
+            found.add(locationOf(point));
+          }
+          return found.size() < limit;
+        });
+    return found;
+  }
+
+  /** Finds the given number of properties nearest to the point within the radius, nearest first. */
+  public List<Hit> nearby(
+      double lat, double lng, double radiusMiles, int limit, Predicate<String> accepted) {
+    double latDelta = radiusMiles / MILES_PER_DEGREE;
+    double lngDelta =
+        Math.min(180, latDelta / Math.max(Math.cos(Math.toRadians(lat)), 0.000001));
+    PriorityQueue<Hit> found =
+        new PriorityQueue<>(Comparator.comparingDouble(Hit::distance).reversed());
+    scan(
+        lat - latDelta,
+        lng - lngDelta,
+        lat + latDelta,
+        lng + lngDelta,
+        point -> {
+          double distance = distance(lat, lng, lats[point], lngs[point]);
+          if (distance <= radiusMiles && accepted.test(ains[point])) {
+            found.add(new Hit(locationOf(point), distance));
+            if (found.size() > limit) {
+              found.poll();
+            }
+          }
+          return true;
+        });
+    return nearest(found, limit);
+  }
+
+  /** Merges hits of several indexes into the nearest ones. */
+  public static List<Hit> nearest(Collection<Hit> hits, int limit) {
+    return hits.stream().sorted(Comparator.comparingDouble(Hit::distance)).limit(limit).toList();
+  }
+
+  /** Great-circle distance between two points in miles. */
+  public static double distance(double lat1, double lng1, double lat2, double lng2) {
+    double latDistance = Math.toRadians(lat2 - lat1);
+    double lngDistance = Math.toRadians(lng2 - lng1);
+    double a =
+        Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+            + Math.cos(Math.toRadians(lat1))
+                * Math.cos(Math.toRadians(lat2))
+                * Math.sin(lngDistance / 2)
+                * Math.sin(lngDistance / 2);
+    return 2 * EARTH_RADIUS_MILES * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+
+  /**
+   * Visits the points of the cells overlapping the bounding box until the visitor returns false.
+   * The points of the border cells may lie outside of the box.
+   */
+  private void scan(double south, double west, double north, double east, IntPredicate visitor) {
+    long fromRow = row(Math.max(south, -90), cellSize);
+    long toRow = row(Math.min(north, 90), cellSize);
+    long fromColumn = column(Math.max(west, -180), cellSize);
+    long toColumn = column(Math.min(east, 180), cellSize);
+    for (long row = fromRow; row <= toRow; row++) {
+      long last = row * columns + toColumn;
+      int cell = lowerBound(row * columns + fromColumn);
+      for (; cell < cells.length && cells[cell] <= last; cell++) {
+        for (int point = offsets[cell]; point < offsets[cell + 1]; point++) {
+          if (!visitor.test(point)) {
+            return;
+          }
+        }
+      }
+    }
+  }
+
+  private PropertyLocationDto locationOf(int point) {
+    return new PropertyLocationDto(ains[point], lats[point], lngs[point]);
+  }
+
+  private int lowerBound(long cell) {
+    int index = Arrays.binarySearch(cells, cell);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  private static long columnsOf(double cellSize) {
+    return (long) Math.ceil(360 / cellSize) + 1;
+  }
+
+  private static long cellOf(double lat, double lng, double cellSize, long columns) {
+    return row(lat, cellSize) * columns + column(lng, cellSize);
+  }
+
+  private static long row(double lat, double cellSize) {
+    return (long) Math.floor((lat + 90) / cellSize);
+  }
+
+  private static long column(double lng, double cellSize) {
+    return (long) Math.floor((lng + 180) / cellSize);
+  }
+
+  /** A property found near a point, with its distance from it in miles. */
+  public record Hit(PropertyLocationDto location, double distance) {}
+}
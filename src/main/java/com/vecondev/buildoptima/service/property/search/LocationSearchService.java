@@ -0,0 +1,28 @@
+package com.vecondev.buildoptima.service.property.search;
+
+import com.vecondev.buildoptima.dto.property.PropertyLocationDto;
+import com.vecondev.buildoptima.model.property.Property;
+import java.util.List;
+
+/**
+ * Finds properties by the location of their centroid from an index kept in memory. The index is
+ * loaded from the database on startup and follows the properties saved by the migration.
+ */
+public interface LocationSearchService {
+
+  /** Finds properties inside the bounding box, at most the given number of them. */
+  List<PropertyLocationDto> findInViewport(
+      double south, double west, double north, double east, int limit);
+
+  /** Finds the properties nearest to the point within the radius in miles, nearest first. */
+  List<PropertyLocationDto> findNearby(double lat, double lng, double radius, int limit);
+
+  /** Replaces the indexed centroid of the saved property with its current one. */
+  void index(Property property);
+
+  /** Reloads the whole index from the database. */
+  void load();
+
+  /** Folds the properties indexed since the last merge into the main index. */
+  void merge();
+}
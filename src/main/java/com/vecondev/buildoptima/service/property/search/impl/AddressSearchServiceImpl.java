@@ -0,0 +1,203 @@
+package com.vecondev.buildoptima.service.property.search.impl;
+
+import static com.vecondev.buildoptima.filter.model.PropertySearchCriteria.AIN;
+
+import com.vecondev.buildoptima.config.properties.AddressSearchConfigProperties;
+import com.vecondev.buildoptima.dto.property.response.PropertyOverview;
+import com.vecondev.buildoptima.filter.model.PropertySearchCriteria;
+import com.vecondev.buildoptima.mapper.property.AddressMapper;
+import com.vecondev.buildoptima.model.property.Address;
+import com.vecondev.buildoptima.model.property.AddressDocument;
+import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.repository.property.AddressRepository;
+import com.vecondev.buildoptima.service.property.search.AddressIndex;
+import com.vecondev.buildoptima.service.property.search.AddressIndex.Hit;
+import com.vecondev.buildoptima.service.property.search.AddressSearchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the addresses of all properties in a main index and a small index of the properties saved
+ * since it was built, the main one is rebuilt once the small one has grown large. A property in the
+ * small one hides its entry in the main one, so updates are visible right after they are indexed.
+ * The properties saved by other instances are indexed as the change log is followed.
+ */
+@Slf4j
+@Service
+public class AddressSearchServiceImpl implements AddressSearchService {
+
+  private static final UUID FIRST_ID = new UUID(0, 0);
+
+  private final AddressSearchConfigProperties properties;
+  private final AddressRepository addressRepository;
+  private final AddressMapper addressMapper;
+  private final TransactionTemplate transactionTemplate;
+
+  /** Addresses of every known property, the main index is built from them. */
+  private final Map<String, List<AddressDocument>> documents = new ConcurrentHashMap<>();
+
+  /** Addresses of the properties indexed since the main index was built. */
+  private final Map<String, List<AddressDocument>> changes = new ConcurrentHashMap<>();
+
+  private final Object changesLock = new Object();
+
+  private volatile AddressIndex index = AddressIndex.EMPTY;
+  private volatile AddressIndex changesIndex = AddressIndex.EMPTY;
+  private volatile boolean changesIndexStale;
+
+  public AddressSearchServiceImpl(
+      AddressSearchConfigProperties properties,
+      AddressRepository addressRepository,
+      AddressMapper addressMapper,
+      PlatformTransactionManager transactionManager) {
+    this.properties = properties;
+    this.addressRepository = addressRepository;
+    this.addressMapper = addressMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+  }
+
+  @Override
+  public List<PropertyOverview> autocomplete(
+      String query, PropertySearchCriteria criteria, int limit) {
+    if (StringUtils.isBlank(query)) {
+      return List.of();
+    }
+
+    int size = Math.max(1, Math.min(limit, properties.getMaxResults()));
+    Predicate<String> unchanged = ain -> !changes.containsKey(ain);
+    AddressIndex recent = changesIndex();
+    List<Hit> hits = new ArrayList<>();
+    if (criteria == AIN) {
+      hits.addAll(index.searchByAin(query, size, unchanged));
+      hits.addAll(recent.searchByAin(query, size, changes::containsKey));
+      hits = hits.stream().sorted(Comparator.comparing(Hit::ain)).limit(size).toList();
+    } else {
+      int maxExpansions = properties.getMaxExpansions();
+      hits.addAll(index.search(query, size, maxExpansions, unchanged));
+      hits.addAll(recent.search(query, size, maxExpansions, changes::containsKey));
+      hits = AddressIndex.top(hits, size);
+    }
+
+    return hits.stream().map(hit -> new PropertyOverview(hit.ain(), hit.address())).toList();
+  }
+
+  @Override
+  public void index(Property property) {
+    List<AddressDocument> propertyDocuments =
+        property.getAddresses() == null
+            ? List.of()
+            : addressMapper.mapToDocumentList(property.getAddresses());
+    documents.put(property.getAin(), propertyDocuments);
+    changes.put(property.getAin(), propertyDocuments);
+    changesIndexStale = true;
+  }
+
+  /**
+   * Reads all addresses page by page, each page in its own read-only transaction. Properties
+   * indexed meanwhile by the migration keep their newer addresses.
+   */
+  @Override
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void load() {
+    final long startedAt = System.currentTimeMillis();
+    int batchSize = properties.getLoadBatchSize();
+    Map<String, List<AddressDocument>> loaded = new HashMap<>();
+    UUID after = FIRST_ID;
+    List<Address> page;
+    do {
+      UUID from = after;
+      page =
+          transactionTemplate.execute(
+              status -> {
+                List<Address> addresses =
+                    addressRepository.findByIdGreaterThanOrderById(
+                        from, PageRequest.of(0, batchSize));
+                addresses.forEach(
+                    address ->
+                        loaded
+                            .computeIfAbsent(
+                                address.getProperty().getAin(), ain -> new ArrayList<>())
+                            .add(addressMapper.mapToDocument(address)));
+                return addresses;
+              });
+      if (!page.isEmpty()) {
+        after = page.get(page.size() - 1).getId();
+      }
+    } while (page.size() == batchSize);
+
+    loaded.forEach(
+        (ain, propertyDocuments) -> {
+          if (!changes.containsKey(ain)) {
+            documents.put(ain, propertyDocuments);
+          }
+        });
+    index = AddressIndex.build(flatten(documents.values()));
+    log.info(
+        "Address search index loaded {} addresses of {} properties in {} ms",
+        index.size(),
+        documents.size(),
+        System.currentTimeMillis() - startedAt);
+  }
+
+  /**
+   * Rebuilds the main index with the indexed changes. A change made while rebuilding may be missing
+   * from the rebuilt index, so only the changes still holding the merged documents are dropped and
+   * a newer one stays in the small index until the next merge.
+   */
+  @Override
+  public synchronized void merge() {
+    if (changes.isEmpty()) {
+      return;
+    }
+
+    Map<String, List<AddressDocument>> merged = Map.copyOf(changes);
+    index = AddressIndex.build(flatten(documents.values()));
+    merged.forEach((ain, mergedDocuments) -> changes.remove(ain, mergedDocuments));
+    changesIndexStale = true;
+    log.info("Merged {} indexed properties into the address search index", merged.size());
+  }
+
+  /**
+   * Merges once enough properties are indexed. Below that the small index is cheaper to rebuild on
+   * the next read than the main one.
+   */
+  @Scheduled(fixedDelayString = "${address-search.merge-delay}")
+  public void mergeIfLarge() {
+    if (changes.size() >= properties.getMergeThreshold()) {
+      merge();
+    }
+  }
+
+  private AddressIndex changesIndex() {
+    if (changesIndexStale) {
+      synchronized (changesLock) {
+        if (changesIndexStale) {
+          changesIndexStale = false;
+          changesIndex = AddressIndex.build(flatten(changes.values()));
+        }
+      }
+    }
+    return changesIndex;
+  }
+
+  private static List<AddressDocument> flatten(Collection<List<AddressDocument>> documents) {
+    return documents.stream().flatMap(List::stream).toList();
+  }
+}
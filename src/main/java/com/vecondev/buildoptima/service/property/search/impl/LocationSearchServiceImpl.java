@@ -0,0 +1,188 @@
+package com.vecondev.buildoptima.service.property.search.impl;
+
+import static com.vecondev.buildoptima.exception.Error.INVALID_LOCATION;
+
+import com.vecondev.buildoptima.config.properties.LocationSearchConfigProperties;
+import com.vecondev.buildoptima.dto.property.PropertyLocationDto;
+import com.vecondev.buildoptima.exception.InvalidFieldException;
+import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.repository.property.PropertyRepository;
+import com.vecondev.buildoptima.service.property.search.LocationIndex;
+import com.vecondev.buildoptima.service.property.search.LocationIndex.Hit;
+import com.vecondev.buildoptima.service.property.search.LocationSearchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the centroids of all properties in a main grid index that is rebuilt periodically and a
+ * small one of the properties saved since then. A property in the small one hides its entry in the
+ * main one, so moved properties are found at their new place right after they are indexed. The
+ * properties saved by other instances are indexed as the change log is followed.
+ */
+@Slf4j
+@Service
+public class LocationSearchServiceImpl implements LocationSearchService {
+
+  private final LocationSearchConfigProperties properties;
+  private final PropertyRepository propertyRepository;
+
+  /** Centroids of every known property, the main index is built from them. */
+  private final Map<String, PropertyLocationDto> locations = new ConcurrentHashMap<>();
+
+  /**
+   * Centroids of the properties indexed since the main index was built, empty for properties
+   * without one.
+   */
+  private final Map<String, Optional<PropertyLocationDto>> changes = new ConcurrentHashMap<>();
+
+  private final Object changesLock = new Object();
+
+  private volatile LocationIndex index;
+  private volatile LocationIndex changesIndex;
+  private volatile boolean changesIndexStale;
+
+  public LocationSearchServiceImpl(
+      LocationSearchConfigProperties properties, PropertyRepository propertyRepository) {
+    this.properties = properties;
+    this.propertyRepository = propertyRepository;
+    this.index = LocationIndex.empty(properties.getCellSize());
+    this.changesIndex = index;
+  }
+
+  @Override
+  public List<PropertyLocationDto> findInViewport(
+      double south, double west, double north, double east, int limit) {
+    if (!isLatitude(south) || !isLatitude(north) || south > north
+        || !isLongitude(west) || !isLongitude(east) || west > east) {
+      throw new InvalidFieldException(INVALID_LOCATION);
+    }
+
+    int size = limitOf(limit);
+    List<PropertyLocationDto> found =
+        new ArrayList<>(index.within(south, west, north, east, size, unchanged()));
+    found.addAll(changesIndex().within(south, west, north, east, size, changes::containsKey));
+    return found.size() > size ? found.subList(0, size) : found;
+  }
+
+  @Override
+  public List<PropertyLocationDto> findNearby(double lat, double lng, double radius, int limit) {
+    if (!isLatitude(lat) || !isLongitude(lng) || radius <= 0
+        || radius > properties.getMaxRadius()) {
+      throw new InvalidFieldException(INVALID_LOCATION);
+    }
+
+    int size = limitOf(limit);
+    List<Hit> hits = new ArrayList<>(index.nearby(lat, lng, radius, size, unchanged()));
+    hits.addAll(changesIndex().nearby(lat, lng, radius, size, changes::containsKey));
+    return LocationIndex.nearest(hits, size).stream().map(Hit::location).toList();
+  }
+
+  @Override
+  public void index(Property property) {
+    Optional<PropertyLocationDto> location =
+        property.getCentroidLat() == null || property.getCentroidLng() == null
+            ? Optional.empty()
+            : Optional.of(
+                new PropertyLocationDto(
+                    property.getAin(), property.getCentroidLat(), property.getCentroidLng()));
+    location.ifPresentOrElse(
+        found -> locations.put(property.getAin(), found),
+        () -> locations.remove(property.getAin()));
+    changes.put(property.getAin(), location);
+    changesIndexStale = true;
+  }
+
+  /**
+   * Reads the centroid columns page by page, the json locations aren't read. Properties indexed
+   * meanwhile by the migration keep their newer centroid.
+   */
+  @Override
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void load() {
+    final long startedAt = System.currentTimeMillis();
+    int batchSize = properties.getLoadBatchSize();
+    Map<String, PropertyLocationDto> loaded = new HashMap<>();
+    String after = "";
+    List<PropertyLocationDto> page;
+    do {
+      page = propertyRepository.findLocationsAfter(after, PageRequest.of(0, batchSize));
+      page.forEach(location -> loaded.put(location.ain(), location));
+      if (!page.isEmpty()) {
+        after = page.get(page.size() - 1).ain();
+      }
+    } while (page.size() == batchSize);
+
+    loaded.forEach(
+        (ain, location) -> {
+          if (!changes.containsKey(ain)) {
+            locations.put(ain, location);
+          }
+        });
+    index = LocationIndex.build(locations.values(), properties.getCellSize());
+    log.info(
+        "Location search index loaded {} centroids in {} ms",
+        index.size(),
+        System.currentTimeMillis() - startedAt);
+  }
+
+  /**
+   * Rebuilds the main index with the indexed changes. A change made while rebuilding may be missing
+   * from the rebuilt index, so only the changes still holding the merged location are dropped and
+   * a newer one stays in the small index until the next merge.
+   */
+  @Override
+  @Scheduled(fixedDelayString = "${location-search.merge-delay}")
+  public synchronized void merge() {
+    if (changes.isEmpty()) {
+      return;
+    }
+
+    Map<String, Optional<PropertyLocationDto>> merged = Map.copyOf(changes);
+    index = LocationIndex.build(locations.values(), properties.getCellSize());
+    merged.forEach((ain, mergedLocation) -> changes.remove(ain, mergedLocation));
+    changesIndexStale = true;
+    log.info("Merged {} indexed properties into the location search index", merged.size());
+  }
+
+  private LocationIndex changesIndex() {
+    if (changesIndexStale) {
+      synchronized (changesLock) {
+        if (changesIndexStale) {
+          changesIndexStale = false;
+          changesIndex =
+              LocationIndex.build(
+                  changes.values().stream().flatMap(Optional::stream).toList(),
+                  properties.getCellSize());
+        }
+      }
+    }
+    return changesIndex;
+  }
+
+  private Predicate<String> unchanged() {
+    return ain -> !changes.containsKey(ain);
+  }
+
+  private int limitOf(int limit) {
+    return Math.max(1, Math.min(limit, properties.getMaxResults()));
+  }
+
+  private static boolean isLatitude(double lat) {
+    return lat >= -90 && lat <= 90;
+  }
+
+  private static boolean isLongitude(double lng) {
+    return lng >= -180 && lng <= 180;
+  }
+}
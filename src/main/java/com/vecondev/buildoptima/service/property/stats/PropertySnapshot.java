@@ -0,0 +1,484 @@
+package com.vecondev.buildoptima.service.property.stats;
+
+import com.vecondev.buildoptima.dto.property.PropertyAttributesDto;
+import com.vecondev.buildoptima.filter.model.PropertyStatsDimension;
+import com.vecondev.buildoptima.filter.model.PropertyStatsMetric;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable columnar snapshot of the property attributes. Every attribute is a primitive array
+ * indexed by the row of a property, strings are replaced by their codes in a dictionary, and the
+ * zone codes of all the rows are stored one after another with the offset of every row. A query
+ * scans chunks of rows in parallel, filtering and aggregating one column at a time in plain loops
+ * over the arrays.
+ */
+public final class PropertySnapshot {
+
+  /** Stands for a missing integer attribute, a missing lot area is NaN. */
+  private static final int NONE = Integer.MIN_VALUE;
+
+  /** Stands for a missing string attribute. */
+  private static final int NO_CODE = -1;
+
+  private final int size;
+  private final Instant builtAt;
+
+  private final int[] municipalities;
+  private final String[] municipalityNames;
+  private final int[] fireHazardZones;
+  private final String[] fireHazardZoneNames;
+  private final int[] fireBrushClearanceZones;
+  private final String[] fireBrushClearanceZoneNames;
+  private final int[] decades;
+  private final String[] decadeNames;
+
+  private final double[] lotAreas;
+  private final int[] yearsBuilt;
+  private final int[] faultDistances;
+
+  /** Index of the first zone code of every row, followed by the number of zone codes. */
+  private final int[] zoneCodeOffsets;
+  private final int[] zoneCodes;
+  private final String[] zoneCodeNames;
+
+  private PropertySnapshot(Builder builder) {
+    this.size = builder.size;
+    this.builtAt = Instant.now();
+    this.municipalities = Arrays.copyOf(builder.municipalities, size);
+    this.municipalityNames = builder.municipalityNames.toArray();
+    this.fireHazardZones = Arrays.copyOf(builder.fireHazardZones, size);
+    this.fireHazardZoneNames = builder.fireHazardZoneNames.toArray();
+    this.fireBrushClearanceZones = Arrays.copyOf(builder.fireBrushClearanceZones, size);
+    this.fireBrushClearanceZoneNames = builder.fireBrushClearanceZoneNames.toArray();
+    this.decades = Arrays.copyOf(builder.decades, size);
+    this.decadeNames = builder.decadeNames.toArray();
+    this.lotAreas = Arrays.copyOf(builder.lotAreas, size);
+    this.yearsBuilt = Arrays.copyOf(builder.yearsBuilt, size);
+    this.faultDistances = Arrays.copyOf(builder.faultDistances, size);
+    this.zoneCodeOffsets = Arrays.copyOf(builder.zoneCodeOffsets, size + 1);
+    this.zoneCodes = Arrays.copyOf(builder.zoneCodes, builder.zoneCodeCount);
+    this.zoneCodeNames = builder.zoneCodeNames.toArray();
+  }
+
+  public static PropertySnapshot empty() {
+    return new Builder().build();
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Number of properties in the snapshot. */
+  public int size() {
+    return size;
+  }
+
+  public Instant getBuiltAt() {
+    return builtAt;
+  }
+
+  /**
+   * Counts the properties matching the filter per value of the dimension, all of them in one group
+   * without a dimension, and sums up the metric of those having it. A property is counted in every
+   * group of its zone codes. Groups are ordered by their count, the largest first. The chunks are
+   * scanned on the given pool.
+   */
+  public Result aggregate(
+      PropertyStatsDimension groupBy,
+      PropertyStatsMetric metric,
+      Filter filter,
+      int chunkSize,
+      ForkJoinPool pool) {
+    Query query = query(groupBy, metric, filter);
+    if (query == null || size == 0) {
+      return new Result(0, List.of());
+    }
+
+    int chunks = (size + chunkSize - 1) / chunkSize;
+    Accumulator total =
+        pool.submit(
+                () ->
+                    IntStream.range(0, chunks)
+                        .parallel()
+                        .mapToObj(
+                            chunk ->
+                                scan(
+                                    chunk * chunkSize,
+                                    Math.min(size, (chunk + 1) * chunkSize),
+                                    query))
+                        .reduce(Accumulator::merge)
+                        .orElseThrow())
+            .join();
+    return total.result(query.groupNames());
+  }
+
+  /** Resolves the filter values to codes, none when a value isn't in the snapshot at all. */
+  private Query query(PropertyStatsDimension groupBy, PropertyStatsMetric metric, Filter filter) {
+    int municipality = codeOf(filter.municipality(), municipalityNames);
+    int zoneCode = codeOf(filter.zoneCode(), zoneCodeNames);
+    int fireHazardZone = codeOf(filter.fireHazardZone(), fireHazardZoneNames);
+    if (municipality == NO_CODE && filter.municipality() != null
+        || zoneCode == NO_CODE && filter.zoneCode() != null
+        || fireHazardZone == NO_CODE && filter.fireHazardZone() != null) {
+      return null;
+    }
+
+    return new Query(
+        groupBy, metric, filter, municipality, zoneCode, fireHazardZone, groupNames(groupBy));
+  }
+
+  private Accumulator scan(int from, int to, Query query) {
+    int length = to - from;
+    boolean[] selected = new boolean[length];
+    Arrays.fill(selected, true);
+
+    Filter filter = query.filter();
+    if (query.municipality() != NO_CODE) {
+      selectEqual(selected, municipalities, from, query.municipality());
+    }
+    if (query.fireHazardZone() != NO_CODE) {
+      selectEqual(selected, fireHazardZones, from, query.fireHazardZone());
+    }
+    if (filter.minLotArea() != null || filter.maxLotArea() != null) {
+      selectBetween(
+          selected,
+          lotAreas,
+          from,
+          filter.minLotArea() != null ? filter.minLotArea() : Double.NEGATIVE_INFINITY,
+          filter.maxLotArea() != null ? filter.maxLotArea() : Double.POSITIVE_INFINITY);
+    }
+    if (filter.minYearBuilt() != null || filter.maxYearBuilt() != null) {
+      selectBetween(
+          selected,
+          yearsBuilt,
+          from,
+          filter.minYearBuilt() != null ? filter.minYearBuilt() : Integer.MIN_VALUE,
+          filter.maxYearBuilt() != null ? filter.maxYearBuilt() : Integer.MAX_VALUE);
+    }
+    if (filter.maxNearActiveFaultDistance() != null) {
+      selectBetween(
+          selected, faultDistances, from, Integer.MIN_VALUE, filter.maxNearActiveFaultDistance());
+    }
+    if (query.zoneCode() != NO_CODE) {
+      selectZoneCode(selected, from, query.zoneCode());
+    }
+
+    double[] values = values(query.metric(), from, length);
+    int[] groups = groupColumn(query.groupBy());
+    Accumulator accumulator = new Accumulator(query.groupNames().length + 1);
+    int none = query.groupNames().length;
+    for (int i = 0; i < length; i++) {
+      if (!selected[i]) {
+        continue;
+      }
+      accumulator.rows++;
+      double value = values != null ? values[i] : Double.NaN;
+      if (query.groupBy() == PropertyStatsDimension.ZONE_CODE) {
+        int start = zoneCodeOffsets[from + i];
+        int end = zoneCodeOffsets[from + i + 1];
+        if (start == end) {
+          accumulator.add(none, value);
+        }
+        for (int code = start; code < end; code++) {
+          accumulator.add(zoneCodes[code], value);
+        }
+      } else {
+        int code = groups != null ? groups[from + i] : NO_CODE;
+        accumulator.add(code != NO_CODE ? code : none, value);
+      }
+    }
+    return accumulator;
+  }
+
+  private static void selectEqual(boolean[] selected, int[] column, int from, int code) {
+    for (int i = 0; i < selected.length; i++) {
+      selected[i] &= column[from + i] == code;
+    }
+  }
+
+  /** Keeps the rows with a value in the range, NaN fails both comparisons. */
+  private static void selectBetween(
+      boolean[] selected, double[] column, int from, double min, double max) {
+    for (int i = 0; i < selected.length; i++) {
+      double value = column[from + i];
+      selected[i] &= value >= min & value <= max;
+    }
+  }
+
+  private static void selectBetween(
+      boolean[] selected, int[] column, int from, int min, int max) {
+    for (int i = 0; i < selected.length; i++) {
+      int value = column[from + i];
+      selected[i] &= value != NONE & value >= min & value <= max;
+    }
+  }
+
+  private void selectZoneCode(boolean[] selected, int from, int code) {
+    for (int i = 0; i < selected.length; i++) {
+      if (selected[i]) {
+        boolean found = false;
+        for (int j = zoneCodeOffsets[from + i]; j < zoneCodeOffsets[from + i + 1]; j++) {
+          found |= zoneCodes[j] == code;
+        }
+        selected[i] = found;
+      }
+    }
+  }
+
+  /** Copies the metric of the rows into a buffer, NaN for the rows without it. */
+  private double[] values(PropertyStatsMetric metric, int from, int length) {
+    if (metric == null) {
+      return null;
+    }
+
+    return switch (metric) {
+      case LOT_AREA -> Arrays.copyOfRange(lotAreas, from, from + length);
+      case YEAR_BUILT -> copy(yearsBuilt, from, length);
+      case NEAR_ACTIVE_FAULT_DISTANCE -> copy(faultDistances, from, length);
+    };
+  }
+
+  private static double[] copy(int[] column, int from, int length) {
+    double[] values = new double[length];
+    for (int i = 0; i < length; i++) {
+      int value = column[from + i];
+      values[i] = value != NONE ? value : Double.NaN;
+    }
+    return values;
+  }
+
+  /** Codes of the rows, none for the zone codes since a row has several of them. */
+  private int[] groupColumn(PropertyStatsDimension groupBy) {
+    if (groupBy == null) {
+      return null;
+    }
+
+    return switch (groupBy) {
+      case MUNICIPALITY -> municipalities;
+      case ZONE_CODE -> null;
+      case FIRE_HAZARD_ZONE -> fireHazardZones;
+      case FIRE_BRUSH_CLEARANCE_ZONE -> fireBrushClearanceZones;
+      case YEAR_BUILT_DECADE -> decades;
+    };
+  }
+
+  private String[] groupNames(PropertyStatsDimension groupBy) {
+    if (groupBy == null) {
+      return new String[0];
+    }
+
+    return switch (groupBy) {
+      case MUNICIPALITY -> municipalityNames;
+      case ZONE_CODE -> zoneCodeNames;
+      case FIRE_HAZARD_ZONE -> fireHazardZoneNames;
+      case FIRE_BRUSH_CLEARANCE_ZONE -> fireBrushClearanceZoneNames;
+      case YEAR_BUILT_DECADE -> decadeNames;
+    };
+  }
+
+  private static int codeOf(String value, String[] names) {
+    if (value != null) {
+      for (int code = 0; code < names.length; code++) {
+        if (names[code].equals(value)) {
+          return code;
+        }
+      }
+    }
+    return NO_CODE;
+  }
+
+  /** Filters of a query, each one is skipped when it's null. */
+  public record Filter(
+      String municipality,
+      String zoneCode,
+      String fireHazardZone,
+      Double minLotArea,
+      Double maxLotArea,
+      Integer minYearBuilt,
+      Integer maxYearBuilt,
+      Integer maxNearActiveFaultDistance) {}
+
+  /** Properties of one value of the dimension, the metric is summed up over those having it. */
+  public record Group(
+      String key, long count, long valueCount, double sum, double min, double max) {}
+
+  /** Number of matching properties and their groups. */
+  public record Result(long total, List<Group> groups) {}
+
+  private record Query(
+      PropertyStatsDimension groupBy,
+      PropertyStatsMetric metric,
+      Filter filter,
+      int municipality,
+      int zoneCode,
+      int fireHazardZone,
+      String[] groupNames) {}
+
+  /** Sums of the groups of one chunk, the last group is the one of the rows without a value. */
+  private static final class Accumulator {
+
+    private long rows;
+    private final long[] counts;
+    private final long[] valueCounts;
+    private final double[] sums;
+    private final double[] mins;
+    private final double[] maxs;
+
+    private Accumulator(int groups) {
+      counts = new long[groups];
+      valueCounts = new long[groups];
+      sums = new double[groups];
+      mins = new double[groups];
+      maxs = new double[groups];
+      Arrays.fill(mins, Double.POSITIVE_INFINITY);
+      Arrays.fill(maxs, Double.NEGATIVE_INFINITY);
+    }
+
+    private void add(int group, double value) {
+      counts[group]++;
+      if (!Double.isNaN(value)) {
+        valueCounts[group]++;
+        sums[group] += value;
+        mins[group] = Math.min(mins[group], value);
+        maxs[group] = Math.max(maxs[group], value);
+      }
+    }
+
+    private Accumulator merge(Accumulator other) {
+      rows += other.rows;
+      for (int group = 0; group < counts.length; group++) {
+        counts[group] += other.counts[group];
+        valueCounts[group] += other.valueCounts[group];
+        sums[group] += other.sums[group];
+        mins[group] = Math.min(mins[group], other.mins[group]);
+        maxs[group] = Math.max(maxs[group], other.maxs[group]);
+      }
+      return this;
+    }
+
+    private Result result(String[] names) {
+      List<Group> groups = new ArrayList<>();
+      for (int group = 0; group < counts.length; group++) {
+        if (counts[group] > 0) {
+          groups.add(
+              new Group(
+                  group < names.length ? names[group] : null,
+                  counts[group],
+                  valueCounts[group],
+                  sums[group],
+                  mins[group],
+                  maxs[group]));
+        }
+      }
+      groups.sort(Comparator.comparingLong(Group::count).reversed());
+      return new Result(rows, groups);
+    }
+  }
+
+  /** Appends the properties to growing columns, the snapshot copies them at their final size. */
+  public static final class Builder {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int size;
+    private int[] municipalities = new int[INITIAL_CAPACITY];
+    private int[] fireHazardZones = new int[INITIAL_CAPACITY];
+    private int[] fireBrushClearanceZones = new int[INITIAL_CAPACITY];
+    private int[] decades = new int[INITIAL_CAPACITY];
+    private double[] lotAreas = new double[INITIAL_CAPACITY];
+    private int[] yearsBuilt = new int[INITIAL_CAPACITY];
+    private int[] faultDistances = new int[INITIAL_CAPACITY];
+    private int[] zoneCodeOffsets = new int[INITIAL_CAPACITY + 1];
+    private int[] zoneCodes = new int[INITIAL_CAPACITY];
+    private int zoneCodeCount;
+
+    private final Dictionary municipalityNames = new Dictionary();
+    private final Dictionary fireHazardZoneNames = new Dictionary();
+    private final Dictionary fireBrushClearanceZoneNames = new Dictionary();
+    private final Dictionary decadeNames = new Dictionary();
+    private final Dictionary zoneCodeNames = new Dictionary();
+
+    private Builder() {}
+
+    public Builder add(PropertyAttributesDto attributes) {
+      if (size == municipalities.length) {
+        grow(size * 2);
+      }
+
+      final Integer yearBuilt = attributes.yearBuilt();
+      municipalities[size] = municipalityNames.codeOf(attributes.municipality());
+      fireHazardZones[size] = fireHazardZoneNames.codeOf(attributes.fireHazardZone());
+      fireBrushClearanceZones[size] =
+          fireBrushClearanceZoneNames.codeOf(attributes.fireBrushClearanceZone());
+      decades[size] =
+          decadeNames.codeOf(yearBuilt != null ? String.valueOf(yearBuilt / 10 * 10) : null);
+      lotAreas[size] = attributes.lotArea() != null ? attributes.lotArea() : Double.NaN;
+      yearsBuilt[size] = yearBuilt != null ? yearBuilt : NONE;
+      faultDistances[size] =
+          attributes.nearActiveFaultDistance() != null
+              ? attributes.nearActiveFaultDistance()
+              : NONE;
+
+      if (attributes.zoningDetails() != null) {
+        for (String zoneCode : attributes.zoningDetails().getZoneCodes()) {
+          if (zoneCode != null) {
+            if (zoneCodeCount == zoneCodes.length) {
+              zoneCodes = Arrays.copyOf(zoneCodes, zoneCodeCount * 2);
+            }
+            zoneCodes[zoneCodeCount++] = zoneCodeNames.codeOf(zoneCode);
+          }
+        }
+      }
+      size++;
+      zoneCodeOffsets[size] = zoneCodeCount;
+      return this;
+    }
+
+    public PropertySnapshot build() {
+      return new PropertySnapshot(this);
+    }
+
+    private void grow(int capacity) {
+      municipalities = Arrays.copyOf(municipalities, capacity);
+      fireHazardZones = Arrays.copyOf(fireHazardZones, capacity);
+      fireBrushClearanceZones = Arrays.copyOf(fireBrushClearanceZones, capacity);
+      decades = Arrays.copyOf(decades, capacity);
+      lotAreas = Arrays.copyOf(lotAreas, capacity);
+      yearsBuilt = Arrays.copyOf(yearsBuilt, capacity);
+      faultDistances = Arrays.copyOf(faultDistances, capacity);
+      zoneCodeOffsets = Arrays.copyOf(zoneCodeOffsets, capacity + 1);
+    }
+  }
+
+  /** Numbers the distinct values of a string attribute in the order they are met. */
+  private static final class Dictionary {
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    private int codeOf(String value) {
+      if (value == null) {
+        return NO_CODE;
+      }
+
+      return codes.computeIfAbsent(
+          value,
+          added -> {
+            values.add(added);
+            return values.size() - 1;
+          });
+    }
+
+    private String[] toArray() {
+      return values.toArray(String[]::new);
+    }
+  }
+}
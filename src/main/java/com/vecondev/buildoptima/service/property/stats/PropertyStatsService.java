@@ -0,0 +1,21 @@
+package com.vecondev.buildoptima.service.property.stats;
+
+import com.vecondev.buildoptima.dto.property.PropertyStatsRequestDto;
+import com.vecondev.buildoptima.dto.property.response.PropertyStatsResponseDto;
+
+/**
+ * Computes statistics of the property attributes over a columnar snapshot kept in memory, so
+ * they don't need the json of every property. The snapshot is rebuilt after migrations.
+ */
+public interface PropertyStatsService {
+
+  PropertyStatsResponseDto getStats(PropertyStatsRequestDto request);
+
+  /** Marks the snapshot as outdated, it is rebuilt by the next refresh. */
+  void invalidate();
+
+  void load();
+
+  /** Rebuilds the snapshot when it is outdated or too old. */
+  void refresh();
+}
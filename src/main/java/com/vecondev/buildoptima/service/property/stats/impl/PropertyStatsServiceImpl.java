@@ -0,0 +1,135 @@
+package com.vecondev.buildoptima.service.property.stats.impl;
+
+import com.vecondev.buildoptima.config.properties.PropertyStatsConfigProperties;
+import com.vecondev.buildoptima.dto.property.PropertyAttributesDto;
+import com.vecondev.buildoptima.dto.property.PropertyStatsRequestDto;
+import com.vecondev.buildoptima.dto.property.response.PropertyStatsGroupDto;
+import com.vecondev.buildoptima.dto.property.response.PropertyStatsResponseDto;
+import com.vecondev.buildoptima.repository.property.PropertyRepository;
+import com.vecondev.buildoptima.service.property.stats.PropertySnapshot;
+import com.vecondev.buildoptima.service.property.stats.PropertySnapshot.Filter;
+import com.vecondev.buildoptima.service.property.stats.PropertySnapshot.Group;
+import com.vecondev.buildoptima.service.property.stats.PropertySnapshot.Result;
+import com.vecondev.buildoptima.service.property.stats.PropertyStatsService;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Answers the statistics from the current snapshot while the next one is built aside, a query
+ * never waits for a rebuild. The migration only marks the snapshot as outdated, the rebuild runs
+ * on the scheduler after the migrated properties have been committed. The chunks of a query are
+ * scanned on a pool of their own, the common pool is left to the rest of the application.
+ */
+@Slf4j
+@Service
+public class PropertyStatsServiceImpl implements PropertyStatsService, DisposableBean {
+
+  private final PropertyStatsConfigProperties properties;
+  private final PropertyRepository propertyRepository;
+  private final ForkJoinPool scanPool;
+
+  private volatile PropertySnapshot snapshot = PropertySnapshot.empty();
+  private volatile boolean outdated;
+
+  public PropertyStatsServiceImpl(
+      PropertyStatsConfigProperties properties, PropertyRepository propertyRepository) {
+    this.properties = properties;
+    this.propertyRepository = propertyRepository;
+    int threads = properties.getScanThreads();
+    this.scanPool =
+        new ForkJoinPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+  }
+
+  @Override
+  public PropertyStatsResponseDto getStats(PropertyStatsRequestDto request) {
+    PropertySnapshot current = snapshot;
+    Result result =
+        current.aggregate(
+            request.getGroupBy(),
+            request.getMetric(),
+            new Filter(
+                request.getMunicipality(),
+                request.getZoneCode(),
+                request.getFireHazardZone(),
+                request.getMinLotArea(),
+                request.getMaxLotArea(),
+                request.getMinYearBuilt(),
+                request.getMaxYearBuilt(),
+                request.getMaxNearActiveFaultDistance()),
+            properties.getChunkSize(),
+            scanPool);
+
+    return PropertyStatsResponseDto.builder()
+        .total(result.total())
+        .snapshotBuiltAt(current.getBuiltAt())
+        .groups(result.groups().stream().map(PropertyStatsServiceImpl::toGroupDto).toList())
+        .build();
+  }
+
+  @Override
+  public void invalidate() {
+    outdated = true;
+  }
+
+  /**
+   * Reads the attributes page by page into a new snapshot. A migration finishing meanwhile marks
+   * the new one as outdated again.
+   */
+  @Override
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void load() {
+    final long startedAt = System.currentTimeMillis();
+    outdated = false;
+    int batchSize = properties.getLoadBatchSize();
+    PropertySnapshot.Builder builder = PropertySnapshot.builder();
+    String after = "";
+    List<PropertyAttributesDto> page;
+    do {
+      page = propertyRepository.findAttributesAfter(after, PageRequest.of(0, batchSize));
+      page.forEach(builder::add);
+      if (!page.isEmpty()) {
+        after = page.get(page.size() - 1).ain();
+      }
+    } while (page.size() == batchSize);
+
+    snapshot = builder.build();
+    log.info(
+        "Property statistics snapshot of {} properties built in {} ms",
+        snapshot.size(),
+        System.currentTimeMillis() - startedAt);
+  }
+
+  @Override
+  @Scheduled(fixedDelayString = "${property-stats.refresh-delay}")
+  public void refresh() {
+    if (outdated || snapshot.getBuiltAt().plus(properties.getMaxAge()).isBefore(Instant.now())) {
+      load();
+    }
+  }
+
+  @Override
+  public void destroy() {
+    scanPool.shutdown();
+  }
+
+  private static PropertyStatsGroupDto toGroupDto(Group group) {
+    boolean hasValues = group.valueCount() > 0;
+    return PropertyStatsGroupDto.builder()
+        .key(group.key())
+        .count(group.count())
+        .valueCount(group.valueCount())
+        .sum(hasValues ? group.sum() : null)
+        .average(hasValues ? group.sum() / group.valueCount() : null)
+        .min(hasValues ? group.min() : null)
+        .max(hasValues ? group.max() : null)
+        .build();
+  }
+}
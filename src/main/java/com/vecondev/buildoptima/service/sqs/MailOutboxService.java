@@ -0,0 +1,21 @@
+package com.vecondev.buildoptima.service.sqs;
+
+import com.vecondev.buildoptima.dto.user.ConfirmationMessage;
+
+/**
+ * Transactional outbox of the mail queue. Messages are stored with the changes that caused them
+ * and relayed to SQS in the background, so a rolled back change sends no mail and a crash loses
+ * none.
+ */
+public interface MailOutboxService {
+
+  /** Stores the message in the current transaction. */
+  void enqueue(ConfirmationMessage message);
+
+  /**
+   * Sends the messages that are due.
+   *
+   * @return the number of messages sent, 0 if another instance holds the relay lease
+   */
+  int relay();
+}
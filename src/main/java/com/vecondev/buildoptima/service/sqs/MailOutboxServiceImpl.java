@@ -0,0 +1,128 @@
+package com.vecondev.buildoptima.service.sqs;
+
+import com.amazonaws.AmazonClientException;
+import com.vecondev.buildoptima.config.properties.SqsConfigProperties;
+import com.vecondev.buildoptima.dto.user.ConfirmationMessage;
+import com.vecondev.buildoptima.model.outbox.MailOutboxMessage;
+import com.vecondev.buildoptima.repository.housekeeping.HousekeepingLeaseRepository;
+import com.vecondev.buildoptima.repository.outbox.MailOutboxRepository;
+import com.vecondev.buildoptima.util.JsonUtil;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailOutboxServiceImpl implements MailOutboxService {
+
+  static final String LEASE_NAME = "mail-outbox-relay";
+
+  /** The maximum number of entries of one SQS SendMessageBatch request. */
+  private static final int SQS_BATCH_SIZE = 10;
+
+  private final SqsConfigProperties sqsConfigProperties;
+  private final MailOutboxRepository mailOutboxRepository;
+  private final HousekeepingLeaseRepository leaseRepository;
+  private final SqsService sqsService;
+
+  /** Identifies this instance as the lease holder. */
+  private final String owner = UUID.randomUUID().toString();
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void enqueue(ConfirmationMessage message) {
+    mailOutboxRepository.save(
+        new MailOutboxMessage(JsonUtil.writeToJson(message), LocalDateTime.now()));
+  }
+
+  @Override
+  @Scheduled(fixedDelayString = "${sqs.mailOutbox.relayDelay}")
+  public int relay() {
+    final SqsConfigProperties.MailOutbox properties = sqsConfigProperties.getMailOutbox();
+    final LocalDateTime now = LocalDateTime.now();
+    if (leaseRepository.acquire(LEASE_NAME, owner, now, now.plus(properties.getLeaseDuration()))
+        == 0) {
+      return 0;
+    }
+
+    int sent = 0;
+    try {
+      List<MailOutboxMessage> due =
+          mailOutboxRepository.findDue(
+              now, properties.getMaxAttempts(), PageRequest.of(0, properties.getBatchSize()));
+      for (int from = 0; from < due.size(); from += SQS_BATCH_SIZE) {
+        sent += send(due.subList(from, Math.min(from + SQS_BATCH_SIZE, due.size())));
+      }
+    } finally {
+      leaseRepository.release(LEASE_NAME, owner, LocalDateTime.now());
+    }
+    if (sent > 0) {
+      log.info("{} mail messages have been sent to sqs", sent);
+    }
+    return sent;
+  }
+
+  private int send(List<MailOutboxMessage> batch) {
+    final Map<String, MailOutboxMessage> messages =
+        batch.stream()
+            .collect(Collectors.toMap(message -> message.getId().toString(), Function.identity()));
+    final Set<String> sentIds =
+        sendToSqs(
+            messages.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().getBody())));
+
+    final List<UUID> sent = new ArrayList<>();
+    final List<MailOutboxMessage> failed = new ArrayList<>();
+    messages.forEach(
+        (id, message) -> {
+          if (sentIds.contains(id)) {
+            sent.add(message.getId());
+          } else {
+            failed.add(scheduleRetry(message));
+          }
+        });
+    mailOutboxRepository.deleteAllByIdInBatch(sent);
+    mailOutboxRepository.saveAll(failed);
+    return sent.size();
+  }
+
+  /** The ids of the bodies sqs accepted, none if the request failed. */
+  private Set<String> sendToSqs(Map<String, String> bodies) {
+    try {
+      return sqsService.sendMailBatch(bodies);
+    } catch (AmazonClientException ex) {
+      log.warn("Mail messages weren't sent to sqs", ex);
+      return Collections.emptySet();
+    }
+  }
+
+  private MailOutboxMessage scheduleRetry(MailOutboxMessage message) {
+    final SqsConfigProperties.MailOutbox properties = sqsConfigProperties.getMailOutbox();
+    message.setAttempts(message.getAttempts() + 1);
+    final Duration backoff =
+        properties.getRetryBackoff().multipliedBy(1L << Math.min(message.getAttempts() - 1, 20));
+    message.setNextAttemptAt(LocalDateTime.now().plus(backoff));
+    if (message.getAttempts() >= properties.getMaxAttempts()) {
+      log.error(
+          "Mail message {} wasn't sent after {} attempts and is left in the outbox",
+          message.getId(),
+          message.getAttempts());
+    }
+    return message;
+  }
+}
@@ -1,8 +1,17 @@
 package com.vecondev.buildoptima.service.sqs;
 
+import java.util.Map;
+import java.util.Set;
+
 public interface SqsService {
 
-  void sendMessage(String message);
+  /**
+   * Sends up to ten messages to the mail queue in one request.
+   *
+   * @param messages message bodies keyed by their batch entry ids
+   * @return ids of the messages that have been sent
+   */
+  Set<String> sendMailBatch(Map<String, String> messages);
 
   void receive(String message);
 }
\ No newline at end of file
@@ -2,7 +2,10 @@ package com.vecondev.buildoptima.service.sqs;
 
 import com.amazonaws.services.s3.event.S3EventNotification;
 import com.amazonaws.services.sqs.AmazonSQSAsync;
-import com.amazonaws.services.sqs.model.SendMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.SendMessageBatchResult;
+import com.amazonaws.services.sqs.model.SendMessageBatchResultEntry;
 import com.vecondev.buildoptima.config.properties.S3ConfigProperties;
 import com.vecondev.buildoptima.config.properties.SqsConfigProperties;
 import com.vecondev.buildoptima.exception.Error;
@@ -11,7 +14,10 @@ import com.vecondev.buildoptima.service.property.PropertyMigrationService;
 import com.vecondev.buildoptima.service.s3.AmazonS3Service;
 import com.vecondev.buildoptima.util.JsonUtil;
 import java.io.IOException;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.aws.messaging.listener.SqsMessageDeletionPolicy;
@@ -32,13 +38,26 @@ public class SqsServiceImpl implements SqsService {
   private final AmazonSQSAsync amazonSqsAsync;
 
   @Override
-  public void sendMessage(String message) {
-    SendMessageRequest request =
-        new SendMessageRequest()
+  public Set<String> sendMailBatch(Map<String, String> messages) {
+    SendMessageBatchRequest request =
+        new SendMessageBatchRequest()
             .withQueueUrl(sqsConfigProperties.getMailQueueUrl())
-            .withMessageBody(message)
-            .withDelaySeconds(20);
-    amazonSqsAsync.sendMessage(request);
+            .withEntries(
+                messages.entrySet().stream()
+                    .map(
+                        message ->
+                            new SendMessageBatchRequestEntry(message.getKey(), message.getValue()))
+                    .toList());
+    SendMessageBatchResult result = amazonSqsAsync.sendMessageBatch(request);
+    result
+        .getFailed()
+        .forEach(
+            failed ->
+                log.warn(
+                    "Mail message {} wasn't sent to sqs: {}", failed.getId(), failed.getMessage()));
+    return result.getSuccessful().stream()
+        .map(SendMessageBatchResultEntry::getId)
+        .collect(Collectors.toSet());
   }
 
   @SqsListener(
@@ -1,5 +1,6 @@
 package com.vecondev.buildoptima.service.user;
 
+import static com.vecondev.buildoptima.config.CacheConfig.CURRENT_USERS;
 import static com.vecondev.buildoptima.exception.Error.IMAGE_IS_REQUIRED;
 import static com.vecondev.buildoptima.exception.Error.PROVIDED_SAME_PASSWORD;
 import static com.vecondev.buildoptima.exception.Error.PROVIDED_WRONG_PASSWORD;
@@ -11,30 +12,28 @@ import static com.vecondev.buildoptima.validation.validator.FieldNameValidator.v
 import com.vecondev.buildoptima.dto.ImageOverview;
 import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
 import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
-import com.vecondev.buildoptima.dto.user.ConfirmationMessage;
 import com.vecondev.buildoptima.dto.user.request.ChangePasswordRequestDto;
 import com.vecondev.buildoptima.dto.user.request.EditUserDto;
 import com.vecondev.buildoptima.dto.user.response.UserResponseDto;
 import com.vecondev.buildoptima.exception.AuthenticationException;
-import com.vecondev.buildoptima.exception.Error;
-import com.vecondev.buildoptima.exception.UserAlreadyExistException;
 import com.vecondev.buildoptima.exception.UserNotFoundException;
 import com.vecondev.buildoptima.filter.converter.PageableConverter;
 import com.vecondev.buildoptima.filter.model.SortDto;
 import com.vecondev.buildoptima.filter.specification.GenericSpecification;
 import com.vecondev.buildoptima.mapper.user.UserMapper;
-import com.vecondev.buildoptima.model.user.ConfirmationToken;
 import com.vecondev.buildoptima.model.user.User;
 import com.vecondev.buildoptima.repository.user.UserRepository;
-import com.vecondev.buildoptima.security.user.AppUserDetails;
-import com.vecondev.buildoptima.service.auth.ConfirmationTokenService;
+import com.vecondev.buildoptima.security.user.CurrentUser;
 import com.vecondev.buildoptima.service.auth.SecurityContextService;
 import com.vecondev.buildoptima.service.s3.AmazonS3Service;
-import com.vecondev.buildoptima.service.sqs.SqsService;
+import com.vecondev.buildoptima.service.user.event.ConfirmationRequestedEvent;
+import com.vecondev.buildoptima.service.user.event.UserChangedEvent;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -56,9 +55,8 @@ public class UserServiceImpl implements UserService {
   private final AmazonS3Service imageService;
   private final PageableConverter pageableConverter;
   private final SecurityContextService securityContextService;
-  private final SqsService sqsService;
-  private final ConfirmationTokenService confirmationTokenService;
-  private static final String CONFIRM_TEMPLATE = "confirm.html";
+  private final CurrentUser currentUser;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   public FetchResponseDto fetch(FetchRequestDto fetchRequest) {
@@ -89,12 +87,8 @@ public class UserServiceImpl implements UserService {
 
   @Override
   public void changePassword(ChangePasswordRequestDto request) {
-    String username = securityContextService.getUserDetails().getUsername();
-    log.info("Request from user {} to change the password", username);
-    User user =
-        userRepository
-            .findByEmail(username)
-            .orElseThrow(() -> new AuthenticationException(USER_NOT_FOUND));
+    User user = currentUser.getUser();
+    log.info("Request from user {} to change the password", user.getEmail());
     if (!isValidPassword(request, user)) {
       log.warn("User {} had provided wrong credentials to change the password", user.getEmail());
       throw new AuthenticationException(PROVIDED_WRONG_PASSWORD);
@@ -104,6 +98,7 @@ public class UserServiceImpl implements UserService {
       throw new AuthenticationException(PROVIDED_SAME_PASSWORD);
     }
     user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+    eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
     log.info("User {} password was successfully changed", user.getEmail());
   }
 
@@ -112,8 +107,6 @@ public class UserServiceImpl implements UserService {
     User user =
         userRepository.findById(id).orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND));
 
-    validate(user, editUserDto);
-
     user.setFirstName(editUserDto.getFirstName());
     user.setLastName(editUserDto.getLastName());
     user.setPhone(editUserDto.getPhone());
@@ -124,8 +117,11 @@ public class UserServiceImpl implements UserService {
     if (!oldEmail.equalsIgnoreCase(newEmail)) {
       user.setEmail(newEmail);
       user.setEnabled(false);
-      sendEmail(user, confirmationTokenService.create(user));
+      // a taken email is rejected by the unique indexes here rather than on commit
+      userRepository.flush();
+      eventPublisher.publishEvent(ConfirmationRequestedEvent.emailConfirmation(user.getId()));
     }
+    eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
     return userMapper.mapToResponseDto(user);
   }
 
@@ -138,14 +134,11 @@ public class UserServiceImpl implements UserService {
     return userMapper.mapToResponseDto(user);
   }
 
+  /** Cached for a short time, so a client polling its profile doesn't load it every time. */
   @Override
+  @Cacheable(cacheNames = CURRENT_USERS, key = "@currentUser.id")
   public UserResponseDto getCurrentUser() {
-    AppUserDetails userDetails = securityContextService.getUserDetails();
-
-    return userMapper.mapToResponseDto(
-        userRepository
-            .findById(userDetails.getId())
-            .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND)));
+    return userMapper.mapToResponseDto(currentUser.getUser());
   }
 
   /**
@@ -162,6 +155,7 @@ public class UserServiceImpl implements UserService {
 
     user.setImageVersion(user.getImageVersion() + 1);
     user = userRepository.saveAndFlush(user);
+    eventPublisher.publishEvent(new UserChangedEvent(userId));
     return userMapper.mapToUserImageOverview(user);
   }
 
@@ -220,31 +214,4 @@ public class UserServiceImpl implements UserService {
   private boolean isValidPassword(ChangePasswordRequestDto request, User user) {
     return passwordEncoder.matches(request.getOldPassword(), user.getPassword());
   }
-
-  private void sendEmail(User user, ConfirmationToken confirmationToken) {
-    sqsService.sendMessage(
-        ConfirmationMessage.builder()
-            .template(CONFIRM_TEMPLATE)
-            .token(confirmationToken.getToken())
-            .userFirstName(user.getFirstName())
-            .userEmail(user.getEmail())
-            .build()
-            .toString());
-  }
-
-  private void validate(User user, EditUserDto editUserDto) {
-    String oldEmail = user.getEmail();
-    String newEmail = editUserDto.getEmail();
-
-    String oldPhone = user.getPhone();
-    String newPhone = editUserDto.getPhone();
-
-    if (!oldEmail.equalsIgnoreCase(newEmail)
-        && userRepository.existsByEmailIgnoreCase(editUserDto.getEmail())) {
-      throw new UserAlreadyExistException(Error.USER_ALREADY_EXIST_WITH_EMAIL);
-    }
-    if (!oldPhone.equals(newPhone) && userRepository.existsByPhone(editUserDto.getPhone())) {
-      throw new UserAlreadyExistException(Error.USER_ALREADY_EXIST_WITH_PHONE);
-    }
-  }
 }
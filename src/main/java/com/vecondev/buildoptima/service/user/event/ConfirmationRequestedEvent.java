@@ -0,0 +1,23 @@
+package com.vecondev.buildoptima.service.user.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a user has to receive a confirmation token by email. The token is created and
+ * the email queued in the publishing transaction.
+ */
+public record ConfirmationRequestedEvent(UUID userId, String template) {
+
+  private static final String CONFIRM_TEMPLATE = "confirm.html";
+  private static final String RESTORE_TEMPLATE = "restore.html";
+
+  /** The user has to confirm the email of the account. */
+  public static ConfirmationRequestedEvent emailConfirmation(UUID userId) {
+    return new ConfirmationRequestedEvent(userId, CONFIRM_TEMPLATE);
+  }
+
+  /** The user has asked to restore a forgotten password. */
+  public static ConfirmationRequestedEvent passwordRestoring(UUID userId) {
+    return new ConfirmationRequestedEvent(userId, RESTORE_TEMPLATE);
+  }
+}
@@ -0,0 +1,6 @@
+package com.vecondev.buildoptima.service.user.event;
+
+import java.util.UUID;
+
+/** Published when the profile, password or status of a user changes. */
+public record UserChangedEvent(UUID userId) {}
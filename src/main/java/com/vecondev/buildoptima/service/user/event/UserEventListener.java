@@ -0,0 +1,75 @@
+package com.vecondev.buildoptima.service.user.event;
+
+import static com.vecondev.buildoptima.config.CacheConfig.CURRENT_USERS;
+import static com.vecondev.buildoptima.config.CacheConfig.FAQ_CATEGORIES;
+import static com.vecondev.buildoptima.config.CacheConfig.FAQ_QUESTIONS;
+import static com.vecondev.buildoptima.config.CacheConfig.FAQ_QUESTION_LOOKUP;
+import static com.vecondev.buildoptima.exception.Error.USER_NOT_FOUND;
+
+import com.vecondev.buildoptima.dto.user.ConfirmationMessage;
+import com.vecondev.buildoptima.exception.UserNotFoundException;
+import com.vecondev.buildoptima.model.user.ConfirmationToken;
+import com.vecondev.buildoptima.model.user.User;
+import com.vecondev.buildoptima.repository.user.UserRepository;
+import com.vecondev.buildoptima.service.auth.ConfirmationTokenService;
+import com.vecondev.buildoptima.service.sqs.MailOutboxService;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Runs the side effects of user changes. The confirmation token and its email are written in the
+ * transaction of the change itself, so they are committed or rolled back together with it, and the
+ * mail outbox sends the email later. Cache evictions are run once the change has committed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEventListener {
+
+  private final UserRepository userRepository;
+  private final ConfirmationTokenService confirmationTokenService;
+  private final MailOutboxService mailOutboxService;
+  private final CacheManager cacheManager;
+
+  @EventListener
+  public void onConfirmationRequested(ConfirmationRequestedEvent event) {
+    User user =
+        userRepository
+            .findById(event.userId())
+            .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND));
+
+    ConfirmationToken confirmationToken = confirmationTokenService.create(user);
+    mailOutboxService.enqueue(
+        ConfirmationMessage.builder()
+            .template(event.template())
+            .token(confirmationToken.getToken())
+            .userEmail(user.getEmail())
+            .userFirstName(user.getFirstName())
+            .build());
+    log.info("Email {} was queued for user {}", event.template(), user.getEmail());
+  }
+
+  /**
+   * Evicted right away in the after-commit callback, so a client reading its profile after the
+   * change never gets the cached one. The FAQ caches embed the names of the users who edited the
+   * entries and aren't keyed by user, so they are cleared as a whole. Evicting never fails, so
+   * there is nothing to retry.
+   */
+  @TransactionalEventListener
+  public void onUserChanged(UserChangedEvent event) {
+    Optional.ofNullable(cacheManager.getCache(CURRENT_USERS))
+        .ifPresent(cache -> cache.evictIfPresent(event.userId()));
+    Stream.of(FAQ_CATEGORIES, FAQ_QUESTIONS, FAQ_QUESTION_LOOKUP)
+        .map(cacheManager::getCache)
+        .filter(Objects::nonNull)
+        .forEach(Cache::invalidate);
+  }
+}
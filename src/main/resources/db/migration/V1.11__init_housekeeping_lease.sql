@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS housekeeping_lease
+(
+    name         varchar(64) primary key not null,
+    locked_by    varchar(64),
+    locked_until timestamp               not null
+);
+
+INSERT INTO housekeeping_lease (name, locked_by, locked_until)
+VALUES ('token-cleanup', null, '1970-01-01 00:00:00');
+
+CREATE INDEX IF NOT EXISTS confirmation_token_expires_at_index ON confirmation_token (expires_at);
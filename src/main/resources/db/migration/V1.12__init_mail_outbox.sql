@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS mail_outbox
+(
+    id              UUID primary key not null,
+    body            text             not null,
+    created_at      timestamp        not null,
+    attempts        integer          not null default 0,
+    next_attempt_at timestamp        not null
+);
+
+CREATE INDEX IF NOT EXISTS mail_outbox_next_attempt_at_index ON mail_outbox (next_attempt_at);
+
+INSERT INTO housekeeping_lease (name, locked_by, locked_until)
+VALUES ('mail-outbox-relay', null, '1970-01-01 00:00:00');
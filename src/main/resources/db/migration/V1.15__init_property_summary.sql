@@ -0,0 +1,17 @@
+-- narrow copy of the properties for list views, kept in sync by the migration, so a page of them
+-- never reads the json columns of bo_property
+create table if not exists bo_property_summary
+(
+    ain          varchar(12) primary key references bo_property (ain) on delete cascade,
+    municipality varchar(35),
+    address      varchar(255),
+    centroid_lat double precision,
+    centroid_lng double precision,
+    lot_area     double precision,
+    zone_codes   varchar(255),
+    version      integer not null default 0,
+    updated_at   timestamp
+);
+
+create index if not exists bo_property_summary_municipality_idx
+    on bo_property_summary (municipality);
@@ -0,0 +1,3 @@
+-- the polygons are packed by the application, the rows saved before keep them in the locations
+-- json until the migration writes them again
+ALTER TABLE bo_property ADD COLUMN IF NOT EXISTS polygons BYTEA;
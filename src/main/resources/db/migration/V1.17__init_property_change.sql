@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS bo_property_change
+(
+    sequence   bigint generated by default as identity primary key,
+    ain        varchar(12) not null,
+    op         varchar(10) not null,
+    version    integer     not null,
+    changed_at timestamp   not null
+);
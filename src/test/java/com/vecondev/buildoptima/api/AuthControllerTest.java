@@ -1,5 +1,6 @@
 package com.vecondev.buildoptima.api;
 
+import static com.vecondev.buildoptima.exception.Error.USER_ALREADY_EXIST_WITH_EMAIL;
 import static com.vecondev.buildoptima.exception.Error.USER_NOT_FOUND;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
@@ -106,6 +107,17 @@ class AuthControllerTest {
     resultActions.register(requestDto).andExpect(status().isConflict());
   }
 
+  @Test
+  void failedRegistrationAsEmailAlreadyExistInOtherCase() throws Exception {
+    UserRegistrationRequestDto requestDto =
+        userControllerTestParameters.getUserToSaveWithDuplicatedEmailInOtherCase();
+
+    resultActions
+        .register(requestDto)
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.errorCode").value(USER_ALREADY_EXIST_WITH_EMAIL.getCode()));
+  }
+
   @Test
   void successfulActivation() throws Exception {
     ConfirmationToken confirmationToken =
@@ -0,0 +1,44 @@
+package com.vecondev.buildoptima.exception;
+
+import static com.vecondev.buildoptima.exception.Error.CONSTRAINT_VIOLATION;
+import static com.vecondev.buildoptima.exception.Error.FAQ_QUESTION_ALREADY_EXIST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
+
+import java.sql.SQLException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+
+class RestExceptionHandlerTest {
+
+  private final RestExceptionHandler restExceptionHandler = new RestExceptionHandler();
+
+  @Test
+  void uniqueConstraintViolationIsReportedAsConflict() {
+    ResponseEntity<ApiError> response =
+        restExceptionHandler.handleDataIntegrityViolation(
+            violationOf("faq_question_question_lower_uindex"));
+
+    assertEquals(CONFLICT, response.getStatusCode());
+    assertEquals(FAQ_QUESTION_ALREADY_EXIST.getCode(), response.getBody().getErrorCode());
+  }
+
+  @Test
+  void unknownConstraintViolationIsReportedAsInvalidInput() {
+    ResponseEntity<ApiError> response =
+        restExceptionHandler.handleDataIntegrityViolation(violationOf("fk_faq_question_category"));
+
+    assertEquals(BAD_REQUEST, response.getStatusCode());
+    assertEquals(CONSTRAINT_VIOLATION.getCode(), response.getBody().getErrorCode());
+  }
+
+  private DataIntegrityViolationException violationOf(String constraintName) {
+    return new DataIntegrityViolationException(
+        "could not execute statement",
+        new ConstraintViolationException(
+            "could not execute statement", new SQLException("violation"), constraintName));
+  }
+}
@@ -0,0 +1,59 @@
+package com.vecondev.buildoptima.exception;
+
+import static com.vecondev.buildoptima.exception.Error.FAQ_CATEGORY_ALREADY_EXIST;
+import static com.vecondev.buildoptima.exception.Error.USER_ALREADY_EXIST_WITH_EMAIL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class UniqueConstraintTest {
+
+  @Test
+  void translatesConstraintNamedByHibernate() {
+    DataIntegrityViolationException ex =
+        new DataIntegrityViolationException(
+            "could not execute statement",
+            new ConstraintViolationException(
+                "could not execute statement",
+                new SQLException("duplicate key value"),
+                "users_email_lower_uindex"));
+
+    BaseException translated = UniqueConstraint.translate(ex).orElseThrow();
+
+    assertInstanceOf(UserAlreadyExistException.class, translated);
+    assertEquals(USER_ALREADY_EXIST_WITH_EMAIL, translated.getError());
+  }
+
+  @Test
+  void translatesConstraintFoundInDatabaseMessage() {
+    DataIntegrityViolationException ex =
+        new DataIntegrityViolationException(
+            "could not execute statement",
+            new SQLException(
+                "Unique index or primary key violation: \"PUBLIC.FAQ_CATEGORY_NAME_LOWER_UINDEX ON"
+                    + " PUBLIC.FAQ_CATEGORY(NAME_LOWER) VALUES ('general')\""));
+
+    BaseException translated = UniqueConstraint.translate(ex).orElseThrow();
+
+    assertInstanceOf(FaqCategoryAlreadyExistException.class, translated);
+    assertEquals(FAQ_CATEGORY_ALREADY_EXIST, translated.getError());
+  }
+
+  @Test
+  void unknownConstraintIsNotTranslated() {
+    DataIntegrityViolationException ex =
+        new DataIntegrityViolationException(
+            "could not execute statement",
+            new ConstraintViolationException(
+                "could not execute statement",
+                new SQLException("foreign key violation"),
+                "fk_faq_question_category"));
+
+    assertTrue(UniqueConstraint.translate(ex).isEmpty());
+  }
+}
@@ -0,0 +1,145 @@
+package com.vecondev.buildoptima.filter;
+
+import static com.vecondev.buildoptima.filter.model.PropertyFields.propertyPageSortingFieldsMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType.H2;
+
+import com.vecondev.buildoptima.config.JsonbFunctionContributor;
+import com.vecondev.buildoptima.filter.specification.GenericSpecification;
+import com.vecondev.buildoptima.model.property.Property;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import org.hibernate.dialect.PostgreSQL10Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.internal.ast.ASTQueryTranslatorFactory;
+import org.hibernate.hql.spi.QueryTranslator;
+import org.hibernate.query.Query;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+/**
+ * Renders the property filters to the SQL of the PostgreSQL dialect without running it, the
+ * containment of the json arrays has no H2 counterpart.
+ */
+class PropertySpecificationTest {
+
+  private static EntityManagerFactory entityManagerFactory;
+
+  @BeforeAll
+  static void setUp() {
+    LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+    factory.setDataSource(
+        new EmbeddedDatabaseBuilder().setType(H2).generateUniqueName(true).build());
+    factory.setPackagesToScan("com.vecondev.buildoptima.model.property");
+    factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+    factory.setJpaPropertyMap(
+        Map.of(
+            "hibernate.dialect",
+            PostgreSQL10Dialect.class.getName(),
+            "hibernate.metadata_builder_contributor",
+            JsonbFunctionContributor.class.getName()));
+    factory.afterPropertiesSet();
+    entityManagerFactory = factory.getObject();
+  }
+
+  @AfterAll
+  static void tearDown() {
+    entityManagerFactory.close();
+  }
+
+  @Test
+  void zoneCodesAreMatchedByJsonbContainment() {
+    Rendered rendered =
+        render(Map.of("operation", "in", "name", "zoneCodes", "values", List.of("R1-1", "C2")));
+
+    assertTrue(
+        rendered
+            .sql()
+            .endsWith(
+                "where (property0_.zoning_details @> cast(? as jsonb))=true"
+                    + " or (property0_.zoning_details @> cast(? as jsonb))=true"));
+    assertEquals(
+        List.of(
+            "{\"generalInformation\":{\"zoneCodes\":[\"R1-1\"]}}",
+            "{\"generalInformation\":{\"zoneCodes\":[\"C2\"]}}"),
+        rendered.parameters());
+  }
+
+  @Test
+  void excludedZoneCodeIsNegatedContainment() {
+    Rendered rendered = render(Map.of("operation", "ne", "name", "zoneCodes", "value", "C2"));
+
+    assertTrue(
+        rendered
+            .sql()
+            .endsWith("where (property0_.zoning_details @> cast(? as jsonb))<>true"),
+        rendered.sql());
+    assertEquals(
+        List.of("{\"generalInformation\":{\"zoneCodes\":[\"C2\"]}}"), rendered.parameters());
+  }
+
+  @Test
+  void nestedScalarsAreComparedOnGeneratedColumns() {
+    Map<String, Object> filter = new HashMap<>();
+    filter.put(
+        "and",
+        new ArrayList<>(
+            List.of(
+                new HashMap<>(Map.of("operation", "ge", "name", "lotArea", "value", "5000")),
+                new HashMap<>(Map.of("operation", "lt", "name", "yearBuilt", "value", "1960")))));
+
+    Rendered rendered = render(filter);
+
+    assertTrue(
+        rendered.sql().endsWith("where property0_.lot_area>=5000.0 and property0_.year_built<1960"),
+        rendered.sql());
+  }
+
+  private Rendered render(Map<String, Object> filter) {
+    EntityManager entityManager = entityManagerFactory.createEntityManager();
+    try {
+      CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+      CriteriaQuery<Property> criteriaQuery = builder.createQuery(Property.class);
+      Root<Property> root = criteriaQuery.from(Property.class);
+      criteriaQuery.where(
+          new GenericSpecification<>(propertyPageSortingFieldsMap, filter)
+              .toPredicate(root, criteriaQuery, builder));
+      Query<?> query =
+          entityManager.createQuery(criteriaQuery).unwrap(Query.class);
+
+      String hql = query.getQueryString();
+      QueryTranslator translator =
+          new ASTQueryTranslatorFactory()
+              .createQueryTranslator(
+                  hql,
+                  hql,
+                  Collections.emptyMap(),
+                  entityManagerFactory.unwrap(SessionFactoryImplementor.class),
+                  null);
+      translator.compile(Collections.emptyMap(), false);
+      List<Object> parameters =
+          query.getParameterMetadata().getNamedParameterNames().stream()
+              .sorted()
+              .map(query::getParameterValue)
+              .toList();
+      return new Rendered(translator.getSQLString(), parameters);
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  private record Rendered(String sql, List<Object> parameters) {}
+}
@@ -30,6 +30,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.UUID;
@@ -121,6 +122,14 @@ public class UserControllerTestParameters extends UserTestParameters {
         "John", "Smith", "+3741234567", savedUser.getEmail(), "John1234.");
   }
 
+  public UserRegistrationRequestDto getUserToSaveWithDuplicatedEmailInOtherCase() {
+    UserRegistrationRequestDto requestDto = getUserToSaveWithDuplicatedEmail();
+    requestDto.setEmail(requestDto.getEmail().toUpperCase(Locale.ROOT));
+    // a phone nobody registers, so only the email can be the conflict
+    requestDto.setPhone("+37499887766");
+    return requestDto;
+  }
+
   public ConfirmationToken getConfirmationTokenToConfirmAccount() {
     return confirmationTokenRepository.findAll().stream()
         .filter(token -> token.getExpiresAt().isAfter(LocalDateTime.now()))
@@ -148,7 +157,7 @@ public class UserControllerTestParameters extends UserTestParameters {
             .findAny()
             .orElseThrow(NoSuchElementException::new);
 
-    return new RefreshTokenRequestDto(refreshToken.getPlainRefreshToken());
+    return new RefreshTokenRequestDto(savedCopyOf(refreshToken).getPlainRefreshToken());
   }
 
   public RefreshTokenRequestDto getExpiredRefreshToken() {
@@ -158,7 +167,16 @@ public class UserControllerTestParameters extends UserTestParameters {
             .findAny()
             .orElseThrow(NoSuchElementException::new);
 
-    return new RefreshTokenRequestDto(refreshToken.getPlainRefreshToken());
+    return new RefreshTokenRequestDto(savedCopyOf(refreshToken).getPlainRefreshToken());
+  }
+
+  /** Only token hashes are stored, so a copy with a known plain token is saved. */
+  private RefreshToken savedCopyOf(RefreshToken refreshToken) {
+    return refreshTokenRepository.save(
+        new RefreshToken(
+            UUID.randomUUID().toString(),
+            refreshToken.getUserId(),
+            refreshToken.getExpiresAt()));
   }
 
   public FetchRequestDto getInvalidFetchRequest() {
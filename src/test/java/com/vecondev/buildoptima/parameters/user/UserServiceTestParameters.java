@@ -3,6 +3,7 @@ package com.vecondev.buildoptima.parameters.user;
 import static com.vecondev.buildoptima.model.user.Role.CLIENT;
 
 import com.vecondev.buildoptima.dto.EntityOverview;
+import com.vecondev.buildoptima.dto.user.RefreshTokenClaims;
 import com.vecondev.buildoptima.dto.user.request.ChangePasswordRequestDto;
 import com.vecondev.buildoptima.dto.user.request.EditUserDto;
 import com.vecondev.buildoptima.dto.user.request.UserRegistrationRequestDto;
@@ -104,6 +105,15 @@ public class UserServiceTestParameters extends UserTestParameters implements Pag
     return refreshToken;
   }
 
+  public RefreshTokenClaims getRefreshTokenClaims(User user) {
+    return new RefreshTokenClaims(
+        RefreshToken.hashOf(UUID.randomUUID().toString()),
+        LocalDateTime.now().plusMonths(6),
+        user.getId(),
+        user.getEmail(),
+        user.getRole());
+  }
+
   public ChangePasswordRequestDto getChangePasswordRequestDto(
       String oldPassword, String newPassword) {
     return new ChangePasswordRequestDto(oldPassword, newPassword);
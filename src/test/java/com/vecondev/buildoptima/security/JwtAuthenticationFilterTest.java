@@ -0,0 +1,179 @@
+package com.vecondev.buildoptima.security;
+
+import static com.vecondev.buildoptima.exception.Error.ACCESS_TOKEN_EXPIRED;
+import static com.vecondev.buildoptima.exception.Error.INVALID_ACCESS_TOKEN;
+import static com.vecondev.buildoptima.exception.Error.UNTRUSTED_USER_HEADERS;
+import static com.vecondev.buildoptima.security.RestAuthorizationFilter.AUTHORITIES;
+import static com.vecondev.buildoptima.security.RestAuthorizationFilter.ERROR;
+import static com.vecondev.buildoptima.security.RestAuthorizationFilter.USERNAME;
+import static com.vecondev.buildoptima.security.RestAuthorizationFilter.USER_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.vecondev.buildoptima.config.properties.JwtConfigProperties;
+import com.vecondev.buildoptima.exception.AuthenticationException;
+import com.vecondev.buildoptima.manager.JwtTokenManager;
+import com.vecondev.buildoptima.security.user.AppUserDetails;
+import com.vecondev.buildoptima.service.auth.SecurityContextService;
+import com.vecondev.buildoptima.service.auth.impl.SecurityContextServiceImpl;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+  private static final String TOKEN = "header.payload.signature";
+
+  @Mock private JwtTokenManager jwtTokenManager;
+  @Mock private PrincipalCache principalCache;
+
+  private final SecurityContextService securityContextService = new SecurityContextServiceImpl();
+  private final JwtConfigProperties jwtConfigProperties = new JwtConfigProperties();
+  private JwtAuthenticationFilter jwtAuthenticationFilter;
+  private RestAuthorizationFilter restAuthorizationFilter;
+  private Authentication controllerAuthentication;
+
+  @BeforeEach
+  void setUp() {
+    jwtConfigProperties.setAuthorizationHeader("Authorization");
+    jwtConfigProperties.setAuthorizationHeaderPrefix("Bearer ");
+    jwtConfigProperties.getVerification().setEnabled(true);
+    jwtAuthenticationFilter =
+        new JwtAuthenticationFilter(jwtTokenManager, securityContextService, jwtConfigProperties);
+    restAuthorizationFilter =
+        new RestAuthorizationFilter(principalCache, securityContextService, jwtConfigProperties);
+  }
+
+  @Test
+  void validTokenAuthenticatesItsUser() throws Exception {
+    UUID userId = UUID.randomUUID();
+    givenValidToken(userId);
+
+    MockHttpServletResponse first = filter(requestWithToken());
+    MockHttpServletResponse second = filter(requestWithToken());
+
+    assertEquals(200, first.getStatus());
+    assertEquals(200, second.getStatus());
+    AppUserDetails userDetails = (AppUserDetails) controllerAuthentication.getPrincipal();
+    assertEquals(userId, userDetails.getId());
+    assertEquals("john@mail.com", userDetails.getUsername());
+    verify(jwtTokenManager).verifyAccessToken(TOKEN);
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+  }
+
+  @Test
+  void expiredTokenIsRejected() throws Exception {
+    when(jwtTokenManager.verifyAccessToken(TOKEN))
+        .thenThrow(new AuthenticationException(ACCESS_TOKEN_EXPIRED));
+
+    MockHttpServletResponse response = filter(requestWithToken());
+
+    assertEquals(401, response.getStatus());
+    assertEquals(ACCESS_TOKEN_EXPIRED.name(), response.getHeader(ERROR));
+    assertNull(controllerAuthentication);
+  }
+
+  @Test
+  void badlySignedTokenIsRejected() throws Exception {
+    when(jwtTokenManager.verifyAccessToken(TOKEN))
+        .thenThrow(new AuthenticationException(INVALID_ACCESS_TOKEN));
+
+    MockHttpServletResponse response = filter(requestWithToken());
+
+    assertEquals(401, response.getStatus());
+    assertEquals(INVALID_ACCESS_TOKEN.name(), response.getHeader(ERROR));
+    assertNull(controllerAuthentication);
+  }
+
+  @Test
+  void forgedUserHeadersNextToTokenAreRejected() throws Exception {
+    givenValidToken(UUID.randomUUID());
+    MockHttpServletRequest request = requestWithToken();
+    forgeUserHeaders(request);
+
+    MockHttpServletResponse response = filter(request);
+
+    assertEquals(401, response.getStatus());
+    assertEquals(UNTRUSTED_USER_HEADERS.name(), response.getHeader(ERROR));
+    assertNull(controllerAuthentication);
+    verifyNoInteractions(principalCache);
+  }
+
+  @Test
+  void forgedUserHeadersWithoutTokenAreRejected() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    forgeUserHeaders(request);
+
+    MockHttpServletResponse response = filter(request);
+
+    assertEquals(401, response.getStatus());
+    assertEquals(UNTRUSTED_USER_HEADERS.name(), response.getHeader(ERROR));
+    assertNull(controllerAuthentication);
+    verifyNoInteractions(jwtTokenManager, principalCache);
+  }
+
+  private void givenValidToken(UUID userId) {
+    DecodedJWT jwt =
+        JWT.decode(
+            JWT.create()
+                .withSubject("john@mail.com")
+                .withExpiresAt(Date.from(Instant.now().plusSeconds(60)))
+                .sign(Algorithm.HMAC256("test")));
+    when(jwtTokenManager.verifyAccessToken(TOKEN)).thenReturn(jwt);
+    when(jwtTokenManager.userIdFrom(jwt)).thenReturn(userId);
+    when(jwtTokenManager.authoritiesFrom(jwt))
+        .thenReturn(List.of(new SimpleGrantedAuthority("resource_read")));
+  }
+
+  private MockHttpServletRequest requestWithToken() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Authorization", "Bearer " + TOKEN);
+    return request;
+  }
+
+  private void forgeUserHeaders(MockHttpServletRequest request) {
+    request.addHeader(USER_ID, UUID.randomUUID().toString());
+    request.addHeader(USERNAME, "admin@mail.com");
+    request.addHeader(AUTHORITIES, "[\"resource_read\",\"resource_write\",\"admin\"]");
+  }
+
+  /** Runs the request through both filters, in the order of the security chain. */
+  private MockHttpServletResponse filter(MockHttpServletRequest request)
+      throws ServletException, IOException {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    HttpServlet controller =
+        new HttpServlet() {
+          @Override
+          protected void service(HttpServletRequest req, HttpServletResponse resp) {
+            controllerAuthentication = SecurityContextHolder.getContext().getAuthentication();
+          }
+        };
+    new MockFilterChain(controller, jwtAuthenticationFilter, restAuthorizationFilter)
+        .doFilter(request, response);
+    return response;
+  }
+}
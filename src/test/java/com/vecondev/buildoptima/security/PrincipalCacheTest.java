@@ -0,0 +1,84 @@
+package com.vecondev.buildoptima.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vecondev.buildoptima.config.properties.PrincipalCacheConfigProperties;
+import com.vecondev.buildoptima.manager.JwtTokenManager;
+import com.vecondev.buildoptima.security.user.AppUserDetails;
+import com.vecondev.buildoptima.service.user.event.UserChangedEvent;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+  private static final String CLIENT = "[\"resource_read\"]";
+  private static final String MODERATOR = "[\"resource_read\",\"resource_write\"]";
+
+  @Mock private JwtTokenManager jwtTokenManager;
+
+  private PrincipalCache principalCache;
+
+  @BeforeEach
+  void setUp() {
+    when(jwtTokenManager.authoritiesFromString(anyList()))
+        .thenAnswer(
+            invocation ->
+                invocation.<List<String>>getArgument(0).stream()
+                    .map(SimpleGrantedAuthority::new)
+                    .toList());
+    principalCache = new PrincipalCache(jwtTokenManager, new PrincipalCacheConfigProperties());
+  }
+
+  @Test
+  void sameHeadersShareOnePrincipal() {
+    String id = UUID.randomUUID().toString();
+
+    SharedAuthenticationToken first = principalCache.get(id, "john@mail.com", CLIENT);
+    SharedAuthenticationToken second = principalCache.get(id, "john@mail.com", CLIENT);
+
+    assertSame(first, second);
+    assertEquals(UUID.fromString(id), ((AppUserDetails) first.getPrincipal()).getId());
+    verify(jwtTokenManager).authoritiesFromString(anyList());
+  }
+
+  @Test
+  void principalIsKeyedOnIdUsernameAndAuthorities() {
+    String id = UUID.randomUUID().toString();
+    SharedAuthenticationToken principal = principalCache.get(id, "john@mail.com", CLIENT);
+
+    assertNotSame(
+        principal, principalCache.get(UUID.randomUUID().toString(), "john@mail.com", CLIENT));
+    assertNotSame(principal, principalCache.get(id, "johnny@mail.com", CLIENT));
+    SharedAuthenticationToken moderator = principalCache.get(id, "john@mail.com", MODERATOR);
+    assertNotSame(principal, moderator);
+    assertEquals(2, moderator.getAuthorities().size());
+    verify(jwtTokenManager, times(4)).authoritiesFromString(anyList());
+  }
+
+  @Test
+  void userChangeEvictsOnlyThatUsersPrincipals() {
+    UUID changedUserId = UUID.randomUUID();
+    String otherUserId = UUID.randomUUID().toString();
+    SharedAuthenticationToken changed =
+        principalCache.get(changedUserId.toString(), "john@mail.com", CLIENT);
+    SharedAuthenticationToken other = principalCache.get(otherUserId, "jane@mail.com", CLIENT);
+
+    principalCache.onUserChanged(new UserChangedEvent(changedUserId));
+
+    assertNotSame(changed, principalCache.get(changedUserId.toString(), "john@mail.com", CLIENT));
+    assertSame(other, principalCache.get(otherUserId, "jane@mail.com", CLIENT));
+  }
+}
@@ -0,0 +1,93 @@
+package com.vecondev.buildoptima.security.ratelimit;
+
+import static com.vecondev.buildoptima.exception.Error.TOO_MANY_LOGIN_ATTEMPTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.vecondev.buildoptima.config.properties.LoginRateLimitConfigProperties;
+import com.vecondev.buildoptima.config.properties.LoginRateLimitConfigProperties.Limit;
+import com.vecondev.buildoptima.exception.AuthenticationException;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class LoginRateLimiterTest {
+
+  private static final String GATEWAY = "10.0.0.2";
+  private static final String CLIENT = "203.0.113.7";
+
+  private final LoginRateLimitConfigProperties properties = new LoginRateLimitConfigProperties();
+
+  @BeforeEach
+  void setUp() {
+    properties.setClientIp(new Limit(2, Duration.ofMinutes(15)));
+    properties.setUsername(new Limit(100, Duration.ofMinutes(15)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void spoofedFirstForwardedEntryDoesNotResetTheLimit() {
+    properties.setTrustForwardedFor(true);
+    LoginRateLimiter loginRateLimiter = loginRateLimiter();
+
+    for (int attempt = 1; attempt <= 2; attempt++) {
+      fromGateway("198.51.100." + attempt + ", " + CLIENT);
+      loginRateLimiter.acquire("user" + attempt + "@mail.com");
+    }
+    fromGateway("198.51.100.3, " + CLIENT);
+
+    AuthenticationException ex =
+        assertThrows(
+            AuthenticationException.class, () -> loginRateLimiter.acquire("user3@mail.com"));
+    assertEquals(TOO_MANY_LOGIN_ATTEMPTS, ex.getError());
+  }
+
+  @Test
+  void clientIsTheEntryAppendedByTheOutermostTrustedProxy() {
+    properties.setTrustForwardedFor(true);
+    properties.setForwardedForHops(2);
+    LoginRateLimiter loginRateLimiter = loginRateLimiter();
+
+    fromGateway("198.51.100.1, " + CLIENT + ", 10.0.0.1");
+    loginRateLimiter.acquire("user1@mail.com");
+    fromGateway(CLIENT + ", 10.0.0.1");
+    loginRateLimiter.acquire("user2@mail.com");
+    fromGateway("198.51.100.2, " + CLIENT + ", 10.0.0.1");
+
+    assertThrows(AuthenticationException.class, () -> loginRateLimiter.acquire("user3@mail.com"));
+  }
+
+  @Test
+  void forwardedForIsIgnoredByDefault() {
+    LoginRateLimiter loginRateLimiter = loginRateLimiter();
+
+    for (int attempt = 1; attempt <= 2; attempt++) {
+      fromGateway("198.51.100." + attempt);
+      loginRateLimiter.acquire("user" + attempt + "@mail.com");
+    }
+    fromGateway("198.51.100.3");
+
+    assertThrows(AuthenticationException.class, () -> loginRateLimiter.acquire("user3@mail.com"));
+  }
+
+  private LoginRateLimiter loginRateLimiter() {
+    return new LoginRateLimiter(
+        properties, new StaticListableBeanFactory().getBeanProvider(LoginAttemptStore.class));
+  }
+
+  private void fromGateway(String forwardedFor) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setRemoteAddr(GATEWAY);
+    request.addHeader("X-Forwarded-For", forwardedFor);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+}
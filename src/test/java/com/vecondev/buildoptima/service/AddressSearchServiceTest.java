@@ -0,0 +1,142 @@
+package com.vecondev.buildoptima.service;
+
+import static com.vecondev.buildoptima.filter.model.PropertySearchCriteria.ADDRESS;
+import static com.vecondev.buildoptima.filter.model.PropertySearchCriteria.AIN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.vecondev.buildoptima.config.properties.AddressSearchConfigProperties;
+import com.vecondev.buildoptima.dto.property.response.PropertyOverview;
+import com.vecondev.buildoptima.mapper.property.AddressMapper;
+import com.vecondev.buildoptima.model.property.Address;
+import com.vecondev.buildoptima.model.property.AddressDocument;
+import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.repository.property.AddressRepository;
+import com.vecondev.buildoptima.service.property.search.impl.AddressSearchServiceImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class AddressSearchServiceTest {
+
+  @Mock private AddressRepository addressRepository;
+  @Mock private AddressMapper addressMapper;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private AddressSearchServiceImpl addressSearchService;
+
+  @BeforeEach
+  void setUp() {
+    addressSearchService =
+        new AddressSearchServiceImpl(
+            new AddressSearchConfigProperties(),
+            addressRepository,
+            addressMapper,
+            transactionManager);
+  }
+
+  @Test
+  void successfulAutocompleteWithTypos() {
+    index("5482003013", "2516 Banyan Dr Los Angeles CA 90049");
+    index("5482003014", "2520 Banyan Dr Los Angeles CA 90049");
+    index("4370012005", "11 Bundy Ave Los Angeles CA 90049");
+
+    assertEquals(
+        List.of(new PropertyOverview("5482003013", "2516 Banyan Dr Los Angeles CA 90049")),
+        addressSearchService.autocomplete("2516 banyn", ADDRESS, 10));
+    assertEquals(2, addressSearchService.autocomplete("Banyan D", ADDRESS, 10).size());
+    assertEquals(
+        "4370012005", addressSearchService.autocomplete("bundy ave", ADDRESS, 10).get(0).getAin());
+    assertTrue(addressSearchService.autocomplete("2517 banyan", ADDRESS, 10).isEmpty());
+  }
+
+  @Test
+  void successfulAutocompleteByAin() {
+    index("5482003014", "2520 Banyan Dr Los Angeles CA 90049");
+    index("5482003013", "2516 Banyan Dr Los Angeles CA 90049");
+    index("4370012005", "11 Bundy Ave Los Angeles CA 90049");
+
+    List<PropertyOverview> result = addressSearchService.autocomplete("5482-003", AIN, 10);
+    assertEquals(
+        List.of("5482003013", "5482003014"),
+        result.stream().map(PropertyOverview::getAin).toList());
+  }
+
+  @Test
+  void successfulReindexingOfUpdatedProperty() {
+    index("5482003013", "2516 Banyan Dr Los Angeles CA 90049");
+    addressSearchService.merge();
+    index("5482003013", "2516 Sunset Blvd Los Angeles CA 90049");
+
+    assertTrue(addressSearchService.autocomplete("banyan", ADDRESS, 10).isEmpty());
+    assertEquals(1, addressSearchService.autocomplete("sunset", ADDRESS, 10).size());
+
+    addressSearchService.merge();
+    assertTrue(addressSearchService.autocomplete("banyan", ADDRESS, 10).isEmpty());
+    assertEquals(1, addressSearchService.autocomplete("sunset", ADDRESS, 10).size());
+  }
+
+  @Test
+  void successfulReindexingDuringMerge() {
+    String ain = "5482003013";
+    String display = "2516 Banyan Dr Los Angeles CA 90049";
+    AtomicReference<Runnable> onRead = new AtomicReference<>();
+    List<AddressDocument> documents =
+        new ArrayList<>(List.of(new AddressDocument(ain, display.toLowerCase(), display))) {
+          @Override
+          public Stream<AddressDocument> stream() {
+            Optional.ofNullable(onRead.getAndSet(null)).ifPresent(Runnable::run);
+            return super.stream();
+          }
+        };
+    Property property = Property.builder().ain(ain).addresses(List.of(new Address())).build();
+    when(addressMapper.mapToDocumentList(property.getAddresses())).thenReturn(documents);
+    addressSearchService.index(property);
+
+    // re-indexed while the merge reads the documents it's rebuilding the main index from
+    onRead.set(() -> index(ain, "2516 Sunset Blvd Los Angeles CA 90049"));
+    addressSearchService.merge();
+
+    assertTrue(addressSearchService.autocomplete("banyan", ADDRESS, 10).isEmpty());
+    assertEquals(1, addressSearchService.autocomplete("sunset", ADDRESS, 10).size());
+  }
+
+  @Test
+  void successfulLoadingFromDatabase() {
+    Address address = new Address();
+    address.setId(UUID.randomUUID());
+    address.setProperty(Property.builder().ain("5482003013").build());
+    String display = "2516 Banyan Dr Los Angeles CA 90049";
+
+    when(addressRepository.findByIdGreaterThanOrderById(eq(new UUID(0, 0)), any(Pageable.class)))
+        .thenReturn(List.of(address));
+    when(addressMapper.mapToDocument(address))
+        .thenReturn(new AddressDocument("5482003013", display.toLowerCase(), display));
+
+    addressSearchService.load();
+    assertEquals(
+        List.of(new PropertyOverview("5482003013", display)),
+        addressSearchService.autocomplete("banyan dr", ADDRESS, 10));
+  }
+
+  private void index(String ain, String address) {
+    Property property = Property.builder().ain(ain).addresses(List.of(new Address())).build();
+    when(addressMapper.mapToDocumentList(property.getAddresses()))
+        .thenReturn(List.of(new AddressDocument(ain, address.toLowerCase(), address)));
+    addressSearchService.index(property);
+  }
+}
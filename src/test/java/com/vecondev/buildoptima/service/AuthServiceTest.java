@@ -1,5 +1,8 @@
 package com.vecondev.buildoptima.service;
 
+import static com.vecondev.buildoptima.exception.Error.BAD_CREDENTIALS;
+import static com.vecondev.buildoptima.exception.Error.PASSWORD_HASHING_UNAVAILABLE;
+import static com.vecondev.buildoptima.exception.Error.TOO_MANY_LOGIN_ATTEMPTS;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -7,28 +10,32 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.vecondev.buildoptima.dto.user.RefreshTokenClaims;
+import com.vecondev.buildoptima.dto.user.request.AuthRequestDto;
 import com.vecondev.buildoptima.dto.user.request.ConfirmEmailRequestDto;
 import com.vecondev.buildoptima.dto.user.request.RefreshTokenRequestDto;
 import com.vecondev.buildoptima.dto.user.request.RestorePasswordRequestDto;
 import com.vecondev.buildoptima.dto.user.request.UserRegistrationRequestDto;
+import com.vecondev.buildoptima.dto.user.response.AuthResponseDto;
 import com.vecondev.buildoptima.dto.user.response.RefreshTokenResponseDto;
 import com.vecondev.buildoptima.dto.user.response.UserResponseDto;
 import com.vecondev.buildoptima.exception.AuthenticationException;
 import com.vecondev.buildoptima.manager.JwtTokenManager;
 import com.vecondev.buildoptima.mapper.user.UserMapper;
 import com.vecondev.buildoptima.model.user.ConfirmationToken;
-import com.vecondev.buildoptima.model.user.RefreshToken;
 import com.vecondev.buildoptima.model.user.User;
 import com.vecondev.buildoptima.parameters.user.UserServiceTestParameters;
 import com.vecondev.buildoptima.repository.user.UserRepository;
+import com.vecondev.buildoptima.security.ratelimit.LoginRateLimiter;
 import com.vecondev.buildoptima.service.auth.impl.AuthServiceImpl;
 import com.vecondev.buildoptima.service.auth.impl.ConfirmationTokenServiceImpl;
 import com.vecondev.buildoptima.service.auth.impl.RefreshTokenServiceImpl;
-import com.vecondev.buildoptima.service.sqs.SqsService;
-import com.vecondev.buildoptima.validation.UserValidator;
+import com.vecondev.buildoptima.service.user.event.ConfirmationRequestedEvent;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
@@ -36,7 +43,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.config.annotation.AlreadyBuiltException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,14 +53,14 @@ class AuthServiceTest {
   private final UserServiceTestParameters testParameters = new UserServiceTestParameters();
 
   @InjectMocks private AuthServiceImpl authService;
-  @Mock private SqsService sqsService;
+  @Mock private ApplicationEventPublisher eventPublisher;
   @Mock private ConfirmationTokenServiceImpl confirmationTokenService;
   @Mock private RefreshTokenServiceImpl refreshTokenService;
-  @Mock private UserValidator userValidator;
   @Mock private UserMapper userMapper;
   @Mock private UserRepository userRepository;
   @Mock private PasswordEncoder encoder;
   @Mock private JwtTokenManager tokenManager;
+  @Mock private LoginRateLimiter loginRateLimiter;
 
   @Test
   void failedRegistrationAsPhoneIsDuplicated() {
@@ -60,10 +68,11 @@ class AuthServiceTest {
     User user = testParameters.getUserFromRegistrationDto(requestDto);
 
     when(userMapper.mapToEntity(requestDto)).thenReturn(user);
-    doThrow(AlreadyBuiltException.class).when(userValidator).validateUserRegistration(user);
+    when(userRepository.saveAndFlush(user)).thenThrow(DataIntegrityViolationException.class);
 
-    assertThrows(AlreadyBuiltException.class, () -> authService.register(requestDto));
+    assertThrows(DataIntegrityViolationException.class, () -> authService.register(requestDto));
     verify(userMapper).mapToEntity(requestDto);
+    verify(eventPublisher, never()).publishEvent(any());
   }
 
   @Test
@@ -72,8 +81,6 @@ class AuthServiceTest {
     User user = testParameters.getUserFromRegistrationDto(requestDto);
     User savedUser = testParameters.getSavedUser(user);
 
-    when(confirmationTokenService.create(any(User.class)))
-        .thenReturn(testParameters.confirmationToken(user));
     when(userMapper.mapToEntity(requestDto)).thenReturn(user);
     when(userRepository.saveAndFlush(user)).thenReturn(savedUser);
     when(userMapper.mapToResponseDto(savedUser))
@@ -82,9 +89,8 @@ class AuthServiceTest {
     UserResponseDto registrationResponseDto = authService.register(requestDto);
     assertEquals(requestDto.getEmail(), registrationResponseDto.getEmail());
     assertEquals(savedUser.getCreatedAt(), registrationResponseDto.getCreatedAt());
-    verify(sqsService).sendMessage(anyString());
-    verify(confirmationTokenService).create(savedUser);
-    verify(userValidator).validateUserRegistration(user);
+    verify(eventPublisher)
+        .publishEvent(ConfirmationRequestedEvent.emailConfirmation(savedUser.getId()));
   }
 
   @Test
@@ -112,35 +118,96 @@ class AuthServiceTest {
     verify(confirmationTokenService).remove(user.getId());
   }
 
+  @Test
+  void successfulLoginWithPasswordRehashing() {
+    User user = testParameters.getSavedUser();
+    AuthRequestDto requestDto = new AuthRequestDto(user.getEmail(), "Example1234.");
+    String oldHash = user.getPassword();
+
+    when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+    when(encoder.matches(requestDto.getPassword(), oldHash)).thenReturn(true);
+    when(encoder.upgradeEncoding(oldHash)).thenReturn(true);
+    when(encoder.encode(requestDto.getPassword())).thenReturn("{bcrypt}" + oldHash);
+    when(refreshTokenService.create(user.getId()))
+        .thenReturn(testParameters.getRefreshTokenWithRefreshTokenId(user.getId(), false));
+
+    AuthResponseDto response = authService.login(requestDto);
+    assertEquals(user.getId(), response.getUserId());
+    assertEquals("{bcrypt}" + oldHash, user.getPassword());
+    verify(userRepository).updatePassword(user.getId(), "{bcrypt}" + oldHash);
+    verify(loginRateLimiter).onSuccess(user.getEmail());
+  }
+
+  @Test
+  void failedLoginAsUserIsUnknown() {
+    AuthRequestDto requestDto = new AuthRequestDto("unknown@example.com", "Example1234.");
+    String unknownUserHash = "{bcrypt}unknown";
+
+    when(userRepository.findByEmail(requestDto.getUsername())).thenReturn(Optional.empty());
+    when(encoder.encode(anyString())).thenReturn(unknownUserHash);
+
+    AuthenticationException ex =
+        assertThrows(AuthenticationException.class, () -> authService.login(requestDto));
+    assertEquals(BAD_CREDENTIALS, ex.getError());
+    verify(encoder).matches(requestDto.getPassword(), unknownUserHash);
+    verify(loginRateLimiter, never()).onSuccess(anyString());
+  }
+
+  @Test
+  void failedLoginAsAttemptsAreExceeded() {
+    AuthRequestDto requestDto = new AuthRequestDto("user@example.com", "Example1234.");
+
+    doThrow(new AuthenticationException(TOO_MANY_LOGIN_ATTEMPTS))
+        .when(loginRateLimiter)
+        .acquire(requestDto.getUsername());
+
+    AuthenticationException ex =
+        assertThrows(AuthenticationException.class, () -> authService.login(requestDto));
+    assertEquals(TOO_MANY_LOGIN_ATTEMPTS, ex.getError());
+    verifyNoInteractions(userRepository, encoder);
+  }
+
+  @Test
+  void failedLoginAsPasswordHashingIsUnavailable() {
+    User user = testParameters.getSavedUser();
+    AuthRequestDto requestDto = new AuthRequestDto(user.getEmail(), "Example1234.");
+
+    when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+    when(encoder.matches(requestDto.getPassword(), user.getPassword()))
+        .thenThrow(new AuthenticationException(PASSWORD_HASHING_UNAVAILABLE));
+
+    AuthenticationException ex =
+        assertThrows(AuthenticationException.class, () -> authService.login(requestDto));
+    assertEquals(PASSWORD_HASHING_UNAVAILABLE, ex.getError());
+    verify(tokenManager, never()).generateAccessToken(any());
+  }
+
   @Test
   void successfulRefreshingOfTokens() {
     RefreshTokenRequestDto requestDto = new RefreshTokenRequestDto(UUID.randomUUID().toString());
     User user = testParameters.getSavedUser();
-    RefreshToken refreshToken =
-        testParameters.getRefreshTokenWithRefreshTokenId(user.getId(), false);
+    RefreshTokenClaims claims = testParameters.getRefreshTokenClaims(user);
 
-    when(refreshTokenService.findByRefreshToken(requestDto.getRefreshToken()))
-        .thenReturn(refreshToken);
-    when(userRepository.getReferenceById(refreshToken.getUserId())).thenReturn(user);
-    when(tokenManager.generateAccessToken(user)).thenReturn(UUID.randomUUID().toString());
+    when(refreshTokenService.findClaimsByRefreshToken(requestDto.getRefreshToken()))
+        .thenReturn(claims);
+    when(tokenManager.getOrGenerateAccessToken(user.getId(), user.getEmail(), user.getRole()))
+        .thenReturn(UUID.randomUUID().toString());
 
     RefreshTokenResponseDto response = authService.refreshToken(requestDto);
     assertNotNull(response.getAccessToken());
-    assertNotNull(response.getRefreshToken());
+    assertEquals(requestDto.getRefreshToken(), response.getRefreshToken());
+    verifyNoInteractions(userRepository);
   }
 
   @Test
   void successfulVerifyingUser() {
     User user = testParameters.getSavedUser();
     ConfirmEmailRequestDto requestDto = new ConfirmEmailRequestDto(user.getEmail());
-    ConfirmationToken confirmationToken = testParameters.confirmationToken(user);
 
     when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-    when(confirmationTokenService.create(any(User.class))).thenReturn(confirmationToken);
     authService.verify(requestDto);
 
-    verify(confirmationTokenService).create(user);
-    verify(sqsService).sendMessage(anyString());
+    verify(eventPublisher).publishEvent(ConfirmationRequestedEvent.passwordRestoring(user.getId()));
   }
 
   @Test
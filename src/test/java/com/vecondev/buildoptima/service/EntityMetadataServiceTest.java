@@ -0,0 +1,118 @@
+package com.vecondev.buildoptima.service;
+
+import static com.vecondev.buildoptima.model.Status.ACTIVE;
+import static com.vecondev.buildoptima.model.Status.ARCHIVED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.vecondev.buildoptima.dto.EntityOverview;
+import com.vecondev.buildoptima.dto.Metadata;
+import com.vecondev.buildoptima.mapper.user.UserMapper;
+import com.vecondev.buildoptima.model.Status;
+import com.vecondev.buildoptima.model.news.News;
+import com.vecondev.buildoptima.model.user.User;
+import com.vecondev.buildoptima.repository.faq.FaqCategoryRepository;
+import com.vecondev.buildoptima.repository.faq.FaqQuestionRepository;
+import com.vecondev.buildoptima.repository.news.NewsRepository;
+import com.vecondev.buildoptima.repository.user.UserRepository;
+import com.vecondev.buildoptima.service.metadata.impl.EntityMetadataServiceImpl;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EntityMetadataServiceTest {
+
+  private final UUID modifierId = UUID.randomUUID();
+  private final User modifier = User.builder().id(modifierId).build();
+  private final EntityOverview modifierOverview = new EntityOverview(modifierId, "John Smith");
+
+  @InjectMocks private EntityMetadataServiceImpl entityMetadataService;
+  @Mock private NewsRepository newsRepository;
+  @Mock private FaqQuestionRepository faqQuestionRepository;
+  @Mock private FaqCategoryRepository faqCategoryRepository;
+  @Mock private UserRepository userRepository;
+  @Mock private UserMapper userMapper;
+
+  @Test
+  void successfulLoadingMetadataOnlyOnFirstRead() {
+    News news = news(ACTIVE, Instant.now());
+    mockDatabase(news, 2L, 1L);
+
+    entityMetadataService.getMetadata(News.class);
+    Metadata metadata = entityMetadataService.getMetadata(News.class);
+
+    assertEquals(2L, metadata.getAllActiveCount());
+    assertEquals(1L, metadata.getAllArchivedCount());
+    assertEquals(news.getUpdatedAt(), metadata.getLastUpdatedAt());
+    assertEquals(modifierOverview, metadata.getLastUpdatedBy());
+    verify(newsRepository).findTopByOrderByUpdatedAtDesc();
+    verify(newsRepository).countByStatus(ACTIVE);
+    verify(userRepository).findById(modifierId);
+  }
+
+  @Test
+  void successfulApplyingEventsWithoutDatabase() {
+    News news = news(ACTIVE, Instant.now());
+    mockDatabase(news, 2L, 1L);
+    entityMetadataService.getMetadata(News.class);
+
+    News archived = news(ARCHIVED, news.getUpdatedAt().plusSeconds(60));
+    entityMetadataService.onUpdated(archived, ACTIVE);
+    entityMetadataService.onCreated(news(ACTIVE, archived.getUpdatedAt().plusSeconds(60)));
+    Metadata metadata = entityMetadataService.getMetadata(News.class);
+
+    assertEquals(2L, metadata.getAllActiveCount());
+    assertEquals(2L, metadata.getAllArchivedCount());
+    assertEquals(archived.getUpdatedAt().plusSeconds(60), metadata.getLastUpdatedAt());
+    verify(newsRepository).findTopByOrderByUpdatedAtDesc();
+    verify(newsRepository).countByStatus(ACTIVE);
+    verify(newsRepository).countByStatus(ARCHIVED);
+    verifyNoMoreInteractions(newsRepository);
+  }
+
+  @Test
+  void successfulReloadingAfterLastUpdatedOneIsDeleted() {
+    News news = news(ACTIVE, Instant.now());
+    mockDatabase(news, 1L, 0L);
+    entityMetadataService.getMetadata(News.class);
+
+    entityMetadataService.onDeleted(news);
+    entityMetadataService.getMetadata(News.class);
+
+    verify(newsRepository, times(2)).findTopByOrderByUpdatedAtDesc();
+  }
+
+  @Test
+  void successfulGettingEmptyMetadata() {
+    when(newsRepository.findTopByOrderByUpdatedAtDesc()).thenReturn(null);
+
+    Metadata metadata = entityMetadataService.getMetadata(News.class);
+
+    assertNull(metadata.getAllActiveCount());
+    assertNull(metadata.getLastUpdatedBy());
+  }
+
+  private void mockDatabase(News lastUpdated, long activeCount, long archivedCount) {
+    when(newsRepository.findTopByOrderByUpdatedAtDesc()).thenReturn(lastUpdated);
+    when(newsRepository.countByStatus(ACTIVE)).thenReturn(activeCount);
+    when(newsRepository.countByStatus(ARCHIVED)).thenReturn(archivedCount);
+    when(userRepository.findById(modifierId)).thenReturn(Optional.of(modifier));
+    when(userMapper.mapToOverview(modifier)).thenReturn(modifierOverview);
+  }
+
+  private News news(Status status, Instant updatedAt) {
+    News news = News.builder().status(status).createdBy(modifierId).build();
+    news.setUpdatedAt(updatedAt);
+    return news;
+  }
+}
@@ -1,11 +1,10 @@
 package com.vecondev.buildoptima.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -17,7 +16,6 @@ import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
 import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
 import com.vecondev.buildoptima.exception.ConvertingFailedException;
 import com.vecondev.buildoptima.exception.FaqCategoryNotFoundException;
-import com.vecondev.buildoptima.exception.ResourceNotFoundException;
 import com.vecondev.buildoptima.filter.converter.PageableConverter;
 import com.vecondev.buildoptima.mapper.faq.FaqCategoryMapper;
 import com.vecondev.buildoptima.model.faq.FaqCategory;
@@ -26,8 +24,8 @@ import com.vecondev.buildoptima.parameters.faq.category.FaqCategoryServiceTestPa
 import com.vecondev.buildoptima.repository.faq.FaqCategoryRepository;
 import com.vecondev.buildoptima.service.csv.CsvServiceImpl;
 import com.vecondev.buildoptima.service.faq.impl.FaqCategoryServiceImpl;
+import com.vecondev.buildoptima.service.metadata.EntityMetadataService;
 import com.vecondev.buildoptima.service.user.UserServiceImpl;
-import com.vecondev.buildoptima.validation.faq.FaqCategoryValidator;
 import com.vecondev.buildoptima.validation.validator.FieldNameValidator;
 import java.io.ByteArrayInputStream;
 import java.util.List;
@@ -44,6 +42,7 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -60,10 +59,10 @@ class FaqCategoryServiceTest {
 
   @Mock private FaqCategoryMapper faqCategoryMapper;
   @Mock private FaqCategoryRepository faqCategoryRepository;
-  @Mock private FaqCategoryValidator faqCategoryValidator;
   @Mock private UserServiceImpl userService;
   @Mock private PageableConverter pageableConverter;
   @Mock private CsvServiceImpl<FaqCategoryRecord> csvService;
+  @Mock private EntityMetadataService entityMetadataService;
 
   @Test
   void successfulRetrievalOfAllCategories() {
@@ -75,9 +74,13 @@ class FaqCategoryServiceTest {
 
   @Test
   void successfulRetrievalOfCategoryById() {
-    doReturn(null).when(faqCategoryService).findCategoryById(any());
-    faqCategoryService.getById(UUID.randomUUID());
+    UUID categoryId = UUID.randomUUID();
+
+    when(faqCategoryRepository.findWithOverviewById(categoryId))
+        .thenReturn(Optional.of(new FaqCategory()));
+    faqCategoryService.getById(categoryId);
 
+    verify(faqCategoryRepository).findWithOverviewById(categoryId);
     verify(faqCategoryMapper).mapToDto(any());
   }
 
@@ -85,9 +88,9 @@ class FaqCategoryServiceTest {
   void failedRetrievalOfCategoryByIdAsNotFound() {
     UUID id = UUID.randomUUID();
 
-    doThrow(ResourceNotFoundException.class).when(faqCategoryService).findCategoryById(id);
+    when(faqCategoryRepository.findWithOverviewById(id)).thenReturn(Optional.empty());
 
-    assertThrows(ResourceNotFoundException.class, () -> faqCategoryService.getById(id));
+    assertThrows(FaqCategoryNotFoundException.class, () -> faqCategoryService.getById(id));
   }
 
   @Test
@@ -110,7 +113,6 @@ class FaqCategoryServiceTest {
     assertEquals(
         String.format("%s %s", user.getFirstName(), user.getLastName()),
         methodResponse.getUpdatedBy().getName());
-    verify(faqCategoryValidator).validateCategoryName(faqCategory.getName());
     verify(faqCategoryMapper).mapToDto(faqCategory);
   }
 
@@ -123,14 +125,13 @@ class FaqCategoryServiceTest {
 
     when(userService.findUserById(userId)).thenReturn(user);
     when(faqCategoryMapper.mapToEntity(faqCategoryRequestDto, user)).thenReturn(faqCategory);
-    doThrow(IllegalArgumentException.class)
-        .when(faqCategoryValidator)
-        .validateCategoryName(faqCategory.getName());
+    when(faqCategoryRepository.saveAndFlush(faqCategory))
+        .thenThrow(DataIntegrityViolationException.class);
 
     assertThrows(
-        IllegalArgumentException.class,
+        DataIntegrityViolationException.class,
         () -> faqCategoryService.create(faqCategoryRequestDto, userId));
-    verify(faqCategoryValidator).validateCategoryName(faqCategory.getName());
+    verify(faqCategoryMapper, never()).mapToDto(any());
   }
 
   @Test
@@ -151,7 +152,6 @@ class FaqCategoryServiceTest {
         faqCategoryService.update(faqCategory.getId(), faqCategoryRequestDto, userId);
     assertEquals(newName, methodResponse.getName());
     assertEquals(faqCategory.getId(), methodResponse.getId());
-    verify(faqCategoryValidator).validateCategoryName(faqCategoryRequestDto.getName());
     verify(faqCategoryRepository).saveAndFlush(any());
   }
 
@@ -271,7 +271,7 @@ class FaqCategoryServiceTest {
     assertEquals(
         "application/csv",
         Objects.requireNonNull(response.getHeaders().get("Content-type")).get(0));
-    verify(faqCategoryRepository).findAll();
+    verify(faqCategoryRepository).findAllForExport();
   }
 
   @Test
@@ -284,25 +284,16 @@ class FaqCategoryServiceTest {
         .writeToCsv(categoryRecords, FaqCategoryRecord.class);
 
     assertThrows(ConvertingFailedException.class, () -> faqCategoryService.exportInCsv());
-    verify(faqCategoryRepository).findAll();
+    verify(faqCategoryRepository).findAllForExport();
   }
 
   @Test
   void successfulGettingMetadata() {
-    when(faqCategoryRepository.findTopByOrderByUpdatedAtDesc())
-        .thenReturn(Optional.of(new FaqCategory()));
-    faqCategoryService.getMetadata();
-
-    verify(faqCategoryMapper).getMetadata(any(), any(), any());
-    verify(faqCategoryRepository).count();
-  }
+    Metadata metadata = Metadata.builder().allActiveCount(3L).allArchivedCount(0L).build();
 
-  @Test
-  void successfulGettingMetadataWithZeroCount() {
-    when(faqCategoryRepository.findTopByOrderByUpdatedAtDesc()).thenReturn(Optional.empty());
-    Metadata metadata = faqCategoryService.getMetadata();
+    when(entityMetadataService.getMetadata(FaqCategory.class)).thenReturn(metadata);
 
-    assertNull(metadata.getAllActiveCount());
-    assertNull(metadata.getLastUpdatedBy());
+    assertEquals(metadata, faqCategoryService.getMetadata());
+    verify(entityMetadataService).getMetadata(FaqCategory.class);
   }
 }
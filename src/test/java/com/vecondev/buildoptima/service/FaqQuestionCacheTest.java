@@ -0,0 +1,82 @@
+package com.vecondev.buildoptima.service;
+
+import static com.vecondev.buildoptima.filter.model.DictionaryField.CATEGORY;
+import static com.vecondev.buildoptima.model.Status.ACTIVE;
+import static com.vecondev.buildoptima.model.Status.ARCHIVED;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vecondev.buildoptima.config.CacheConfig;
+import com.vecondev.buildoptima.config.properties.CacheConfigProperties;
+import com.vecondev.buildoptima.csv.faq.FaqQuestionRecord;
+import com.vecondev.buildoptima.filter.converter.PageableConverter;
+import com.vecondev.buildoptima.mapper.faq.FaqQuestionMapper;
+import com.vecondev.buildoptima.repository.faq.FaqQuestionRepository;
+import com.vecondev.buildoptima.service.csv.CsvService;
+import com.vecondev.buildoptima.service.faq.FaqCategoryService;
+import com.vecondev.buildoptima.service.faq.FaqQuestionService;
+import com.vecondev.buildoptima.service.faq.impl.FaqQuestionServiceImpl;
+import com.vecondev.buildoptima.service.metadata.EntityMetadataService;
+import com.vecondev.buildoptima.service.user.UserService;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig({CacheConfig.class, CacheConfigProperties.class, FaqQuestionServiceImpl.class})
+class FaqQuestionCacheTest {
+
+  @Autowired private FaqQuestionService faqQuestionService;
+  @Autowired private CacheManager cacheManager;
+
+  @MockBean private FaqQuestionMapper faqQuestionMapper;
+  @MockBean private FaqQuestionRepository faqQuestionRepository;
+  @MockBean private FaqCategoryService faqCategoryService;
+  @MockBean private UserService userService;
+  @MockBean private PageableConverter pageableConverter;
+  @MockBean private CsvService<FaqQuestionRecord> csvService;
+  @MockBean private EntityMetadataService entityMetadataService;
+
+  @BeforeEach
+  void clearCaches() {
+    cacheManager.getCacheNames().stream().map(cacheManager::getCache).forEach(Cache::clear);
+  }
+
+  @Test
+  void secondRetrievalOfAllQuestionsIsServedFromCache() {
+    faqQuestionService.getAll();
+    faqQuestionService.getAll();
+
+    verify(faqQuestionRepository).findAll();
+  }
+
+  @Test
+  void lookupIsCachedPerStatusAndDictionary() {
+    faqQuestionService.lookup(ACTIVE, CATEGORY);
+    faqQuestionService.lookup(ACTIVE, CATEGORY);
+    faqQuestionService.lookup(ARCHIVED, CATEGORY);
+
+    verify(faqQuestionRepository).findDistinctCategories(ACTIVE);
+    verify(faqQuestionRepository).findDistinctCategories(ARCHIVED);
+  }
+
+  @Test
+  void deletingQuestionEvictsCachedReads() {
+    UUID questionId = UUID.randomUUID();
+    when(faqQuestionRepository.existsById(questionId)).thenReturn(true);
+
+    faqQuestionService.getAll();
+    faqQuestionService.lookup(ACTIVE, CATEGORY);
+    faqQuestionService.delete(questionId, UUID.randomUUID());
+    faqQuestionService.getAll();
+    faqQuestionService.lookup(ACTIVE, CATEGORY);
+
+    verify(faqQuestionRepository, times(2)).findAll();
+    verify(faqQuestionRepository, times(2)).findDistinctCategories(ACTIVE);
+  }
+}
@@ -3,13 +3,12 @@ package com.vecondev.buildoptima.service;
 import static com.vecondev.buildoptima.filter.model.DictionaryField.CATEGORY;
 import static com.vecondev.buildoptima.filter.model.DictionaryField.UPDATED_BY;
 import static com.vecondev.buildoptima.model.Status.ACTIVE;
+import static com.vecondev.buildoptima.model.Status.ARCHIVED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,7 +21,6 @@ import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
 import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
 import com.vecondev.buildoptima.exception.ConvertingFailedException;
 import com.vecondev.buildoptima.exception.FaqQuestionNotFoundException;
-import com.vecondev.buildoptima.exception.ResourceNotFoundException;
 import com.vecondev.buildoptima.filter.converter.PageableConverter;
 import com.vecondev.buildoptima.mapper.faq.FaqQuestionMapper;
 import com.vecondev.buildoptima.model.Status;
@@ -34,13 +32,15 @@ import com.vecondev.buildoptima.repository.faq.FaqQuestionRepository;
 import com.vecondev.buildoptima.service.csv.CsvServiceImpl;
 import com.vecondev.buildoptima.service.faq.FaqCategoryService;
 import com.vecondev.buildoptima.service.faq.impl.FaqQuestionServiceImpl;
+import com.vecondev.buildoptima.service.metadata.EntityMetadataService;
 import com.vecondev.buildoptima.service.user.UserService;
-import com.vecondev.buildoptima.validation.faq.FaqQuestionValidator;
 import com.vecondev.buildoptima.validation.validator.FieldNameValidator;
 import java.io.ByteArrayInputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -52,6 +52,7 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -67,12 +68,12 @@ class FaqQuestionServiceTest {
   @InjectMocks @Spy private FaqQuestionServiceImpl faqQuestionService;
 
   @Mock private FaqQuestionMapper faqQuestionMapper;
-  @Mock private FaqQuestionValidator faqQuestionValidator;
   @Mock private FaqQuestionRepository faqQuestionRepository;
   @Mock private FaqCategoryService faqCategoryService;
   @Mock private UserService userService;
   @Mock private CsvServiceImpl<FaqQuestionRecord> csvService;
   @Mock private PageableConverter pageableConverter;
+  @Mock private EntityMetadataService entityMetadataService;
 
   @Test
   void successfulRetrievalOfAllQuestions() {
@@ -86,9 +87,11 @@ class FaqQuestionServiceTest {
   void successfulRetrievalOfQuestionById() {
     UUID questionId = UUID.randomUUID();
 
-    doReturn(null).when(faqQuestionService).findQuestionById(questionId);
+    when(faqQuestionRepository.findWithOverviewById(questionId))
+        .thenReturn(Optional.of(new FaqQuestion()));
     faqQuestionService.getById(questionId);
 
+    verify(faqQuestionRepository).findWithOverviewById(questionId);
     verify(faqQuestionMapper).mapToDto(any());
   }
 
@@ -96,9 +99,9 @@ class FaqQuestionServiceTest {
   void failedRetrievalOfQuestionByIdAsNotFound() {
     UUID id = UUID.randomUUID();
 
-    doThrow(ResourceNotFoundException.class).when(faqQuestionService).findQuestionById(id);
+    when(faqQuestionRepository.findWithOverviewById(id)).thenReturn(Optional.empty());
 
-    assertThrows(ResourceNotFoundException.class, () -> faqQuestionService.getById(id));
+    assertThrows(FaqQuestionNotFoundException.class, () -> faqQuestionService.getById(id));
   }
 
   @Test
@@ -126,7 +129,6 @@ class FaqQuestionServiceTest {
     assertEquals(
         String.format("%s %s", user.getFirstName(), user.getLastName()),
         methodResponse.getUpdatedBy().getName());
-    verify(faqQuestionValidator).validateQuestion(faqQuestion.getQuestion());
     verify(faqQuestionMapper).mapToDto(faqQuestion);
   }
 
@@ -144,13 +146,13 @@ class FaqQuestionServiceTest {
         .thenReturn(faqCategory);
     when(faqQuestionMapper.mapToEntity(faqQuestionRequestDto, faqCategory, user))
         .thenReturn(faqQuestion);
-    doThrow(IllegalArgumentException.class)
-        .when(faqQuestionValidator)
-        .validateQuestion(faqQuestion.getQuestion());
+    when(faqQuestionRepository.saveAndFlush(faqQuestion))
+        .thenThrow(DataIntegrityViolationException.class);
 
     assertThrows(
-        IllegalArgumentException.class,
+        DataIntegrityViolationException.class,
         () -> faqQuestionService.create(faqQuestionRequestDto, userId));
+    verify(faqQuestionMapper, never()).mapToDto(any());
   }
 
   @Test
@@ -173,7 +175,6 @@ class FaqQuestionServiceTest {
         faqQuestionService.update(faqQuestion.getId(), faqQuestionRequestDto, userId);
     assertEquals(newQuestion, methodResponse.getQuestion());
     assertEquals(faqQuestion.getCategory().getId(), methodResponse.getCategory().getId());
-    verify(faqQuestionValidator).validateQuestion(faqQuestionRequestDto.getQuestion());
     verify(faqQuestionMapper).mapToDto(any());
   }
 
@@ -193,6 +194,69 @@ class FaqQuestionServiceTest {
         () -> faqQuestionService.update(questionId, faqQuestionRequestDto, userId));
   }
 
+  @Test
+  void successfulQuestionsCreationInBulk() {
+    UUID userId = UUID.randomUUID();
+    User user = testParameters.getUserById(userId);
+    FaqQuestionRequestDto faqQuestionRequestDto = testParameters.getFaqQuestionRequestDto();
+    final FaqQuestionRequestDto otherRequestDto =
+        faqQuestionRequestDto.toBuilder().question("Question2").build();
+    FaqCategory faqCategory = testParameters.getFaqCategory(userId);
+    faqCategory.setId(faqQuestionRequestDto.getFaqCategoryId());
+    FaqQuestion faqQuestion = testParameters.getFaqQuestion(userId);
+    FaqQuestion otherQuestion = faqQuestion.toBuilder().question("Question2").build();
+    List<FaqQuestion> questions = List.of(faqQuestion, otherQuestion);
+
+    when(userService.findUserById(userId)).thenReturn(user);
+    when(faqCategoryService.findCategoriesByIds(
+            List.of(faqCategory.getId(), faqCategory.getId())))
+        .thenReturn(Map.of(faqCategory.getId(), faqCategory));
+    when(faqQuestionMapper.mapToEntity(faqQuestionRequestDto, faqCategory, user))
+        .thenReturn(faqQuestion);
+    when(faqQuestionMapper.mapToEntity(otherRequestDto, faqCategory, user))
+        .thenReturn(otherQuestion);
+    when(faqQuestionRepository.saveAll(questions)).thenReturn(questions);
+
+    faqQuestionService.createAll(List.of(faqQuestionRequestDto, otherRequestDto), userId);
+
+    verify(faqQuestionRepository).flush();
+    verify(faqQuestionRepository, never()).saveAndFlush(any());
+    verify(faqQuestionMapper).mapToListDto(questions);
+  }
+
+  @Test
+  void successfulQuestionsArchivingInBulk() {
+    UUID userId = UUID.randomUUID();
+    User user = testParameters.getUserById(userId);
+    FaqQuestion faqQuestion = testParameters.getFaqQuestion(userId);
+    faqQuestion.setStatus(ACTIVE);
+
+    when(faqQuestionRepository.findWithOverviewByIdIn(Set.of(faqQuestion.getId())))
+        .thenReturn(List.of(faqQuestion));
+    when(userService.findUserById(userId)).thenReturn(user);
+
+    faqQuestionService.archiveAll(List.of(faqQuestion.getId()), userId);
+
+    assertEquals(ARCHIVED, faqQuestion.getStatus());
+    assertEquals(user, faqQuestion.getUpdatedBy());
+    verify(faqQuestionRepository).flush();
+  }
+
+  @Test
+  void failedQuestionsArchivingInBulkAsOneIsNotFound() {
+    UUID userId = UUID.randomUUID();
+    FaqQuestion faqQuestion = testParameters.getFaqQuestion(userId);
+    List<UUID> questionIds = List.of(faqQuestion.getId(), UUID.randomUUID());
+
+    when(faqQuestionRepository.findWithOverviewByIdIn(Set.copyOf(questionIds)))
+        .thenReturn(List.of(faqQuestion));
+
+    assertThrows(
+        FaqQuestionNotFoundException.class,
+        () -> faqQuestionService.archiveAll(questionIds, userId));
+    verify(faqQuestionRepository, never()).flush();
+  }
+
   @Test
   void successfulQuestionDeletion() {
     UUID questionId = UUID.randomUUID();
@@ -291,7 +355,7 @@ class FaqQuestionServiceTest {
     assertEquals(
         "application/csv",
         Objects.requireNonNull(response.getHeaders().get("Content-type")).get(0));
-    verify(faqQuestionRepository).findAll();
+    verify(faqQuestionRepository).findAllForExport();
   }
 
   @Test
@@ -304,26 +368,17 @@ class FaqQuestionServiceTest {
         .writeToCsv(questionRecords, FaqQuestionRecord.class);
 
     assertThrows(ConvertingFailedException.class, () -> faqQuestionService.exportInCsv());
-    verify(faqQuestionRepository).findAll();
+    verify(faqQuestionRepository).findAllForExport();
   }
 
   @Test
   void successfulGettingMetadata() {
-    when(faqQuestionRepository.findTopByOrderByUpdatedAtDesc())
-        .thenReturn(Optional.of(new FaqQuestion()));
-    faqQuestionService.getMetadata();
+    Metadata metadata = Metadata.builder().allActiveCount(3L).allArchivedCount(1L).build();
 
-    verify(faqQuestionMapper).getMetadata(any(), any(), any());
-    verify(faqQuestionRepository, times(2)).countByStatus(any());
-  }
-
-  @Test
-  void successfulGettingMetadataWithZeroCount() {
-    when(faqQuestionRepository.findTopByOrderByUpdatedAtDesc()).thenReturn(Optional.empty());
-    Metadata metadata = faqQuestionService.getMetadata();
+    when(entityMetadataService.getMetadata(FaqQuestion.class)).thenReturn(metadata);
 
-    assertNull(metadata.getAllActiveCount());
-    assertNull(metadata.getLastUpdatedBy());
+    assertEquals(metadata, faqQuestionService.getMetadata());
+    verify(entityMetadataService).getMetadata(FaqQuestion.class);
   }
 
   @Test
@@ -0,0 +1,115 @@
+package com.vecondev.buildoptima.service;
+
+import static com.vecondev.buildoptima.exception.Error.INVALID_LOCATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.vecondev.buildoptima.config.properties.LocationSearchConfigProperties;
+import com.vecondev.buildoptima.dto.property.PropertyLocationDto;
+import com.vecondev.buildoptima.exception.InvalidFieldException;
+import com.vecondev.buildoptima.model.property.Centroid;
+import com.vecondev.buildoptima.model.property.Locations;
+import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.repository.property.PropertyRepository;
+import com.vecondev.buildoptima.service.property.search.impl.LocationSearchServiceImpl;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class LocationSearchServiceTest {
+
+  @Mock private PropertyRepository propertyRepository;
+
+  private LocationSearchServiceImpl locationSearchService;
+
+  @BeforeEach
+  void setUp() {
+    locationSearchService =
+        new LocationSearchServiceImpl(new LocationSearchConfigProperties(), propertyRepository);
+  }
+
+  @Test
+  void successfulSearchInViewport() {
+    index("5482003013", 34.0776, -118.4924);
+    index("4370012005", 34.0522, -118.2437);
+    index("2004001001", 37.7749, -122.4194);
+
+    List<PropertyLocationDto> found =
+        locationSearchService.findInViewport(34.0, -118.5, 34.1, -118.4, 100);
+    assertEquals(List.of(new PropertyLocationDto("5482003013", 34.0776, -118.4924)), found);
+    assertEquals(2, locationSearchService.findInViewport(33.9, -118.6, 34.2, -118.2, 100).size());
+  }
+
+  @Test
+  void failedSearchInViewportAsBoundsAreInverted() {
+    InvalidFieldException ex =
+        assertThrows(
+            InvalidFieldException.class,
+            () -> locationSearchService.findInViewport(34.1, -118.5, 34.0, -118.4, 100));
+    assertEquals(INVALID_LOCATION, ex.getError());
+  }
+
+  @Test
+  void successfulSearchOfNearbyPropertiesNearestFirst() {
+    index("4370012005", 34.0522, -118.2437);
+    index("5482003013", 34.0776, -118.4924);
+    index("2004001001", 37.7749, -122.4194);
+
+    List<String> found =
+        locationSearchService.findNearby(34.07, -118.45, 20, 10).stream()
+            .map(PropertyLocationDto::ain)
+            .toList();
+    assertEquals(List.of("5482003013", "4370012005"), found);
+  }
+
+  @Test
+  void successfulReindexingOfMovedProperty() {
+    index("5482003013", 34.0776, -118.4924);
+    locationSearchService.merge();
+    index("5482003013", 34.0522, -118.2437);
+
+    assertTrue(locationSearchService.findNearby(34.0776, -118.4924, 1, 10).isEmpty());
+    assertEquals(1, locationSearchService.findNearby(34.0522, -118.2437, 1, 10).size());
+
+    locationSearchService.merge();
+    assertTrue(locationSearchService.findNearby(34.0776, -118.4924, 1, 10).isEmpty());
+    assertEquals(1, locationSearchService.findNearby(34.0522, -118.2437, 1, 10).size());
+  }
+
+  @Test
+  void successfulLoadingFromDatabase() {
+    PropertyLocationDto location = new PropertyLocationDto("5482003013", 34.0776, -118.4924);
+    when(propertyRepository.findLocationsAfter(eq(""), any(Pageable.class)))
+        .thenReturn(List.of(location));
+
+    locationSearchService.load();
+    assertEquals(List.of(location), locationSearchService.findNearby(34.0776, -118.4924, 1, 10));
+  }
+
+  @Test
+  void failedSearchOfNearbyPropertiesAsRadiusIsTooLarge() {
+    assertThrows(
+        InvalidFieldException.class,
+        () -> locationSearchService.findNearby(34.0776, -118.4924, 500, 10));
+    verifyNoInteractions(propertyRepository);
+  }
+
+  private void index(String ain, double lat, double lng) {
+    Centroid centroid = new Centroid();
+    centroid.setLat(lat);
+    centroid.setLng(lng);
+    Property property = Property.builder().ain(ain).build();
+    property.setLocations(new Locations(centroid, List.of()));
+    locationSearchService.index(property);
+  }
+}
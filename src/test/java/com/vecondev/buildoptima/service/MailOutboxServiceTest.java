@@ -0,0 +1,84 @@
+package com.vecondev.buildoptima.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.AmazonClientException;
+import com.vecondev.buildoptima.config.properties.SqsConfigProperties;
+import com.vecondev.buildoptima.model.outbox.MailOutboxMessage;
+import com.vecondev.buildoptima.repository.housekeeping.HousekeepingLeaseRepository;
+import com.vecondev.buildoptima.repository.outbox.MailOutboxRepository;
+import com.vecondev.buildoptima.service.sqs.MailOutboxServiceImpl;
+import com.vecondev.buildoptima.service.sqs.SqsService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+
+  @InjectMocks private MailOutboxServiceImpl mailOutboxService;
+  @Spy private SqsConfigProperties sqsConfigProperties = new SqsConfigProperties();
+  @Mock private MailOutboxRepository mailOutboxRepository;
+  @Mock private HousekeepingLeaseRepository leaseRepository;
+  @Mock private SqsService sqsService;
+
+  @Test
+  void successfulRelayInBatchesOfTen() {
+    List<MailOutboxMessage> due = IntStream.range(0, 12).mapToObj(i -> message()).toList();
+
+    when(leaseRepository.acquire(anyString(), anyString(), any(), any())).thenReturn(1);
+    when(mailOutboxRepository.findDue(any(LocalDateTime.class), anyInt(), any(Pageable.class)))
+        .thenReturn(due);
+    when(sqsService.sendMailBatch(anyMap()))
+        .thenAnswer(invocation -> invocation.<Map<String, String>>getArgument(0).keySet());
+
+    assertEquals(12, mailOutboxService.relay());
+    verify(sqsService, times(2)).sendMailBatch(anyMap());
+    verify(leaseRepository).release(anyString(), anyString(), any());
+  }
+
+  @Test
+  void failedSendIsScheduledForRetry() {
+    MailOutboxMessage message = message();
+
+    when(leaseRepository.acquire(anyString(), anyString(), any(), any())).thenReturn(1);
+    when(mailOutboxRepository.findDue(any(LocalDateTime.class), anyInt(), any(Pageable.class)))
+        .thenReturn(List.of(message));
+    when(sqsService.sendMailBatch(anyMap())).thenThrow(AmazonClientException.class);
+
+    assertEquals(0, mailOutboxService.relay());
+    assertEquals(1, message.getAttempts());
+    verify(mailOutboxRepository).saveAll(List.of(message));
+  }
+
+  @Test
+  void skippedRelayAsLeaseIsHeld() {
+    when(leaseRepository.acquire(anyString(), anyString(), any(), any())).thenReturn(0);
+
+    assertEquals(0, mailOutboxService.relay());
+    verifyNoInteractions(mailOutboxRepository, sqsService);
+  }
+
+  private MailOutboxMessage message() {
+    MailOutboxMessage message = new MailOutboxMessage("{}", LocalDateTime.now());
+    message.setId(UUID.randomUUID());
+    return message;
+  }
+}
@@ -0,0 +1,193 @@
+package com.vecondev.buildoptima.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vecondev.buildoptima.config.properties.PropertyMigrationConfigProperties;
+import com.vecondev.buildoptima.dto.property.AddressDto;
+import com.vecondev.buildoptima.dto.property.PropertyReadDto;
+import com.vecondev.buildoptima.mapper.property.AddressMapper;
+import com.vecondev.buildoptima.model.property.Address;
+import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.model.property.migration.MigrationHistory;
+import com.vecondev.buildoptima.model.property.migration.MigrationMetadata;
+import com.vecondev.buildoptima.repository.property.MigrationMetadataRepository;
+import com.vecondev.buildoptima.repository.property.MigrationMetadataUpsertRepository;
+import com.vecondev.buildoptima.service.property.migration.impl.MigrationMetadataServiceImpl;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class MigrationMetadataServiceTest {
+
+  private final MigrationHistory firstHistory = history("1.json.gz");
+  private final MigrationHistory secondHistory = history("2.json.gz");
+
+  @Mock private MigrationMetadataRepository repository;
+  @Mock private MigrationMetadataUpsertRepository upsertRepository;
+  @Mock private AddressMapper addressMapper;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private MigrationMetadataServiceImpl migrationMetadataService;
+
+  @BeforeEach
+  void setUp() {
+    PropertyMigrationConfigProperties properties = new PropertyMigrationConfigProperties();
+    properties.setMetadataBatchSize(2);
+    migrationMetadataService =
+        new MigrationMetadataServiceImpl(
+            repository, upsertRepository, addressMapper, properties, transactionManager);
+  }
+
+  @Test
+  void successfulUpsertOfFullBatch() {
+    when(upsertRepository.isSupported()).thenReturn(true);
+
+    migrationMetadataService.save(firstHistory, property("5482003013"));
+    migrationMetadataService.save(firstHistory, property("4370012005"));
+
+    List<MigrationMetadata> batch = upsertedBatch();
+    assertEquals(2, batch.size());
+    assertEquals("5482003013", batch.get(0).getAin());
+  }
+
+  @Test
+  void successfulMergingOfQueuedMetadataOfSameAin() {
+    when(upsertRepository.isSupported()).thenReturn(true);
+    List<AddressDto> addresses = List.of(new AddressDto());
+    when(addressMapper.mapToDtoList(any())).thenReturn(addresses);
+
+    migrationMetadataService.save(firstHistory, property("5482003013"));
+    migrationMetadataService.save(
+        secondHistory, PropertyReadDto.builder().ain("5482003013").build(), "Invalid json");
+    verify(upsertRepository, never()).upsertAll(any());
+    migrationMetadataService.flush();
+
+    List<MigrationMetadata> batch = upsertedBatch();
+    assertEquals(1, batch.size());
+    assertEquals(secondHistory, batch.get(0).getMigrationHistory());
+    assertEquals(addresses, batch.get(0).getAddresses());
+    assertEquals("Invalid json", batch.get(0).getFailedReason());
+    assertNotNull(batch.get(0).getFailedAt());
+  }
+
+  @Test
+  void successfulSavingOfMetadataWithoutUpsert() {
+    MigrationMetadata stored =
+        MigrationMetadata.builder()
+            .id(UUID.randomUUID())
+            .ain("5482003013")
+            .migrationHistory(firstHistory)
+            .failedReason("Invalid json")
+            .build();
+    when(upsertRepository.isSupported()).thenReturn(false);
+    when(repository.findByAin("5482003013")).thenReturn(Optional.of(stored));
+
+    migrationMetadataService.save(secondHistory, property("5482003013"));
+    migrationMetadataService.flush();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<MigrationMetadata>> captor = ArgumentCaptor.forClass(List.class);
+    verify(repository).saveAll(captor.capture());
+    MigrationMetadata saved = captor.getValue().get(0);
+    assertEquals(stored.getId(), saved.getId());
+    assertEquals(secondHistory, saved.getMigrationHistory());
+    assertEquals("Invalid json", saved.getFailedReason());
+  }
+
+  @Test
+  void successfulSavingOfFailedBatchRowByRow() {
+    when(upsertRepository.isSupported()).thenReturn(true);
+    doThrow(new DataIntegrityViolationException("Value too long"))
+        .doNothing()
+        .doThrow(new DataIntegrityViolationException("Value too long"))
+        .when(upsertRepository)
+        .upsertAll(any());
+
+    migrationMetadataService.save(firstHistory, property("5482003013"));
+    migrationMetadataService.save(firstHistory, property("4370012005"));
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<MigrationMetadata>> captor = ArgumentCaptor.forClass(List.class);
+    verify(upsertRepository, times(3)).upsertAll(captor.capture());
+    assertEquals(2, captor.getAllValues().get(0).size());
+    assertEquals("5482003013", captor.getAllValues().get(1).get(0).getAin());
+    assertEquals("4370012005", captor.getAllValues().get(2).get(0).getAin());
+    verify(transactionManager, times(3)).getTransaction(any());
+    verify(transactionManager, times(2)).rollback(any());
+  }
+
+  @Test
+  void successfulQueueingWhileBatchIsWritten() throws Exception {
+    when(upsertRepository.isSupported()).thenReturn(true);
+    CountDownLatch writing = new CountDownLatch(1);
+    CountDownLatch written = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              writing.countDown();
+              written.await();
+              return null;
+            })
+        .doNothing()
+        .when(upsertRepository)
+        .upsertAll(any());
+
+    final CompletableFuture<Void> fullBatch =
+        CompletableFuture.runAsync(
+            () -> {
+              migrationMetadataService.save(firstHistory, property("5482003013"));
+              migrationMetadataService.save(firstHistory, property("4370012005"));
+            });
+    assertTrue(writing.await(5, TimeUnit.SECONDS));
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(5),
+        () -> migrationMetadataService.save(secondHistory, property("2004001001")));
+    written.countDown();
+    fullBatch.get(5, TimeUnit.SECONDS);
+    migrationMetadataService.flush();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<MigrationMetadata>> captor = ArgumentCaptor.forClass(List.class);
+    verify(upsertRepository, times(2)).upsertAll(captor.capture());
+    assertEquals("2004001001", captor.getAllValues().get(1).get(0).getAin());
+  }
+
+  private List<MigrationMetadata> upsertedBatch() {
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<MigrationMetadata>> captor = ArgumentCaptor.forClass(List.class);
+    verify(upsertRepository).upsertAll(captor.capture());
+    return captor.getValue();
+  }
+
+  private Property property(String ain) {
+    Property property = Property.builder().ain(ain).build();
+    property.addAddresses(List.of(new Address()));
+    return property;
+  }
+
+  private static MigrationHistory history(String key) {
+    return MigrationHistory.builder().id(UUID.randomUUID()).filePath(key).build();
+  }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -16,13 +17,13 @@ import com.vecondev.buildoptima.dto.Metadata;
 import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
 import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
 import com.vecondev.buildoptima.dto.news.request.NewsCreateRequestDto;
+import com.vecondev.buildoptima.dto.news.request.NewsItemRequestDto;
 import com.vecondev.buildoptima.dto.news.request.NewsUpdateRequestDto;
 import com.vecondev.buildoptima.dto.news.response.NewsResponseDto;
 import com.vecondev.buildoptima.exception.ConvertingFailedException;
 import com.vecondev.buildoptima.exception.NewsException;
 import com.vecondev.buildoptima.filter.converter.PageableConverter;
 import com.vecondev.buildoptima.mapper.news.NewsMapper;
-import com.vecondev.buildoptima.mapper.user.UserMapper;
 import com.vecondev.buildoptima.model.Status;
 import com.vecondev.buildoptima.model.news.News;
 import com.vecondev.buildoptima.model.news.NewsCategory;
@@ -31,15 +32,17 @@ import com.vecondev.buildoptima.model.user.User;
 import com.vecondev.buildoptima.parameters.news.NewsServiceTestParameters;
 import com.vecondev.buildoptima.parameters.user.UserServiceTestParameters;
 import com.vecondev.buildoptima.repository.news.NewsRepository;
-import com.vecondev.buildoptima.repository.user.UserRepository;
+import com.vecondev.buildoptima.security.user.CurrentUser;
 import com.vecondev.buildoptima.service.auth.SecurityContextService;
 import com.vecondev.buildoptima.service.csv.CsvService;
+import com.vecondev.buildoptima.service.metadata.EntityMetadataService;
 import com.vecondev.buildoptima.service.news.NewsServiceImpl;
 import com.vecondev.buildoptima.service.s3.AmazonS3Service;
 import com.vecondev.buildoptima.validation.validator.FieldNameValidator;
 import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -69,10 +72,10 @@ class NewsServiceTest {
   @Mock private SecurityContextService securityContextService;
   @Mock private PageableConverter pageableConverter;
   @Mock private NewsMapper newsMapper;
-  @Mock private UserMapper userMapper;
-  @Mock private UserRepository userRepository;
+  @Mock private CurrentUser currentUser;
   @Mock private CsvService<NewsRecord> csvService;
   @Mock private ObjectMapper objectMapper;
+  @Mock private EntityMetadataService entityMetadataService;
 
   private NewsCreateRequestDto createNewsRequestDto;
   private News news;
@@ -97,9 +100,8 @@ class NewsServiceTest {
   @Test
   void successfullyCreated() throws JsonProcessingException {
     when(objectMapper.writeValueAsString(any())).thenReturn("");
-    when(securityContextService.getUserDetails())
-        .thenReturn(userServiceTestParameters.userDetails());
-    when(userRepository.getReferenceById(any())).thenReturn(user);
+    when(currentUser.getId()).thenReturn(user.getId());
+    when(currentUser.getReference()).thenReturn(user);
     when(newsMapper.mapToEntity(createNewsRequestDto, user)).thenReturn(news);
     when(newsRepository.saveAndFlush(any())).thenReturn(news);
     when(newsMapper.mapToResponseDto(any()))
@@ -117,10 +119,9 @@ class NewsServiceTest {
     NewsResponseDto responseDto = serviceTestParameters.getNewsResponseDto(news);
 
     when(objectMapper.writeValueAsString(any())).thenReturn("");
-    when(securityContextService.getUserDetails())
-        .thenReturn(userServiceTestParameters.userDetails());
+    when(currentUser.getId()).thenReturn(user.getId());
     doReturn(Optional.of(news)).when(newsRepository).findById(any());
-    when(userRepository.getReferenceById(any())).thenReturn(user);
+    when(currentUser.getReference()).thenReturn(user);
     when(newsMapper.mapToResponseDto(news)).thenReturn(responseDto);
 
     NewsResponseDto update =
@@ -135,8 +136,7 @@ class NewsServiceTest {
     NewsUpdateRequestDto updateNewsRequestDto = serviceTestParameters.getUpdateNewsRequestDto();
     final UUID newsId = UUID.randomUUID();
 
-    when(securityContextService.getUserDetails())
-        .thenReturn(userServiceTestParameters.userDetails());
+    when(currentUser.getId()).thenReturn(user.getId());
     doThrow(NewsException.class).when(newsRepository).findById(any());
 
     assertThrows(
@@ -220,9 +220,8 @@ class NewsServiceTest {
 
     when(securityContextService.getUserDetails())
         .thenReturn(userServiceTestParameters.userDetails());
-    doReturn(news).when(newsRepository).findTopByOrderByUpdatedAtDesc();
-    doReturn(allActiveCount).when(newsRepository).countByStatus(Status.ACTIVE);
-    doReturn(userServiceTestParameters.getUserOverView(user)).when(userMapper).mapToOverview(any());
+    when(entityMetadataService.getMetadata(News.class))
+        .thenReturn(Metadata.builder().allActiveCount(allActiveCount).build());
 
     Metadata metadata = newsService.getMetadata();
     assertNotNull(metadata);
@@ -297,4 +296,62 @@ class NewsServiceTest {
 
     verify(newsRepository).findById(newsId);
   }
+
+  @Test
+  void successfullyCreatedInBulkWithOnePublish() throws JsonProcessingException {
+    NewsItemRequestDto item =
+        NewsItemRequestDto.builder()
+            .title(createNewsRequestDto.getTitle())
+            .summary(createNewsRequestDto.getSummary())
+            .description(createNewsRequestDto.getDescription())
+            .category(createNewsRequestDto.getCategory())
+            .build();
+
+    when(objectMapper.writeValueAsString(any())).thenReturn("");
+    when(currentUser.getId()).thenReturn(user.getId());
+    when(currentUser.getReference()).thenReturn(user);
+    when(newsMapper.mapToEntity(item, user)).thenReturn(news);
+    when(newsRepository.saveAll(List.of(news, news))).thenReturn(List.of(news, news));
+    when(newsMapper.mapToResponseDto(news))
+        .thenReturn(serviceTestParameters.getNewsResponseDto(news));
+
+    List<NewsResponseDto> responseDtos = newsService.createAll(List.of(item, item));
+
+    assertEquals(2, responseDtos.size());
+    verify(newsRepository).flush();
+    verify(objectMapper, times(1)).writeValueAsString(any());
+  }
+
+  @Test
+  void archiveNewsInBulkSuccess() throws JsonProcessingException {
+    news.setId(UUID.randomUUID());
+    NewsResponseDto newsResponseDto = serviceTestParameters.getNewsResponseDto(news);
+    newsResponseDto.setStatus(Status.ARCHIVED);
+
+    when(objectMapper.writeValueAsString(any())).thenReturn("");
+    when(securityContextService.getUserDetails())
+        .thenReturn(userServiceTestParameters.userDetails());
+    when(newsRepository.findAllById(Set.of(news.getId()))).thenReturn(List.of(news));
+    when(newsMapper.mapToResponseDto(news)).thenReturn(newsResponseDto);
+
+    List<NewsResponseDto> responseDtos = newsService.archiveAll(List.of(news.getId()));
+
+    assertEquals(Status.ARCHIVED, news.getStatus());
+    assertEquals(Status.ARCHIVED, responseDtos.get(0).getStatus());
+    verify(objectMapper, times(1)).writeValueAsString(any());
+  }
+
+  @Test
+  void failedArchiveNewsInBulkAsOneIsNotFound() {
+    news.setId(UUID.randomUUID());
+    UUID missingId = UUID.randomUUID();
+
+    when(securityContextService.getUserDetails())
+        .thenReturn(userServiceTestParameters.userDetails());
+    when(newsRepository.findAllById(Set.of(news.getId(), missingId))).thenReturn(List.of(news));
+
+    List<UUID> ids = List.of(news.getId(), missingId);
+    assertThrows(NewsException.class, () -> newsService.archiveAll(ids));
+    verify(amazonS3Service, Mockito.never()).uploadJsonObject(any(), any());
+  }
 }
@@ -0,0 +1,102 @@
+package com.vecondev.buildoptima.service;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.vecondev.buildoptima.config.properties.PropertyChangeConfigProperties;
+import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.model.property.PropertyChange;
+import com.vecondev.buildoptima.model.property.PropertyOperation;
+import com.vecondev.buildoptima.repository.property.PropertyRepository;
+import com.vecondev.buildoptima.service.property.PropertyChangeService;
+import com.vecondev.buildoptima.service.property.PropertyService;
+import com.vecondev.buildoptima.service.property.impl.PropertyChangeFollower;
+import com.vecondev.buildoptima.service.property.search.AddressSearchService;
+import com.vecondev.buildoptima.service.property.search.LocationSearchService;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyChangeFollowerTest {
+
+  @Mock private PropertyChangeService propertyChangeService;
+  @Mock private PropertyRepository propertyRepository;
+  @Mock private AddressSearchService addressSearchService;
+  @Mock private LocationSearchService locationSearchService;
+  @Mock private PropertyService propertyService;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private PropertyChangeFollower propertyChangeFollower;
+
+  @BeforeEach
+  void setUp() {
+    PropertyChangeConfigProperties properties = new PropertyChangeConfigProperties();
+    properties.setMaxPageSize(2);
+    propertyChangeFollower =
+        new PropertyChangeFollower(
+            properties,
+            propertyChangeService,
+            propertyRepository,
+            addressSearchService,
+            locationSearchService,
+            propertyService,
+            transactionManager);
+  }
+
+  @Test
+  void successfulSkippingBeforeStart() {
+    propertyChangeFollower.follow();
+
+    verifyNoInteractions(
+        propertyChangeService,
+        propertyRepository,
+        addressSearchService,
+        locationSearchService,
+        propertyService);
+  }
+
+  @Test
+  void successfulFollowingOfChangesSinceStart() {
+    Property first = Property.builder().ain("5482003013").build();
+    Property second = Property.builder().ain("5482003014").build();
+    when(propertyChangeService.getLastSequence()).thenReturn(10L);
+    when(propertyChangeService.findVisibleAfter(10, 2))
+        .thenReturn(List.of(change(11, first.getAin()), change(12, second.getAin())));
+    when(propertyChangeService.findVisibleAfter(12, 2))
+        .thenReturn(List.of(change(13, first.getAin())));
+    when(propertyRepository.findAllByAinIn(Set.of(first.getAin(), second.getAin())))
+        .thenReturn(List.of(first, second));
+    when(propertyRepository.findAllByAinIn(Set.of(first.getAin()))).thenReturn(List.of(first));
+
+    propertyChangeFollower.start();
+    propertyChangeFollower.follow();
+    propertyChangeFollower.follow();
+
+    verify(addressSearchService, times(2)).index(first);
+    verify(addressSearchService).index(second);
+    verify(locationSearchService, times(2)).index(first);
+    verify(locationSearchService).index(second);
+    verify(propertyService, times(2)).evict(first);
+    verify(propertyService).evict(second);
+    verify(propertyChangeService).findVisibleAfter(13, 2);
+  }
+
+  private static PropertyChange change(long sequence, String ain) {
+    return PropertyChange.builder()
+        .sequence(sequence)
+        .ain(ain)
+        .op(PropertyOperation.UPDATE)
+        .version(1)
+        .changedAt(Instant.now())
+        .build();
+  }
+}
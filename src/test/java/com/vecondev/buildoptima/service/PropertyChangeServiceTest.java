@@ -0,0 +1,109 @@
+package com.vecondev.buildoptima.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vecondev.buildoptima.config.properties.PropertyChangeConfigProperties;
+import com.vecondev.buildoptima.dto.property.response.PropertyChangesResponseDto;
+import com.vecondev.buildoptima.mapper.property.PropertyChangeMapper;
+import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.model.property.PropertyChange;
+import com.vecondev.buildoptima.model.property.PropertyOperation;
+import com.vecondev.buildoptima.repository.property.PropertyChangeRepository;
+import com.vecondev.buildoptima.service.property.impl.PropertyChangeServiceImpl;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyChangeServiceTest {
+
+  @Mock private PropertyChangeRepository propertyChangeRepository;
+  @Mock private PropertyChangeMapper propertyChangeMapper;
+
+  private PropertyChangeServiceImpl propertyChangeService;
+
+  @BeforeEach
+  void setUp() {
+    PropertyChangeConfigProperties properties = new PropertyChangeConfigProperties();
+    properties.setMaxPageSize(3);
+    propertyChangeService =
+        new PropertyChangeServiceImpl(properties, propertyChangeRepository, propertyChangeMapper);
+  }
+
+  @Test
+  void successfulRecordingOfChange() {
+    Property property = Property.builder().ain("5482003013").version(4).build();
+
+    propertyChangeService.record(property, PropertyOperation.UPDATE);
+
+    ArgumentCaptor<PropertyChange> captor = ArgumentCaptor.forClass(PropertyChange.class);
+    verify(propertyChangeRepository).save(captor.capture());
+    assertEquals("5482003013", captor.getValue().getAin());
+    assertEquals(PropertyOperation.UPDATE, captor.getValue().getOp());
+    assertEquals(4, captor.getValue().getVersion());
+  }
+
+  @Test
+  void successfulFetchingOfChangesWithMoreLeft() {
+    when(propertyChangeRepository.findAllAfter(
+            eq(10L), any(Instant.class), eq(PageRequest.of(0, 3))))
+        .thenReturn(changes(11, 12, 13));
+
+    PropertyChangesResponseDto response = propertyChangeService.getChanges(10, 2);
+
+    assertEquals(12L, response.getNext());
+    assertTrue(response.isHasMore());
+  }
+
+  @Test
+  void successfulFetchingOfLastChanges() {
+    when(propertyChangeRepository.findAllAfter(eq(10L), any(Instant.class), any(Pageable.class)))
+        .thenReturn(changes(11, 12));
+
+    PropertyChangesResponseDto response = propertyChangeService.getChanges(10, 50);
+
+    assertEquals(12L, response.getNext());
+    assertFalse(response.isHasMore());
+    verify(propertyChangeRepository)
+        .findAllAfter(eq(10L), any(Instant.class), eq(PageRequest.of(0, 4)));
+  }
+
+  @Test
+  void successfulFetchingOfNoChanges() {
+    when(propertyChangeRepository.findAllAfter(eq(10L), any(Instant.class), any(Pageable.class)))
+        .thenReturn(List.of());
+
+    PropertyChangesResponseDto response = propertyChangeService.getChanges(10, null);
+
+    assertEquals(10L, response.getNext());
+    assertFalse(response.isHasMore());
+  }
+
+  private List<PropertyChange> changes(long... sequences) {
+    return LongStream.of(sequences)
+        .mapToObj(
+            sequence ->
+                PropertyChange.builder()
+                    .sequence(sequence)
+                    .ain(String.valueOf(sequence))
+                    .op(PropertyOperation.CREATE)
+                    .version(0)
+                    .changedAt(Instant.now())
+                    .build())
+        .toList();
+  }
+}
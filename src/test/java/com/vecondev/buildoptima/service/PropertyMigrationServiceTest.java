@@ -1,40 +1,68 @@
 package com.vecondev.buildoptima.service;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.amazonaws.services.s3.model.S3Object;
+import com.vecondev.buildoptima.config.properties.PropertyMigrationConfigProperties;
 import com.vecondev.buildoptima.config.properties.S3ConfigProperties;
+import com.vecondev.buildoptima.dto.property.PropertyReadDto;
 import com.vecondev.buildoptima.dto.property.response.PropertyMigrationProgressResponseDto;
 import com.vecondev.buildoptima.dto.property.response.PropertyMigrationResponseDto;
 import com.vecondev.buildoptima.dto.property.response.PropertyReprocessResponseDto;
+import com.vecondev.buildoptima.mapper.property.PropertyMapper;
+import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.model.property.PropertyOperation;
 import com.vecondev.buildoptima.model.property.migration.MigrationHistory;
 import com.vecondev.buildoptima.parameters.property.PropertyMigrationServiceTestParameters;
 import com.vecondev.buildoptima.repository.property.PropertyRepository;
+import com.vecondev.buildoptima.service.property.PropertyChangeService;
+import com.vecondev.buildoptima.service.property.PropertyService;
+import com.vecondev.buildoptima.service.property.PropertySummaryService;
 import com.vecondev.buildoptima.service.property.impl.PropertyMigrationServiceImpl;
 import com.vecondev.buildoptima.service.property.migration.MigrationHistoryService;
 import com.vecondev.buildoptima.service.property.migration.MigrationMetadataService;
+import com.vecondev.buildoptima.service.property.search.AddressSearchService;
+import com.vecondev.buildoptima.service.property.search.LocationSearchService;
+import com.vecondev.buildoptima.service.property.stats.PropertyStatsService;
 import com.vecondev.buildoptima.service.s3.AmazonS3Service;
 import com.vecondev.buildoptima.util.FileUtil;
 import com.vecondev.buildoptima.util.JsonUtil;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.WARN)
@@ -46,8 +74,20 @@ class PropertyMigrationServiceTest {
   @Mock private AmazonS3Service amazonS3Service;
   @Mock private MigrationHistoryService migrationHistoryService;
   @Mock private MigrationMetadataService migrationMetadataService;
+  @Mock private AddressSearchService addressSearchService;
+  @Mock private LocationSearchService locationSearchService;
+  @Mock private PropertyService propertyServiceMock;
+  @Mock private PropertyStatsService propertyStatsService;
+  @Mock private PropertySummaryService propertySummaryService;
+  @Mock private PropertyChangeService propertyChangeService;
   @Mock private S3ConfigProperties s3ConfigProperties;
   @Mock private PropertyRepository propertyRepository;
+  @Mock private PropertyMapper propertyMapper;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  @Spy
+  private PropertyMigrationConfigProperties migrationConfigProperties =
+      new PropertyMigrationConfigProperties();
 
   @Test
   void successfulPropertiesMigration() {
@@ -67,6 +107,106 @@ class PropertyMigrationServiceTest {
     }
   }
 
+  @Test
+  void successfulMigrationOfPropertyInFileOrder() throws IOException {
+    String ain = "5482003013";
+    S3Object first =
+        s3Object(
+            "1.json.gz", "{\"properties\": [{\"ain\": \"%s\"}, {\"ain\": \"4370012005\"}]}", ain);
+    S3Object second = s3Object("2.json.gz", "{\"properties\": [{\"ain\": \"%s\"}]}", ain);
+    MigrationHistory firstHistory = history(first.getKey());
+    MigrationHistory secondHistory = history(second.getKey());
+
+    when(amazonS3Service.getObjects(any())).thenReturn(List.of(first, second));
+    when(migrationHistoryService.saveSucceededHistory(first.getKey(), false))
+        .thenReturn(firstHistory);
+    when(migrationHistoryService.saveSucceededHistory(second.getKey(), false))
+        .thenReturn(secondHistory);
+    when(propertyRepository.findById(anyString())).thenReturn(Optional.empty());
+    when(propertyMapper.mapToEntity(any(PropertyReadDto.class)))
+        .thenAnswer(
+            invocation -> {
+              PropertyReadDto propertyDto = invocation.getArgument(0);
+              return Property.builder().ain(propertyDto.getAin()).build();
+            });
+    when(propertyRepository.saveAndFlush(any(Property.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    propertyService.migrateFromS3();
+
+    InOrder inOrder = inOrder(migrationMetadataService);
+    inOrder
+        .verify(migrationMetadataService)
+        .save(eq(firstHistory), argThat((Property property) -> ain.equals(property.getAin())));
+    inOrder
+        .verify(migrationMetadataService)
+        .save(eq(secondHistory), argThat((Property property) -> ain.equals(property.getAin())));
+    verify(migrationMetadataService, times(3))
+        .save(any(MigrationHistory.class), any(Property.class));
+    verify(migrationMetadataService).flush();
+    verify(propertyStatsService).invalidate();
+  }
+
+  @Test
+  void successfulMigrationOfPropertiesThroughFullLane() throws IOException {
+    migrationConfigProperties.setWriterLanes(1);
+    migrationConfigProperties.setWriterQueueCapacity(1);
+    S3Object file =
+        s3Object(
+            "1.json.gz",
+            "{\"properties\": [{\"ain\": \"1\"}, {\"ain\": \"2\"}, {\"ain\": \"3\"},"
+                + " {\"ain\": \"4\"}, {\"ain\": \"5\"}]}");
+    MigrationHistory history = history(file.getKey());
+    givenNewPropertyIn(file, history);
+
+    propertyService.migrateFromS3();
+
+    verify(propertyRepository, times(5)).saveAndFlush(any(Property.class));
+    verify(migrationMetadataService, times(5)).save(eq(history), any(Property.class));
+    verify(migrationMetadataService).flush();
+  }
+
+  @Test
+  void failedMigrationOfPropertyAsChangeIsNotRecorded() throws IOException {
+    S3Object file = s3Object("1.json.gz", "{\"properties\": [{\"ain\": \"5482003013\"}]}");
+    MigrationHistory history = history(file.getKey());
+    final TransactionStatus transaction = givenNewPropertyIn(file, history);
+    doThrow(new IllegalStateException("Change log is unavailable"))
+        .when(propertyChangeService)
+        .record(any(Property.class), eq(PropertyOperation.CREATE));
+
+    propertyService.migrateFromS3();
+
+    verify(propertyRepository).saveAndFlush(any(Property.class));
+    verify(propertySummaryService).save(any(Property.class));
+    verify(transactionManager).rollback(transaction);
+    verify(transactionManager, never()).commit(any());
+    verify(migrationMetadataService)
+        .save(eq(history), any(PropertyReadDto.class), eq("Change log is unavailable"));
+    verify(migrationMetadataService, never())
+        .save(any(MigrationHistory.class), any(Property.class));
+    verifyNoInteractions(addressSearchService, locationSearchService);
+  }
+
+  @Test
+  void failedMigrationOfPropertyAsSummaryIsNotSaved() throws IOException {
+    S3Object file = s3Object("1.json.gz", "{\"properties\": [{\"ain\": \"5482003013\"}]}");
+    MigrationHistory history = history(file.getKey());
+    final TransactionStatus transaction = givenNewPropertyIn(file, history);
+    doThrow(new IllegalStateException("Summary is too long"))
+        .when(propertySummaryService)
+        .save(any(Property.class));
+
+    propertyService.migrateFromS3();
+
+    verify(propertyRepository).saveAndFlush(any(Property.class));
+    verify(transactionManager).rollback(transaction);
+    verify(transactionManager, never()).commit(any());
+    verify(migrationMetadataService)
+        .save(eq(history), any(PropertyReadDto.class), eq("Summary is too long"));
+    verifyNoInteractions(addressSearchService, locationSearchService, propertyChangeService);
+  }
+
   @Test
   void successfulRetrievalOfMigrationResults() {
     List<MigrationHistory> migrationHistoriesBefore = testParameters.getMigrationHistoryList();
@@ -128,4 +268,37 @@ class PropertyMigrationServiceTest {
         failedMigrationHistoriesBefore.size(), response.getAllFailedFilesToProcess().size());
     verify(propertyRepository).findAll();
   }
+
+  private S3Object s3Object(String key, String json, Object... args) throws IOException {
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(content)) {
+      gzip.write(json.formatted(args).getBytes(UTF_8));
+    }
+    S3Object s3Object = new S3Object();
+    s3Object.setKey(key);
+    s3Object.setObjectContent(new ByteArrayInputStream(content.toByteArray()));
+    return s3Object;
+  }
+
+  /** Stubs the migration of the file as a single new property written in a transaction. */
+  private TransactionStatus givenNewPropertyIn(S3Object file, MigrationHistory history) {
+    TransactionStatus transaction = new SimpleTransactionStatus();
+    when(amazonS3Service.getObjects(any())).thenReturn(List.of(file));
+    when(migrationHistoryService.saveSucceededHistory(file.getKey(), false)).thenReturn(history);
+    when(transactionManager.getTransaction(any())).thenReturn(transaction);
+    when(propertyRepository.findById(anyString())).thenReturn(Optional.empty());
+    when(propertyMapper.mapToEntity(any(PropertyReadDto.class)))
+        .thenAnswer(
+            invocation -> {
+              PropertyReadDto propertyDto = invocation.getArgument(0);
+              return Property.builder().ain(propertyDto.getAin()).build();
+            });
+    when(propertyRepository.saveAndFlush(any(Property.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    return transaction;
+  }
+
+  private MigrationHistory history(String key) {
+    return MigrationHistory.builder().id(UUID.randomUUID()).filePath(key).build();
+  }
 }
@@ -0,0 +1,230 @@
+package com.vecondev.buildoptima.service;
+
+import static com.vecondev.buildoptima.exception.Error.INVALID_SORTING_FIELD;
+import static com.vecondev.buildoptima.exception.Error.PROPERTY_NOT_FOUND;
+import static com.vecondev.buildoptima.exception.Error.TOO_MANY_AINS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vecondev.buildoptima.config.properties.PropertyCacheConfigProperties;
+import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
+import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
+import com.vecondev.buildoptima.dto.property.response.PropertyResponseDto;
+import com.vecondev.buildoptima.exception.InvalidFieldException;
+import com.vecondev.buildoptima.exception.ResourceNotFoundException;
+import com.vecondev.buildoptima.filter.converter.PageableConverter;
+import com.vecondev.buildoptima.filter.model.SortDto;
+import com.vecondev.buildoptima.filter.specification.GenericSpecification;
+import com.vecondev.buildoptima.mapper.property.PropertyMapper;
+import com.vecondev.buildoptima.model.property.Locations;
+import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.repository.property.PropertyRepository;
+import com.vecondev.buildoptima.service.property.impl.PropertyServiceImpl;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyServiceTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  @Mock private PropertyRepository propertyRepository;
+  @Mock private PropertyMapper propertyMapper;
+  @Mock private PageableConverter pageableConverter;
+
+  private PropertyServiceImpl propertyService;
+
+  @BeforeEach
+  void setUp() {
+    propertyService =
+        new PropertyServiceImpl(
+            new PropertyCacheConfigProperties(),
+            propertyRepository,
+            propertyMapper,
+            objectMapper,
+            pageableConverter);
+  }
+
+  @Test
+  void successfulFetchingOfCachedProperty() throws Exception {
+    Property property = property("5482003013", 0);
+    when(propertyRepository.findById(property.getAin())).thenReturn(Optional.of(property));
+
+    byte[] response = propertyService.getByAin(property.getAin());
+    assertArrayEquals(response, propertyService.getByAin(property.getAin()));
+    assertEquals("5482003013", objectMapper.readTree(response).get("ain").asText());
+    verify(propertyRepository, times(1)).findById(property.getAin());
+  }
+
+  @Test
+  void failedFetchingAsPropertyNotFound() {
+    when(propertyRepository.findById("5482003013")).thenReturn(Optional.empty());
+
+    ResourceNotFoundException ex =
+        assertThrows(
+            ResourceNotFoundException.class, () -> propertyService.getByAin("5482003013"));
+    assertEquals(PROPERTY_NOT_FOUND, ex.getError());
+  }
+
+  @Test
+  void successfulFetchingOfPropertiesInRequestedOrder() throws Exception {
+    Property cached = property("5482003013", 0);
+    Property loaded = property("4370012005", 3);
+    when(propertyRepository.findById(cached.getAin())).thenReturn(Optional.of(cached));
+    when(propertyRepository.findAllById(List.of(loaded.getAin(), "0000000000")))
+        .thenReturn(List.of(loaded));
+
+    propertyService.getByAin(cached.getAin());
+    JsonNode response =
+        objectMapper.readTree(
+            propertyService.getAllByAins(
+                List.of(loaded.getAin(), "0000000000", cached.getAin(), loaded.getAin())));
+
+    assertEquals(2, response.size());
+    assertEquals(loaded.getAin(), response.get(0).get("ain").asText());
+    assertEquals(cached.getAin(), response.get(1).get("ain").asText());
+  }
+
+  @Test
+  void successfulReloadingOfEvictedProperty() {
+    Property property = property("5482003013", 0);
+    Property saved = property.toBuilder().version(1).build();
+    when(propertyRepository.findById(property.getAin()))
+        .thenReturn(Optional.of(property))
+        .thenReturn(Optional.of(saved));
+
+    propertyService.getByAin(property.getAin());
+    propertyService.evict(saved);
+    propertyService.getByAin(property.getAin());
+    propertyService.getByAin(property.getAin());
+
+    verify(propertyRepository, times(2)).findById(property.getAin());
+  }
+
+  @Test
+  void successfulFetchingOfPackedPolygonsInOrder() throws Exception {
+    Property saved = Property.builder().ain("5482003013").version(0).build();
+    saved.setLocations(
+        objectMapper.readValue(
+            """
+            {"centroid": {"lat": 34.0689, "lng": -118.4722},
+             "polygons": [{"coordinates": [{"lat": 34.0689217, "lng": -118.4723011},
+                                           {"lat": 34.0689952, "lng": -118.4721123},
+                                           {"lat": 34.0687005, "lng": -118.4720049}]}]}
+            """,
+            Locations.class));
+    Property loaded = saved.toBuilder().decodedPolygons(null).build();
+    when(propertyRepository.findById(loaded.getAin())).thenReturn(Optional.of(loaded));
+    when(propertyMapper.mapToResponseDto(loaded))
+        .thenAnswer(
+            invocation ->
+                PropertyResponseDto.builder()
+                    .ain(loaded.getAin())
+                    .locations(loaded.getLocations())
+                    .build());
+
+    JsonNode locations =
+        objectMapper.readTree(propertyService.getByAin(loaded.getAin())).get("locations");
+    JsonNode coordinates = locations.at("/polygons/0/coordinates");
+    assertEquals(34.0689, locations.at("/centroid/lat").asDouble());
+    assertEquals(3, coordinates.size());
+    assertEquals(34.0689952, coordinates.get(1).get("lat").asDouble());
+    assertEquals(-118.4720049, coordinates.get(2).get("lng").asDouble());
+  }
+
+  @Test
+  void successfulRoundingOfSetPolygonsAsStored() throws Exception {
+    Property property = Property.builder().ain("5482003013").build();
+    property.setLocations(
+        objectMapper.readValue(
+            """
+            {"polygons": [{"coordinates": [{"lat": 34.06892174, "lng": -118.47230119}]}]}
+            """,
+            Locations.class));
+
+    double[] coordinates = property.getLocations().getPolygons().get(0).getCoordinates();
+    assertEquals(34.0689217, coordinates[0]);
+    assertEquals(-118.4723012, coordinates[1]);
+  }
+
+  @Test
+  void failedFetchingAsTooManyAinsRequested() {
+    List<String> ains = IntStream.range(0, 101).mapToObj(String::valueOf).toList();
+
+    InvalidFieldException ex =
+        assertThrows(InvalidFieldException.class, () -> propertyService.getAllByAins(ains));
+    assertEquals(TOO_MANY_AINS, ex.getError());
+    verifyNoInteractions(propertyRepository);
+  }
+
+  @Test
+  void successfulFetchingByNestedAttributes() {
+    Property property = property("5482003013", 0);
+    FetchRequestDto fetchRequest =
+        new FetchRequestDto(
+            Map.of("operation", "in", "name", "zoneCodes", "values", List.of("R1-1")),
+            0,
+            10,
+            List.of(new SortDto("lotArea", SortDto.Direction.DESC)));
+    Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "lotArea"));
+    when(pageableConverter.convert(fetchRequest)).thenReturn(pageable);
+    when(propertyRepository.findAll(any(Specification.class), any(Pageable.class)))
+        .thenReturn(new PageImpl<>(List.of(property), pageable, 1));
+
+    FetchResponseDto response = propertyService.fetch(fetchRequest);
+    assertEquals(1, response.getTotalElements());
+    assertEquals(
+        "5482003013", ((PropertyResponseDto) response.getContent().get(0)).getAin());
+
+    // the rendered containment is asserted in PropertySpecificationTest
+    ArgumentCaptor<Specification<Property>> specification =
+        ArgumentCaptor.forClass(Specification.class);
+    verify(propertyRepository).findAll(specification.capture(), any(Pageable.class));
+    GenericSpecification<Property> captured =
+        assertInstanceOf(GenericSpecification.class, specification.getValue());
+    assertEquals(fetchRequest.getFilter(), captured.getFilter());
+    assertTrue(captured.getFieldDefinitionMap().containsKey("zoneCodes"));
+  }
+
+  @Test
+  void failedFetchingAsSortedByArray() {
+    FetchRequestDto fetchRequest =
+        new FetchRequestDto(
+            null, 0, 10, List.of(new SortDto("zoneCodes", SortDto.Direction.ASC)));
+
+    InvalidFieldException ex =
+        assertThrows(InvalidFieldException.class, () -> propertyService.fetch(fetchRequest));
+    assertEquals(INVALID_SORTING_FIELD, ex.getError());
+    verifyNoInteractions(propertyRepository);
+  }
+
+  private Property property(String ain, int version) {
+    Property property = Property.builder().ain(ain).version(version).build();
+    when(propertyMapper.mapToResponseDto(property))
+        .thenReturn(PropertyResponseDto.builder().ain(ain).version(version).build());
+    return property;
+  }
+}
@@ -0,0 +1,129 @@
+package com.vecondev.buildoptima.service;
+
+import static com.vecondev.buildoptima.filter.model.PropertyStatsDimension.MUNICIPALITY;
+import static com.vecondev.buildoptima.filter.model.PropertyStatsDimension.YEAR_BUILT_DECADE;
+import static com.vecondev.buildoptima.filter.model.PropertyStatsDimension.ZONE_CODE;
+import static com.vecondev.buildoptima.filter.model.PropertyStatsMetric.LOT_AREA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vecondev.buildoptima.config.properties.PropertyStatsConfigProperties;
+import com.vecondev.buildoptima.dto.property.PropertyAttributesDto;
+import com.vecondev.buildoptima.dto.property.PropertyStatsRequestDto;
+import com.vecondev.buildoptima.dto.property.response.PropertyStatsGroupDto;
+import com.vecondev.buildoptima.dto.property.response.PropertyStatsResponseDto;
+import com.vecondev.buildoptima.model.property.ZoningDetails;
+import com.vecondev.buildoptima.repository.property.PropertyRepository;
+import com.vecondev.buildoptima.service.property.stats.impl.PropertyStatsServiceImpl;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyStatsServiceTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Mock private PropertyRepository propertyRepository;
+
+  private PropertyStatsServiceImpl propertyStatsService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    PropertyStatsConfigProperties properties = new PropertyStatsConfigProperties();
+    properties.setChunkSize(2);
+    propertyStatsService = new PropertyStatsServiceImpl(properties, propertyRepository);
+
+    when(propertyRepository.findAttributesAfter(eq(""), any(Pageable.class)))
+        .thenReturn(
+            List.of(
+                attributes("1", "LOS ANGELES", 5000.0, 1952, "R1-1"),
+                attributes("2", "LOS ANGELES", 7000.0, 1958, "R1-1", "RE15"),
+                attributes("3", "LOS ANGELES", null, 1991, "C2"),
+                attributes("4", "PASADENA", 6000.0, null),
+                attributes("5", null, 9000.0, 1995, "RE15")));
+    propertyStatsService.load();
+  }
+
+  @Test
+  void successfulAggregationPerMunicipality() {
+    PropertyStatsResponseDto stats =
+        propertyStatsService.getStats(
+            PropertyStatsRequestDto.builder().groupBy(MUNICIPALITY).metric(LOT_AREA).build());
+
+    assertEquals(5, stats.getTotal());
+    PropertyStatsGroupDto losAngeles = stats.getGroups().get(0);
+    assertEquals("LOS ANGELES", losAngeles.getKey());
+    assertEquals(3, losAngeles.getCount());
+    assertEquals(2, losAngeles.getValueCount());
+    assertEquals(6000.0, losAngeles.getAverage());
+    assertEquals(5000.0, losAngeles.getMin());
+    assertEquals(7000.0, losAngeles.getMax());
+    assertEquals(3, stats.getGroups().size());
+  }
+
+  @Test
+  void successfulAggregationPerZoneCodeWithFilters() {
+    PropertyStatsResponseDto stats =
+        propertyStatsService.getStats(
+            PropertyStatsRequestDto.builder()
+                .groupBy(ZONE_CODE)
+                .metric(LOT_AREA)
+                .minYearBuilt(1950)
+                .maxLotArea(8000.0)
+                .build());
+
+    Map<String, Long> counts =
+        stats.getGroups().stream()
+            .collect(
+                Collectors.toMap(PropertyStatsGroupDto::getKey, PropertyStatsGroupDto::getCount));
+    assertEquals(2, stats.getTotal());
+    assertEquals(Map.of("R1-1", 2L, "RE15", 1L), counts);
+  }
+
+  @Test
+  void successfulAggregationPerDecadeOfZoneCode() {
+    PropertyStatsResponseDto stats =
+        propertyStatsService.getStats(
+            PropertyStatsRequestDto.builder().groupBy(YEAR_BUILT_DECADE).zoneCode("RE15").build());
+
+    assertEquals(2, stats.getTotal());
+    assertEquals(
+        List.of("1950", "1990"),
+        stats.getGroups().stream().map(PropertyStatsGroupDto::getKey).sorted().toList());
+    assertNull(stats.getGroups().get(0).getAverage());
+  }
+
+  @Test
+  void successfulAggregationOfUnknownMunicipality() {
+    PropertyStatsResponseDto stats =
+        propertyStatsService.getStats(
+            PropertyStatsRequestDto.builder().municipality("GLENDALE").build());
+
+    assertEquals(0, stats.getTotal());
+    assertTrue(stats.getGroups().isEmpty());
+  }
+
+  private PropertyAttributesDto attributes(
+      String ain, String municipality, Double lotArea, Integer yearBuilt, String... zoneCodes)
+      throws Exception {
+    ZoningDetails zoningDetails =
+        objectMapper.readValue(
+            objectMapper.writeValueAsString(
+                Map.of("generalInformation", Map.of("zoneCodes", List.of(zoneCodes)))),
+            ZoningDetails.class);
+    return new PropertyAttributesDto(
+        ain, municipality, lotArea, yearBuilt, null, null, null, zoningDetails);
+  }
+}
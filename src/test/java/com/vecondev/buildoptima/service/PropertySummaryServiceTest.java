@@ -0,0 +1,146 @@
+package com.vecondev.buildoptima.service;
+
+import static com.vecondev.buildoptima.exception.Error.INVALID_SORTING_FIELD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vecondev.buildoptima.dto.filter.FetchRequestDto;
+import com.vecondev.buildoptima.dto.filter.FetchResponseDto;
+import com.vecondev.buildoptima.dto.property.response.PropertySummaryResponseDto;
+import com.vecondev.buildoptima.exception.InvalidFieldException;
+import com.vecondev.buildoptima.filter.converter.PageableConverter;
+import com.vecondev.buildoptima.filter.model.SortDto;
+import com.vecondev.buildoptima.mapper.property.AddressMapper;
+import com.vecondev.buildoptima.mapper.property.PropertySummaryMapper;
+import com.vecondev.buildoptima.model.property.Address;
+import com.vecondev.buildoptima.model.property.AddressDocument;
+import com.vecondev.buildoptima.model.property.Details;
+import com.vecondev.buildoptima.model.property.Property;
+import com.vecondev.buildoptima.model.property.PropertySummary;
+import com.vecondev.buildoptima.model.property.ZoningDetails;
+import com.vecondev.buildoptima.repository.property.PropertySummaryRepository;
+import com.vecondev.buildoptima.service.property.impl.PropertySummaryServiceImpl;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+@ExtendWith(MockitoExtension.class)
+class PropertySummaryServiceTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @InjectMocks private PropertySummaryServiceImpl propertySummaryService;
+  @Mock private PropertySummaryRepository propertySummaryRepository;
+  @Mock private PropertySummaryMapper propertySummaryMapper;
+  @Mock private AddressMapper addressMapper;
+  @Mock private PageableConverter pageableConverter;
+
+  @Test
+  void successfulSavingOfNewSummary() throws Exception {
+    Address other = new Address();
+    Address primary = new Address();
+    primary.setPrimary(true);
+    Property property =
+        Property.builder()
+            .ain("5482003013")
+            .municipality("LOS ANGELES")
+            .version(2)
+            .details(
+                objectMapper.readValue(
+                    "{\"land\": {\"lotArea\": 7405.0}}", Details.class))
+            .zoningDetails(
+                objectMapper.readValue(
+                    objectMapper.writeValueAsString(
+                        Map.of(
+                            "generalInformation",
+                            Map.of("zoneCodes", List.of("RE15-1-H", "R1-1")))),
+                    ZoningDetails.class))
+            .build();
+    property.addAddresses(List.of(other, primary));
+    when(propertySummaryRepository.findById(property.getAin())).thenReturn(Optional.empty());
+    when(addressMapper.mapToDocument(primary))
+        .thenReturn(
+            AddressDocument.builder()
+                .addressToDisplay("2516 Banyan Dr Los Angeles CA 90049 ")
+                .build());
+
+    propertySummaryService.save(property);
+
+    ArgumentCaptor<PropertySummary> captor = ArgumentCaptor.forClass(PropertySummary.class);
+    verify(propertySummaryRepository).save(captor.capture());
+    PropertySummary summary = captor.getValue();
+    assertEquals("5482003013", summary.getAin());
+    assertEquals("LOS ANGELES", summary.getMunicipality());
+    assertEquals("2516 Banyan Dr Los Angeles CA 90049", summary.getAddress());
+    assertEquals(7405.0, summary.getLotArea());
+    assertEquals("R1-1, RE15-1-H", summary.getZoneCodes());
+    assertEquals(2, summary.getVersion());
+  }
+
+  @Test
+  void successfulSavingOfExistingSummary() {
+    PropertySummary existing =
+        PropertySummary.builder().ain("5482003013").address("Old address").version(0).build();
+    Property property = Property.builder().ain("5482003013").version(1).build();
+    when(propertySummaryRepository.findById(property.getAin()))
+        .thenReturn(Optional.of(existing));
+
+    propertySummaryService.save(property);
+
+    verify(propertySummaryRepository).save(existing);
+    assertNull(existing.getAddress());
+    assertNull(existing.getZoneCodes());
+    assertEquals(1, existing.getVersion());
+    verifyNoInteractions(addressMapper);
+  }
+
+  @Test
+  void successfulFetchingOfSummaries() {
+    PropertySummary summary = PropertySummary.builder().ain("5482003013").build();
+    PropertySummaryResponseDto responseDto =
+        PropertySummaryResponseDto.builder().ain("5482003013").build();
+    FetchRequestDto fetchRequest =
+        new FetchRequestDto(
+            Map.of("operation", "like", "name", "address", "value", "Banyan"), 0, 10, null);
+    Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "ain"));
+    when(pageableConverter.convert(fetchRequest)).thenReturn(pageable);
+    when(propertySummaryRepository.findAll(any(Specification.class), any(Pageable.class)))
+        .thenReturn(new PageImpl<>(List.of(summary), pageable, 1));
+    when(propertySummaryMapper.mapToResponseDto(summary)).thenReturn(responseDto);
+
+    FetchResponseDto response = propertySummaryService.fetch(fetchRequest);
+    assertEquals(1, response.getTotalElements());
+    assertSame(responseDto, response.getContent().get(0));
+  }
+
+  @Test
+  void failedFetchingAsSortedByUnknownField() {
+    FetchRequestDto fetchRequest =
+        new FetchRequestDto(
+            null, 0, 10, List.of(new SortDto("zoneCodes", SortDto.Direction.ASC)));
+
+    InvalidFieldException ex =
+        assertThrows(
+            InvalidFieldException.class, () -> propertySummaryService.fetch(fetchRequest));
+    assertEquals(INVALID_SORTING_FIELD, ex.getError());
+    verifyNoInteractions(propertySummaryRepository);
+  }
+}
@@ -0,0 +1,72 @@
+package com.vecondev.buildoptima.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.vecondev.buildoptima.config.properties.HousekeepingConfigProperties;
+import com.vecondev.buildoptima.repository.housekeeping.HousekeepingLeaseRepository;
+import com.vecondev.buildoptima.repository.user.ConfirmationTokenRepository;
+import com.vecondev.buildoptima.repository.user.RefreshTokenRepository;
+import com.vecondev.buildoptima.service.housekeeping.impl.TokenHousekeepingServiceImpl;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TokenHousekeepingServiceTest {
+
+  private static final int BATCH_SIZE = 2;
+
+  @Mock private HousekeepingLeaseRepository leaseRepository;
+  @Mock private RefreshTokenRepository refreshTokenRepository;
+  @Mock private ConfirmationTokenRepository confirmationTokenRepository;
+
+  private TokenHousekeepingServiceImpl housekeepingService;
+
+  @BeforeEach
+  void setUp() {
+    HousekeepingConfigProperties properties = new HousekeepingConfigProperties();
+    properties.setBatchSize(BATCH_SIZE);
+    properties.setPause(Duration.ZERO);
+    housekeepingService =
+        new TokenHousekeepingServiceImpl(
+            properties, leaseRepository, refreshTokenRepository, confirmationTokenRepository);
+  }
+
+  @Test
+  void successfulDeletionInChunks() {
+    when(leaseRepository.acquire(anyString(), anyString(), any(), any())).thenReturn(1);
+    when(refreshTokenRepository.deleteExpiredChunk(any(LocalDateTime.class), eq(BATCH_SIZE)))
+        .thenReturn(BATCH_SIZE, BATCH_SIZE, 1);
+    when(confirmationTokenRepository.deleteExpiredChunk(any(LocalDateTime.class), eq(BATCH_SIZE)))
+        .thenReturn(0);
+
+    Map<String, Long> deleted = housekeepingService.deleteExpiredTokens();
+
+    assertEquals(Map.of("refresh_token", 5L, "confirmation_token", 0L), deleted);
+    verify(refreshTokenRepository, times(3)).deleteExpiredChunk(any(), anyInt());
+    verify(confirmationTokenRepository).deleteExpiredChunk(any(), anyInt());
+    verify(leaseRepository).release(anyString(), anyString(), any());
+  }
+
+  @Test
+  void skippedDeletionAsLeaseIsHeld() {
+    when(leaseRepository.acquire(anyString(), anyString(), any(), any())).thenReturn(0);
+
+    assertTrue(housekeepingService.deleteExpiredTokens().isEmpty());
+    verifyNoInteractions(refreshTokenRepository, confirmationTokenRepository);
+  }
+}
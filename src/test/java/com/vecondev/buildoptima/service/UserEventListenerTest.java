@@ -0,0 +1,129 @@
+package com.vecondev.buildoptima.service;
+
+import static com.vecondev.buildoptima.config.CacheConfig.CURRENT_USERS;
+import static com.vecondev.buildoptima.config.CacheConfig.FAQ_CATEGORIES;
+import static com.vecondev.buildoptima.config.CacheConfig.FAQ_QUESTIONS;
+import static com.vecondev.buildoptima.config.CacheConfig.FAQ_QUESTION_LOOKUP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.vecondev.buildoptima.dto.user.ConfirmationMessage;
+import com.vecondev.buildoptima.exception.UserNotFoundException;
+import com.vecondev.buildoptima.model.user.ConfirmationToken;
+import com.vecondev.buildoptima.model.user.User;
+import com.vecondev.buildoptima.repository.user.UserRepository;
+import com.vecondev.buildoptima.service.auth.ConfirmationTokenService;
+import com.vecondev.buildoptima.service.sqs.MailOutboxService;
+import com.vecondev.buildoptima.service.user.event.ConfirmationRequestedEvent;
+import com.vecondev.buildoptima.service.user.event.UserChangedEvent;
+import com.vecondev.buildoptima.service.user.event.UserEventListener;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.transaction.IllegalTransactionStateException;
+
+@ExtendWith(MockitoExtension.class)
+class UserEventListenerTest {
+
+  @Mock private UserRepository userRepository;
+  @Mock private ConfirmationTokenService confirmationTokenService;
+  @Mock private MailOutboxService mailOutboxService;
+
+  private final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+  private UserEventListener userEventListener;
+
+  @BeforeEach
+  void setUp() {
+    userEventListener =
+        new UserEventListener(
+            userRepository, confirmationTokenService, mailOutboxService, cacheManager);
+  }
+
+  @Test
+  void confirmationRequestQueuesEmailWithNewToken() {
+    User user =
+        User.builder().id(UUID.randomUUID()).email("john@mail.com").firstName("John").build();
+    when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+    when(confirmationTokenService.create(user))
+        .thenReturn(ConfirmationToken.builder().token("token").user(user).build());
+
+    userEventListener.onConfirmationRequested(
+        ConfirmationRequestedEvent.emailConfirmation(user.getId()));
+
+    ArgumentCaptor<ConfirmationMessage> message =
+        ArgumentCaptor.forClass(ConfirmationMessage.class);
+    verify(mailOutboxService).enqueue(message.capture());
+    assertEquals("token", message.getValue().getToken());
+    assertEquals("john@mail.com", message.getValue().getUserEmail());
+    assertEquals("John", message.getValue().getUserFirstName());
+  }
+
+  @Test
+  void failedEnqueueFailsTheRequestingTransaction() {
+    User user = User.builder().id(UUID.randomUUID()).email("john@mail.com").build();
+    when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+    when(confirmationTokenService.create(user))
+        .thenReturn(ConfirmationToken.builder().token("token").user(user).build());
+    doThrow(new IllegalTransactionStateException("No existing transaction"))
+        .when(mailOutboxService)
+        .enqueue(any(ConfirmationMessage.class));
+
+    ConfirmationRequestedEvent event = ConfirmationRequestedEvent.passwordRestoring(user.getId());
+
+    assertThrows(
+        IllegalTransactionStateException.class,
+        () -> userEventListener.onConfirmationRequested(event));
+  }
+
+  @Test
+  void confirmationRequestOfMissingUserFails() {
+    UUID userId = UUID.randomUUID();
+    when(userRepository.findById(userId)).thenReturn(Optional.empty());
+    ConfirmationRequestedEvent event = ConfirmationRequestedEvent.emailConfirmation(userId);
+
+    assertThrows(
+        UserNotFoundException.class, () -> userEventListener.onConfirmationRequested(event));
+    verifyNoInteractions(confirmationTokenService, mailOutboxService);
+  }
+
+  @Test
+  void userChangeEvictsOnlyThatCurrentUser() {
+    UUID userId = UUID.randomUUID();
+    UUID otherUserId = UUID.randomUUID();
+    cacheManager.getCache(CURRENT_USERS).put(userId, "user");
+    cacheManager.getCache(CURRENT_USERS).put(otherUserId, "other user");
+
+    userEventListener.onUserChanged(new UserChangedEvent(userId));
+
+    assertNull(cacheManager.getCache(CURRENT_USERS).get(userId));
+    assertNotNull(cacheManager.getCache(CURRENT_USERS).get(otherUserId));
+  }
+
+  @Test
+  void userChangeClearsFaqCachesEmbeddingUserNames() {
+    for (String cacheName : List.of(FAQ_CATEGORIES, FAQ_QUESTIONS, FAQ_QUESTION_LOOKUP)) {
+      cacheManager.getCache(cacheName).put(SimpleKey.EMPTY, List.of());
+    }
+
+    userEventListener.onUserChanged(new UserChangedEvent(UUID.randomUUID()));
+
+    for (String cacheName : List.of(FAQ_CATEGORIES, FAQ_QUESTIONS, FAQ_QUESTION_LOOKUP)) {
+      assertNull(cacheManager.getCache(cacheName).get(SimpleKey.EMPTY));
+    }
+  }
+}
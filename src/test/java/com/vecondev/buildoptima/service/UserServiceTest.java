@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.IMAGE_JPEG_VALUE;
 
@@ -18,16 +19,16 @@ import com.vecondev.buildoptima.exception.AuthenticationException;
 import com.vecondev.buildoptima.exception.UserNotFoundException;
 import com.vecondev.buildoptima.filter.converter.PageableConverter;
 import com.vecondev.buildoptima.mapper.user.UserMapper;
-import com.vecondev.buildoptima.model.user.ConfirmationToken;
 import com.vecondev.buildoptima.model.user.User;
 import com.vecondev.buildoptima.parameters.user.UserServiceTestParameters;
 import com.vecondev.buildoptima.repository.user.UserRepository;
+import com.vecondev.buildoptima.security.user.CurrentUser;
 import com.vecondev.buildoptima.service.auth.AuthService;
-import com.vecondev.buildoptima.service.auth.ConfirmationTokenService;
 import com.vecondev.buildoptima.service.auth.SecurityContextService;
 import com.vecondev.buildoptima.service.s3.AmazonS3Service;
-import com.vecondev.buildoptima.service.sqs.SqsService;
 import com.vecondev.buildoptima.service.user.UserServiceImpl;
+import com.vecondev.buildoptima.service.user.event.ConfirmationRequestedEvent;
+import com.vecondev.buildoptima.service.user.event.UserChangedEvent;
 import com.vecondev.buildoptima.util.RestPreconditions;
 import com.vecondev.buildoptima.validation.validator.FieldNameValidator;
 import java.util.Objects;
@@ -41,6 +42,7 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -57,12 +59,12 @@ class UserServiceTest {
   @Mock private AmazonS3Service imageService;
   @Mock private UserMapper userMapper;
   @Mock private AuthService authService;
-  @Mock private SqsService sqsService;
-  @Mock private ConfirmationTokenService confirmationTokenService;
+  @Mock private ApplicationEventPublisher eventPublisher;
   @Mock private UserRepository userRepository;
   @Mock private PasswordEncoder encoder;
   @Mock private PageableConverter pageableConverter;
   @Mock private SecurityContextService securityContextService;
+  @Mock private CurrentUser currentUser;
 
   @Test
   void successfulFetchingOfUsers() {
@@ -116,8 +118,7 @@ class UserServiceTest {
     User user = testParameters.getSavedUser();
     user.setPassword(testParameters.getPasswordEncoded(oldPassword));
 
-    when(securityContextService.getUserDetails()).thenReturn(testParameters.userDetails());
-    when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+    when(currentUser.getUser()).thenReturn(user);
     when(encoder.matches(any(), any())).thenReturn(true);
     when(encoder.encode(any())).thenReturn(testParameters.getPasswordEncoded(newPassword));
 
@@ -136,8 +137,7 @@ class UserServiceTest {
     final ChangePasswordRequestDto requestDto =
         testParameters.getChangePasswordRequestDto(oldPassword, "newPassword");
 
-    when(securityContextService.getUserDetails()).thenReturn(testParameters.userDetails());
-    when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+    when(currentUser.getUser()).thenReturn(user);
     when(encoder.matches(any(), any())).thenReturn(false);
 
     assertThrows(AuthenticationException.class, () -> userService.changePassword(requestDto));
@@ -151,13 +151,24 @@ class UserServiceTest {
     final ChangePasswordRequestDto requestDto =
         testParameters.getChangePasswordRequestDto(password, password);
 
-    when(securityContextService.getUserDetails()).thenReturn(testParameters.userDetails());
-    when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+    when(currentUser.getUser()).thenReturn(user);
     when(encoder.matches(any(), any())).thenReturn(true);
 
     assertThrows(AuthenticationException.class, () -> userService.changePassword(requestDto));
   }
 
+  @Test
+  void successfulFetchingOfCurrentUser() {
+    User user = testParameters.getSavedUser();
+
+    when(currentUser.getUser()).thenReturn(user);
+    when(userMapper.mapToResponseDto(user)).thenReturn(testParameters.getUserResponseDto(user));
+
+    UserResponseDto responseDto = userService.getCurrentUser();
+    assertEquals(user.getId(), responseDto.getId());
+    verifyNoInteractions(userRepository);
+  }
+
   @Test
   void successfulUserFetching() {
     User user = testParameters.getSavedUser();
@@ -240,15 +251,15 @@ class UserServiceTest {
     EditUserDto editUserDto = testParameters.editUserDto();
     UserResponseDto responseDto =
         testParameters.getUserResponseDto(testParameters.editedUser(editUserDto));
-    ConfirmationToken confirmationToken = testParameters.confirmationToken(userToEdit);
 
     when(userRepository.findById(userId)).thenReturn(Optional.of(userToEdit));
     when(userMapper.mapToResponseDto(any(User.class))).thenReturn(responseDto);
-    when(confirmationTokenService.create(any(User.class))).thenReturn(confirmationToken);
 
     UserResponseDto editedUserDto = userService.edit(userId, editUserDto);
     assertNotNull(editedUserDto);
     assertEquals(editedUserDto.getFirstName(), editUserDto.getFirstName());
+    verify(eventPublisher).publishEvent(ConfirmationRequestedEvent.emailConfirmation(userId));
+    verify(eventPublisher).publishEvent(new UserChangedEvent(userId));
   }
 
   @Test